@@ -85,6 +85,8 @@ public abstract class ConfigurableEmbedder extends InjectableEmbedder {
             stepsFactory = stepsFactory();
         }
         embedder.useStepsFactory(stepsFactory);
+        // the worker JVMs of forked stories are configured by this class
+        embedder.useForkedEmbedderClass(getClass().getName());
         return embedder;
     }
 
@@ -239,6 +239,11 @@ public abstract class Configuration {
      */
     private boolean parallelStoryExamplesEnabled;
 
+    /**
+     * Enables collapsing of the pattern variants of a step into a single candidate
+     */
+    private boolean patternVariantsCollapsed;
+
     /**
      * The step condition matcher to match conditional steps
      */
@@ -632,6 +637,14 @@ public abstract class Configuration {
         this.parallelStoryExamplesEnabled = parallelStoryExamplesEnabled;
     }
 
+    public boolean isPatternVariantsCollapsed() {
+        return patternVariantsCollapsed;
+    }
+
+    public void setPatternVariantsCollapsed(boolean patternVariantsCollapsed) {
+        this.patternVariantsCollapsed = patternVariantsCollapsed;
+    }
+
     public Configuration useStepsContext(StepsContext stepsContext) {
         this.stepsContext = stepsContext;
         return this;
@@ -2,6 +2,7 @@ package org.jbehave.core.configuration;
 
 import static java.util.Arrays.asList;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -166,6 +167,7 @@ public class Keywords {
     private final String yes;
     private final String no;
     private final Map<StepType, String> startingWordsByType = new HashMap<>();
+    private transient volatile StartingWordsTrie startingWordsTrie;
 
 
     public static Map<String, String> defaultKeywords() {
@@ -496,23 +498,23 @@ public class Keywords {
         return startingWordsByType;
     }
 
-    private boolean ofStepType(String stepAsString, StepType stepType) {
-        boolean isType = false;
-        for (String word : startingWordsFor(stepType)) {
-            isType = stepStartsWithWord(stepAsString, word);
-            if (isType) {
-                break;
-            }
-        }
-        return isType;
+    /**
+     * Checks if the step starts with any of the starting words of the step type.
+     *
+     * @param stepAsString the textual step
+     * @param stepType the StepType
+     * @return A boolean, <code>false</code> if the step type has no starting words
+     */
+    public boolean isStepOfType(String stepAsString, StepType stepType) {
+        return startingWordsTrie().find(stepAsString, stepType) != null;
     }
 
     public boolean isAndStep(String stepAsString) {
-        return ofStepType(stepAsString, StepType.AND);
+        return isStepOfType(stepAsString, StepType.AND);
     }
 
     public boolean isIgnorableStep(String stepAsString) {
-        return ofStepType(stepAsString, StepType.IGNORABLE);
+        return isStepOfType(stepAsString, StepType.IGNORABLE);
     }
 
     public String stepWithoutStartingWord(String stepAsString, StepType stepType) {
@@ -526,41 +528,62 @@ public class Keywords {
     }
 
     public String startingWord(String stepAsString, StepType stepType) throws StartingWordNotFound {
-        for (String wordForType : startingWordsFor(stepType)) {
-            if (stepStartsWithWord(stepAsString, wordForType)) {
-                return wordForType;
-            }
+        StartingWord startingWord = startingWordsTrie().find(stepAsString, stepType);
+        if (startingWord == null) {
+            startingWord = startingWordsTrie().find(stepAsString, StepType.AND);
         }
-        for (String andWord : startingWordsFor(StepType.AND)) {
-            if (stepStartsWithWord(stepAsString, andWord)) {
-                return andWord;
-            }
+        if (startingWord == null) {
+            throw new StartingWordNotFound(stepAsString, stepType, startingWordsByType);
         }
-        throw new StartingWordNotFound(stepAsString, stepType, startingWordsByType);
+        return startingWord.word;
     }
 
     public String startingWord(String stepAsString) throws StartingWordNotFound {
-        for (StepType stepType : startingWordsByType.keySet()) {
-            for (String wordForType : startingWordsFor(stepType)) {
-                if (stepStartsWithWord(stepAsString, wordForType)) {
-                    return wordForType;
-                }
-            }
-        }
-        throw new StartingWordNotFound(stepAsString, startingWordsByType);
+        return startingWordOf(stepAsString).word;
     }
 
     public StepType stepTypeFor(String stepAsString) throws StartingWordNotFound {
-        for (StepType stepType : startingWordsByType.keySet()) {
-            for (String wordForType : startingWordsFor(stepType)) {
-                if (stepStartsWithWord(stepAsString, wordForType)) {
-                    return stepType;
-                }
-            }
+        return startingWordOf(stepAsString).stepType;
+    }
+
+    private StartingWordsTrie startingWordsTrie() {
+        StartingWordsTrie trie = startingWordsTrie;
+        if (trie == null) {
+            trie = new StartingWordsTrie();
+            startingWordsTrie = trie;
+        }
+        return trie;
+    }
+
+    private boolean overridesStepStartsWithWord() {
+        try {
+            return getClass().getMethod("stepStartsWithWord", String.class, String.class)
+                    .getDeclaringClass() != Keywords.class
+                    || getClass().getMethod("stepStartsWithWords", String.class, String[].class)
+                    .getDeclaringClass() != Keywords.class;
+        } catch (NoSuchMethodException e) {
+            return true;
         }
-        throw new StartingWordNotFound(stepAsString, startingWordsByType);
     }
 
+    private StartingWord startingWordOf(String stepAsString) {
+        StartingWord startingWord = startingWordsTrie().find(stepAsString, null);
+        if (startingWord == null) {
+            throw new StartingWordNotFound(stepAsString, startingWordsByType);
+        }
+        return startingWord;
+    }
+
+    /**
+     * Checks if the step starts with the word, followed by a space. If overridden, as this method or
+     * {@link #stepStartsWithWords(String, String...)}, the starting words of the steps are resolved by testing the
+     * words in turn with it, rather than by walking the trie of the words, which only finds the words followed by a
+     * space.
+     *
+     * @param step the textual step
+     * @param word the starting word
+     * @return A boolean
+     */
     public boolean stepStartsWithWord(String step, String word) {
         return stepStartsWithWords(step, word);
     }
@@ -588,6 +611,94 @@ public class Keywords {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
     }
 
+    /**
+     * The starting words of all step types, including their synonyms, stored in a trie so that the starting word of a
+     * step is resolved by a single scan of its first characters, rather than by testing every word of every step type.
+     * Each word is stored with the space which qualifies it as a word, and with its rank in the order in which the
+     * words of the step types are looked up, so that the resolved starting word is the same as the one found by
+     * testing the words in turn. The trie is built on first use, from the {@link #startingWordsFor(StepType)}, and
+     * leaves out the step types without starting words. If {@link #stepStartsWithWord(String, String)} is overridden,
+     * the words are tested in turn with it instead.
+     */
+    private final class StartingWordsTrie {
+
+        private final Node root = new Node();
+        private final List<StartingWord> startingWords = new ArrayList<>();
+        private final boolean wordsTested = overridesStepStartsWithWord();
+
+        private StartingWordsTrie() {
+            int rank = 0;
+            for (StepType stepType : startingWordsByType.keySet()) {
+                String[] words;
+                try {
+                    words = startingWordsFor(stepType);
+                } catch (StartingWordNotFound e) {
+                    continue;
+                }
+                for (String word : words) {
+                    Node node = root;
+                    for (char c : (word + ' ').toCharArray()) {
+                        node = node.children.computeIfAbsent(c, k -> new Node());
+                    }
+                    StartingWord startingWord = new StartingWord(stepType, word, rank++);
+                    node.startingWords.add(startingWord);
+                    startingWords.add(startingWord);
+                }
+            }
+        }
+
+        /**
+         * Finds the first starting word the step starts with.
+         *
+         * @param stepAsString the textual step
+         * @param stepType the step type of the starting word, or <code>null</code> for any step type
+         * @return The StartingWord or <code>null</code> if the step starts with no such word
+         */
+        private StartingWord find(String stepAsString, StepType stepType) {
+            if (wordsTested) {
+                for (StartingWord startingWord : startingWords) {
+                    if ((stepType == null || startingWord.stepType == stepType)
+                            && stepStartsWithWord(stepAsString, startingWord.word)) {
+                        return startingWord;
+                    }
+                }
+                return null;
+            }
+            StartingWord first = null;
+            Node node = root;
+            for (int i = 0; i < stepAsString.length(); i++) {
+                node = node.children.get(stepAsString.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                for (StartingWord startingWord : node.startingWords) {
+                    if ((stepType == null || startingWord.stepType == stepType)
+                            && (first == null || startingWord.rank < first.rank)) {
+                        first = startingWord;
+                    }
+                }
+            }
+            return first;
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<StartingWord> startingWords = new ArrayList<>(1);
+    }
+
+    private static final class StartingWord {
+        private final StepType stepType;
+        private final String word;
+        private final int rank;
+
+        private StartingWord(StepType stepType, String word, int rank) {
+            this.stepType = stepType;
+            this.word = word;
+            this.rank = rank;
+        }
+    }
+
     @SuppressWarnings("serial")
     public static class KeywordNotFound extends RuntimeException {
 
@@ -4,12 +4,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collector;
-import java.util.stream.Collector.Characteristics;
 import java.util.stream.Collectors;
 
 import org.jbehave.core.annotations.Conditional;
@@ -18,6 +20,7 @@ import org.jbehave.core.condition.StepConditionMatcher;
 import org.jbehave.core.steps.BeforeOrAfterStep;
 import org.jbehave.core.steps.CandidateSteps;
 import org.jbehave.core.steps.ConditionalStepCandidate;
+import org.jbehave.core.steps.IndexedStepCandidates;
 import org.jbehave.core.steps.StepCandidate;
 
 public class AllStepCandidates {
@@ -58,7 +61,7 @@ public class AllStepCandidates {
                     (scenarioType, steps) -> afterScenarioSteps.get(scenarioType).addAll(steps));
         }
 
-        this.regularSteps = candidateSteps.stream()
+        this.regularSteps = new IndexedStepCandidates(candidateSteps.stream()
                 .map(CandidateSteps::listCandidates)
                 .flatMap(List::stream)
                 .collect(stepCandidateCollector())
@@ -75,7 +78,8 @@ public class AllStepCandidates {
                     }
                     throw new DuplicateCandidateFound(e.getKey());
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+        regularSteps.forEach(candidate -> candidate.planComposedSteps(regularSteps));
 
         sortBeforeSteps(beforeStoriesSteps);
         sortAfterSteps(afterStoriesSteps);
@@ -130,25 +134,61 @@ public class AllStepCandidates {
         return regularSteps;
     }
 
-    private static Collector<StepCandidate, Map<String, List<StepCandidate>>, Map<String, List<StepCandidate>>>
+    private static Collector<StepCandidate, CandidateGroups, Map<String, List<StepCandidate>>>
         stepCandidateCollector() {
-        return Collector.of(LinkedHashMap::new, (map, candidate) -> {
+        return Collector.of(CandidateGroups::new, CandidateGroups::add, (l, r) -> l, CandidateGroups::groups);
+    }
 
+    /**
+     * Groups the candidates whose wordings match each other. Candidates are first hashed by step type and pattern,
+     * normalised to ignore whitespace differences and the text following the parameter prefixes, so that the
+     * wordings only need to be matched against the few candidates sharing the same hash. The hash does not miss any
+     * duplicate: a candidate never matches the wording of another step type, the whitespaces of a pattern match any
+     * whitespaces and its punctuation is escaped, so that the wordings of candidates matching each other can only
+     * differ by the names of their parameters, which are dropped with any text glued to them.
+     */
+    private static class CandidateGroups {
+        private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+        private final Map<String, List<StepCandidate>> groups = new LinkedHashMap<>();
+        private final Map<String, List<String>> wordingsByPattern = new HashMap<>();
+        private final Map<String, Pattern> parameterPatterns = new HashMap<>();
+
+        private void add(StepCandidate candidate) {
             String candidateWording = candidate.getStartingWord() + " " + candidate.getPatternAsString();
+            List<String> wordings = wordingsByPattern.computeIfAbsent(normalisedPattern(candidate),
+                    p -> new ArrayList<>(1));
 
-            Optional<String> candidateKey = map.keySet().stream()
-                    .filter(k -> candidate.matches(k) && map.get(k).stream().allMatch(c -> c.matches(candidateWording)))
+            Optional<String> candidateKey = wordings.stream()
+                    .filter(k -> candidate.matches(k) && groups.get(k).stream().allMatch(
+                            c -> c.matches(candidateWording)))
                     .findFirst();
 
             List<StepCandidate> candidates;
             if (candidateKey.isPresent()) {
-                candidates = map.get(candidateKey.get());
+                candidates = groups.get(candidateKey.get());
             } else {
                 candidates = new ArrayList<>();
-                map.put(candidateWording, candidates);
+                groups.put(candidateWording, candidates);
+                wordings.add(candidateWording);
             }
             candidates.add(candidate);
-        }, (l, r) -> l, Characteristics.IDENTITY_FINISH);
+        }
+
+        private Map<String, List<StepCandidate>> groups() {
+            return groups;
+        }
+
+        private String normalisedPattern(StepCandidate candidate) {
+            String pattern = WHITESPACES.matcher(String.valueOf(candidate.getPatternAsString())).replaceAll(" ");
+            String parameterPrefix = candidate.getParameterPrefix();
+            if (parameterPrefix != null && !parameterPrefix.isEmpty()) {
+                pattern = parameterPatterns.computeIfAbsent(parameterPrefix,
+                        prefix -> Pattern.compile(Pattern.quote(prefix) + "\\S*"))
+                        .matcher(pattern).replaceAll(Matcher.quoteReplacement(parameterPrefix));
+            }
+            return candidate.getStepType() + " " + pattern;
+        }
     }
 
     private boolean areAllCandidatesConditional(Collection<StepCandidate> candidates) {
@@ -117,6 +117,11 @@ public class DelegatingEmbedderMonitor implements EmbedderMonitor {
         delegates.forEach(d -> d.reportsViewGenerated(count));
     }
 
+    @Override
+    public void mergingReports(List<File> outputDirectories, File mergedDirectory) {
+        delegates.forEach(d -> d.mergingReports(outputDirectories, mergedDirectory));
+    }
+
     @Override
     public void reportsViewFailures(ReportsCount count) {
         delegates.forEach(d -> d.reportsViewFailures(count));
@@ -187,4 +192,19 @@ public class DelegatingEmbedderMonitor implements EmbedderMonitor {
     public void usingTimeout(String path, long timeout) {
         delegates.forEach(d -> d.usingTimeout(path, timeout));
     }
+
+    @Override
+    public void storiesMakespan(long makespanInMillis, long idealMakespanInMillis) {
+        delegates.forEach(d -> d.storiesMakespan(makespanInMillis, idealMakespanInMillis));
+    }
+
+    @Override
+    public void storiesUnchanged(List<String> storyPaths) {
+        delegates.forEach(d -> d.storiesUnchanged(storyPaths));
+    }
+
+    @Override
+    public void storiesSharded(int shardIndex, int shardCount, List<String> storyPaths) {
+        delegates.forEach(d -> d.storiesSharded(shardIndex, shardCount, storyPaths));
+    }
 }
@@ -14,11 +14,13 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jbehave.core.ConfigurableEmbedder;
 import org.jbehave.core.Embeddable;
+import org.jbehave.core.InjectableEmbedder;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.embedder.MetaFilter.MetaMatcher;
 import org.jbehave.core.embedder.StoryTimeouts.TimeoutParser;
 import org.jbehave.core.embedder.executors.FixedThreadExecutors;
+import org.jbehave.core.embedder.forks.StoryForks;
 import org.jbehave.core.failures.BatchFailures;
 import org.jbehave.core.failures.FailingUponPendingStep;
 import org.jbehave.core.junit.AnnotatedEmbedderRunner;
@@ -26,8 +28,10 @@ import org.jbehave.core.junit.AnnotatedEmbedderUtils;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryMaps;
 import org.jbehave.core.reporters.ReportsCount;
+import org.jbehave.core.reporters.ReportsMerger;
 import org.jbehave.core.reporters.StepdocReporter;
 import org.jbehave.core.reporters.StoryReporterBuilder;
+import org.jbehave.core.reporters.SurefireReporter;
 import org.jbehave.core.reporters.ViewGenerator;
 import org.jbehave.core.steps.CandidateSteps;
 import org.jbehave.core.steps.InjectableStepsFactory;
@@ -56,7 +60,9 @@ public class Embedder {
     protected boolean executorServiceCreated;
     protected PerformableTree performableTree;
     protected StoryManager storyManager;
+    protected List<Story> storiesNotRun = new ArrayList<>();
     protected TimeoutParser[] timeoutParsers;
+    protected String forkedEmbedderClass;
 
     public Embedder() {
         this(new PrintStreamEmbedderMonitor());
@@ -208,8 +214,15 @@ public class Embedder {
             MetaFilter filter = metaFilter();
             BatchFailures failures = new BatchFailures(embedderControls.verboseFailures());
 
-            // run stories
-            storyManager.runStoriesAsPaths(storyPaths, filter, failures);
+            // run stories, in worker JVMs if forked
+            if (embedderControls.forks() > 0) {
+                storiesNotRun = new ArrayList<>();
+                new StoryForks(this).runStoriesAsPaths(storyPaths, failures);
+            } else {
+                storyManager.runStoriesAsPaths(storyPaths, filter, failures);
+                // kept for the surefire report, generated once the story manager is reset
+                storiesNotRun = new ArrayList<>(storyManager.storiesNotRun());
+            }
 
             // handle any failures
             handleFailures(failures);
@@ -284,11 +297,29 @@ public class Embedder {
 
     public void generateSurefireReport() {
         StoryReporterBuilder builder = configuration().storyReporterBuilder();
-        if (builder.hasSurefireReporter()) {
-            builder.surefireReporter().generate(storyManager().performableRoot(), builder.outputDirectory());
+        // the surefire reports of the forks are merged once run
+        if (builder.hasSurefireReporter() && embedderControls().forks() == 0) {
+            builder.surefireReporter().generate(storyManager().performableRoot(), storiesNotRun,
+                    builder.outputDirectory());
         }
     }
 
+    /**
+     * Merges the reports of stories run separately, e.g. by several JVMs or in several shards, into the configured
+     * output directory and generates the reports view of all the stories.
+     *
+     * @param outputDirectories the output directories of the stories run separately
+     */
+    public void mergeReports(List<File> outputDirectories) {
+        StoryReporterBuilder builder = configuration().storyReporterBuilder();
+        File mergedDirectory = builder.outputDirectory();
+        String surefireReportName = builder.hasSurefireReporter() ? builder.surefireReporter().getReportName()
+                : SurefireReporter.Options.DEFAULT_REPORT_NAME;
+        embedderMonitor.mergingReports(outputDirectories, mergedDirectory);
+        new ReportsMerger(surefireReportName).merge(outputDirectories, mergedDirectory);
+        generateReportsView();
+    }
+
     public void reportStepdocs() {
         reportStepdocs(configuration(), stepsFactory().createCandidateSteps());
     }
@@ -472,6 +503,19 @@ public class Embedder {
         return timeoutParsers;
     }
 
+    /**
+     * The class providing the embedder of the worker JVMs when the stories are forked, i.e. an {@link Embedder} or
+     * an {@link InjectableEmbedder} instantiated by its default constructor.
+     *
+     * @return The class name, by default the class of this embedder
+     */
+    public String forkedEmbedderClass() {
+        if (forkedEmbedderClass == null) {
+            forkedEmbedderClass = getClass().getName();
+        }
+        return forkedEmbedderClass;
+    }
+
     public void useClassLoader(EmbedderClassLoader classLoader) {
         this.classLoader = classLoader;
     }
@@ -520,6 +564,10 @@ public class Embedder {
     public void useTimeoutParsers(TimeoutParser... timeoutParsers) {
         this.timeoutParsers = timeoutParsers;        
     }
+
+    public void useForkedEmbedderClass(String forkedEmbedderClass) {
+        this.forkedEmbedderClass = forkedEmbedderClass;
+    }
     
     @Override
     public String toString() {
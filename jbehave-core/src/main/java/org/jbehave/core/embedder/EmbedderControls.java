@@ -18,6 +18,16 @@ public class EmbedderControls {
     private String storyTimeouts = "300";
     private int threads = 1;
     private boolean failOnStoryTimeout = false;
+    private boolean streamStories = false;
+    private boolean buildStoriesInParallel = false;
+    private boolean scheduleLongestStoriesFirst = false;
+    private long defaultStoryDurationInMillis = -1;
+    private boolean skipUnchangedStories = false;
+    private boolean rerunFailedStories = false;
+    private int shardIndex = 0;
+    private int shardCount = 1;
+    private String shardDurations;
+    private int forks = 0;
 
     public EmbedderControls() {
     }
@@ -62,6 +72,113 @@ public class EmbedderControls {
         return threads;
     }
 
+    /**
+     * Whether stories are streamed, i.e. each story is made performable just before it is run, on the thread
+     * running it, and released once it is reported, rather than all stories being made performable before any is
+     * run. Only the results of the stories are kept, e.g. for the surefire report generated after the run.
+     *
+     * @return A boolean, <code>true</code> if stories are streamed
+     */
+    public boolean streamStories() {
+        return streamStories;
+    }
+
+    /**
+     * Whether all the stories are made performable in parallel before any is run, as an alternative to streaming
+     * them for the runs needing all the performable stories upfront.
+     *
+     * @return A boolean, <code>true</code> if stories are made performable in parallel
+     */
+    public boolean buildStoriesInParallel() {
+        return buildStoriesInParallel;
+    }
+
+    /**
+     * Whether stories are submitted in decreasing order of their durations in the previous run, as read from the
+     * {@link StoryDurations}, rather than in the order of the story execution comparator, which only breaks ties.
+     *
+     * @return A boolean, <code>true</code> if the longest stories are scheduled first
+     */
+    public boolean scheduleLongestStoriesFirst() {
+        return scheduleLongestStoriesFirst;
+    }
+
+    /**
+     * The duration estimated for the stories unknown to the previous run when scheduling the longest stories first.
+     *
+     * @return The duration in millis, or if negative the average duration of the stories of the previous run
+     */
+    public long defaultStoryDurationInMillis() {
+        return defaultStoryDurationInMillis;
+    }
+
+    /**
+     * Whether the stories run as paths are run incrementally, i.e. the stories unchanged since their last successful
+     * run, as recorded in {@link StoryResultCache#STORY_RESULTS}, are skipped. A story is unchanged if its
+     * content, its given stories and the bytecode of its steps classes and their superclasses are; the other classes
+     * called by the steps, e.g. helpers, are not hashed, so that a change to them alone does not run the story again.
+     *
+     * @return A boolean, <code>true</code> if the unchanged stories are skipped
+     */
+    public boolean skipUnchangedStories() {
+        return skipUnchangedStories;
+    }
+
+    /**
+     * Whether only the stories which failed or were pending in the previous runs, as recorded in
+     * {@link StoryStatuses#STORY_STATUSES}, are run again. Their reports replace the previous ones in the output
+     * directory, while the reports of the other stories are kept, so that the reports view is of all the stories.
+     *
+     * @return A boolean, <code>true</code> if only the failed or pending stories are run
+     */
+    public boolean rerunFailedStories() {
+        return rerunFailedStories;
+    }
+
+    /**
+     * The index of the shard of stories to run, from <code>0</code> to <code>shardCount - 1</code>, when the stories
+     * are split into shards run separately, e.g. by several JVMs.
+     *
+     * @return The shard index
+     */
+    public int shardIndex() {
+        return shardIndex;
+    }
+
+    /**
+     * The number of shards the stories are split into, balanced by the durations pinned by {@link #shardDurations()}.
+     *
+     * @return The shard count, <code>1</code> if the stories are not split
+     */
+    public int shardCount() {
+        return shardCount;
+    }
+
+    /**
+     * The path of the file of the story durations the shards are balanced by, in the format of the
+     * {@link StoryDurations#STORY_DURATIONS} written by a run, e.g. a copy of the one written by a previous run.
+     * The file is only read, never written, as the shards only compute the same split if they read the same
+     * durations: every shard must use the same file, rather than the durations written to its own output directory,
+     * which change from one run to the next. If no file is given, the shards are balanced by the default story
+     * duration only.
+     *
+     * @return The path of the shard durations, or <code>null</code> if none
+     */
+    public String shardDurations() {
+        return shardDurations;
+    }
+
+    /**
+     * The number of worker JVMs the stories are run by, each running its stories single-threaded, as managed by the
+     * {@link org.jbehave.core.embedder.forks.StoryForks}, rather than by the threads of this JVM. The unchanged
+     * stories are not skipped and the failed stories are not the only ones run again when forking.
+     *
+     * @return The number of forks, <code>0</code> if the stories are run in this JVM
+     */
+    public int forks() {
+        return forks;
+    }
+
     public EmbedderControls doBatch(boolean batch) {
         this.batch = batch;
         return this;
@@ -111,6 +228,56 @@ public class EmbedderControls {
         this.threads = threads;
         return this;
     }
+
+    public EmbedderControls doStreamStories(boolean streamStories) {
+        this.streamStories = streamStories;
+        return this;
+    }
+
+    public EmbedderControls doBuildStoriesInParallel(boolean buildStoriesInParallel) {
+        this.buildStoriesInParallel = buildStoriesInParallel;
+        return this;
+    }
+
+    public EmbedderControls doScheduleLongestStoriesFirst(boolean scheduleLongestStoriesFirst) {
+        this.scheduleLongestStoriesFirst = scheduleLongestStoriesFirst;
+        return this;
+    }
+
+    public EmbedderControls useDefaultStoryDurationInMillis(long defaultStoryDurationInMillis) {
+        this.defaultStoryDurationInMillis = defaultStoryDurationInMillis;
+        return this;
+    }
+
+    public EmbedderControls doSkipUnchangedStories(boolean skipUnchangedStories) {
+        this.skipUnchangedStories = skipUnchangedStories;
+        return this;
+    }
+
+    public EmbedderControls doRerunFailedStories(boolean rerunFailedStories) {
+        this.rerunFailedStories = rerunFailedStories;
+        return this;
+    }
+
+    public EmbedderControls useShardIndex(int shardIndex) {
+        this.shardIndex = shardIndex;
+        return this;
+    }
+
+    public EmbedderControls useShardCount(int shardCount) {
+        this.shardCount = shardCount;
+        return this;
+    }
+
+    public EmbedderControls useShardDurations(String shardDurations) {
+        this.shardDurations = shardDurations;
+        return this;
+    }
+
+    public EmbedderControls useForks(int forks) {
+        this.forks = forks;
+        return this;
+    }
     
     @Override
     public String toString() {
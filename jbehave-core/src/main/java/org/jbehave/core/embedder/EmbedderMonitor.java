@@ -46,6 +46,8 @@ public interface EmbedderMonitor {
 
     void reportsViewGenerated(ReportsCount count);
 
+    void mergingReports(List<File> outputDirectories, File mergedDirectory);
+
     void reportsViewFailures(ReportsCount count);
 
     void reportsViewNotGenerated();
@@ -75,4 +77,10 @@ public interface EmbedderMonitor {
     
     void usingTimeout(String path, long timeout);
 
+    void storiesMakespan(long makespanInMillis, long idealMakespanInMillis);
+
+    void storiesUnchanged(List<String> storyPaths);
+
+    void storiesSharded(int shardIndex, int shardCount, List<String> storyPaths);
+
 }
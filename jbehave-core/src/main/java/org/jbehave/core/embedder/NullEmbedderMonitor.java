@@ -96,6 +96,11 @@ public class NullEmbedderMonitor implements EmbedderMonitor {
         // Do nothing by default
     }
 
+    @Override
+    public void mergingReports(List<File> outputDirectories, File mergedDirectory) {
+        // Do nothing by default
+    }
+
     @Override
     public void reportsViewFailures(ReportsCount count) {
         // Do nothing by default
@@ -166,4 +171,19 @@ public class NullEmbedderMonitor implements EmbedderMonitor {
     public void usingTimeout(String path, long timeout) {
         // Do nothing by default
     }
+
+    @Override
+    public void storiesMakespan(long makespanInMillis, long idealMakespanInMillis) {
+        // Do nothing by default
+    }
+
+    @Override
+    public void storiesUnchanged(List<String> storyPaths) {
+        // Do nothing by default
+    }
+
+    @Override
+    public void storiesSharded(int shardIndex, int shardCount, List<String> storyPaths) {
+        // Do nothing by default
+    }
 }
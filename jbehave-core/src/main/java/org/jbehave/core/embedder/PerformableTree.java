@@ -8,6 +8,15 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -37,10 +46,14 @@ import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
 import org.jbehave.core.reporters.ConcurrentStoryReporter;
 import org.jbehave.core.reporters.DelegatingStoryReporter;
+import org.jbehave.core.reporters.NullStoryReporter;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.AbstractStepResult;
+import org.jbehave.core.steps.IndexedStepCandidates;
 import org.jbehave.core.steps.PendingStepMethodGenerator;
 import org.jbehave.core.steps.Step;
+import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepCandidateCache;
 import org.jbehave.core.steps.StepCollector;
 import org.jbehave.core.steps.StepCollector.Stage;
 import org.jbehave.core.steps.StepCreator.PendingStep;
@@ -56,13 +69,19 @@ import org.jbehave.core.steps.context.StepsContext;
  * after stories steps. The process has two phases:
  * <ol>
  * <li>The tree is populated with groups of performable steps when the stories
- * are added via the {@link #addStories(RunContext, List)} method.</li>
+ * are added via the {@link #addStories(RunContext, List)} method, or via the
+ * {@link #addStories(RunContext, List, ForkJoinPool)} method to make them
+ * performable in parallel.</li>
  * <li>The performable steps are then populated with the results when the
  * {@link #performBeforeOrAfterStories(RunContext, Stage)} and
  * {@link #perform(RunContext, Story)} methods are executed.</li>
  * </ol>
  * The tree is created per {@link RunContext} for the set of stories being run
- * but the individual stories can be performed concurrently.
+ * but the individual stories can be performed concurrently. When stories are
+ * streamed, the tree only holds the stories being performed: each story is
+ * added via {@link #addStory(RunContext, Story)} just before it is performed
+ * and released via {@link #releaseStory(Story)} once it is reported, only its
+ * results being kept.
  */
 public class PerformableTree {
 
@@ -82,6 +101,103 @@ public class PerformableTree {
         root.addAfterSteps(context.afterStoriesSteps());
     }
 
+    /**
+     * Adds the stories as {@link #addStories(RunContext, List)} does, but makes the stories performable in
+     * parallel, splitting them amongst the workers of the fork-join pool. The stories are added to the tree
+     * in the given order once they are all performable, so that the tree is the same as when they are made
+     * performable one after the other.
+     *
+     * @param context the RunContext
+     * @param stories the Stories to add
+     * @param pool the ForkJoinPool making the stories performable
+     */
+    public void addStories(RunContext context, List<Story> stories, ForkJoinPool pool) {
+        root.addBeforeSteps(context.beforeStoriesSteps());
+        PerformableStory[] performableStories = new PerformableStory[stories.size()];
+        pool.invoke(new PerformableStoriesTask(context, stories, performableStories, 0, stories.size()));
+        for (PerformableStory performableStory : performableStories) {
+            root.add(performableStory);
+        }
+        root.addAfterSteps(context.afterStoriesSteps());
+    }
+
+    /**
+     * Adds the before and after stories steps only, the stories being added one at a time via
+     * {@link #addStory(RunContext, Story)} just before they are performed.
+     *
+     * @param context the RunContext
+     */
+    public void addBeforeAndAfterStoriesSteps(RunContext context) {
+        root.addBeforeSteps(context.beforeStoriesSteps());
+        root.addAfterSteps(context.afterStoriesSteps());
+    }
+
+    /**
+     * Adds a story to the tree, which can be done concurrently with performing other stories.
+     *
+     * @param context the RunContext
+     * @param story the Story to add
+     */
+    public void addStory(RunContext context, Story story) {
+        root.add(rootPerformableStory(context, story));
+    }
+
+    /**
+     * Releases the performables of a performed story, e.g. its steps, its given stories and its examples, keeping
+     * only the status, timing and failure of its scenarios. The results of the streamed stories can then still be
+     * reported once all the stories are run, e.g. by the {@link org.jbehave.core.reporters.SurefireReporter}.
+     *
+     * @param story the Story to release
+     */
+    public void releaseStory(Story story) {
+        root.release(story);
+    }
+
+    /**
+     * Makes a range of stories performable, forking the halves of the range until a single story is left.
+     */
+    @SuppressWarnings("serial")
+    private class PerformableStoriesTask extends RecursiveAction {
+        private final RunContext context;
+        private final List<Story> stories;
+        private final PerformableStory[] performableStories;
+        private final int from;
+        private final int to;
+
+        PerformableStoriesTask(RunContext context, List<Story> stories, PerformableStory[] performableStories,
+                int from, int to) {
+            this.context = context;
+            this.stories = stories;
+            this.performableStories = performableStories;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    performableStories[from] = rootPerformableStory(context, stories.get(from));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new PerformableStoriesTask(context, stories, performableStories, from, middle),
+                    new PerformableStoriesTask(context, stories, performableStories, middle, to));
+        }
+    }
+
+    private PerformableStory rootPerformableStory(RunContext context, Story story) {
+        // the story is made performable on the current thread as if no story had been performed on it yet
+        State state = context.state();
+        context.resetState();
+        try {
+            return performableStory(context, story, NO_PARAMETERS);
+        } finally {
+            context.stateIs(state);
+        }
+    }
+
     private PerformableStory performableStory(RunContext context, Story story, Map<String, String> storyParameters) {
         PerformableStory performableStory = new PerformableStory(story, context.configuration().keywords(),
                 context.givenStory());
@@ -287,7 +403,7 @@ public class PerformableTree {
             for (GivenStory givenStory : givenStories.getStories()) {
                 RunContext childContext = context.childContextFor(givenStory);
                 // run given story, using any parameters provided
-                Story story = storyOfPath(context.configuration(), childContext.path());                
+                Story story = context.storyCache().storyOfPath(context.configuration(), childContext.path());
                 if (givenStory.hasAnchorParameters()) {
                     story = storyWithMatchingScenarios(story, givenStory.getAnchorParameters());
                 }
@@ -575,20 +691,31 @@ public class PerformableTree {
         private final MetaFilter filter;
         private final BatchFailures failures;
         private final StepsContext stepsContext;
-        private final Map<Story, StoryDuration> cancelledStories = new HashMap<>();
-        private final Map<String, List<PendingStep>> pendingStories = new HashMap<>();
-        private final ThreadLocal<StoryRunContext> storyRunContext = ThreadLocal.withInitial(StoryRunContext::new);
+        private final Map<Story, StoryDuration> cancelledStories = new ConcurrentHashMap<>();
+        private final Map<String, List<PendingStep>> pendingStories = new ConcurrentHashMap<>();
+        private final ThreadLocal<StoryRunContext> storyRunContext = new ThreadLocal<>();
+        private final StepCandidateCache stepCandidateCache;
+        private final StoryCache storyCache;
+        private final GivenStoriesPerformedOnce givenStoriesPerformedOnce;
+        private volatile List<StepCandidate> regularSteps;
+        private ExecutorService scenarioExecutor;
 
         public RunContext(Configuration configuration, AllStepCandidates allStepCandidates,
                 EmbedderMonitor embedderMonitor, MetaFilter filter, BatchFailures failures) {
-            this(configuration, allStepCandidates, embedderMonitor, filter, failures, false);
+            this(configuration, allStepCandidates, embedderMonitor, filter, failures, false,
+                    new StepCandidateCache(), new StoryCache(), new GivenStoriesPerformedOnce());
         }
 
         private RunContext(Configuration configuration, AllStepCandidates allStepCandidates,
-                EmbedderMonitor embedderMonitor, MetaFilter filter, BatchFailures failures, boolean givenStory) {
+                EmbedderMonitor embedderMonitor, MetaFilter filter, BatchFailures failures, boolean givenStory,
+                StepCandidateCache stepCandidateCache, StoryCache storyCache,
+                GivenStoriesPerformedOnce givenStoriesPerformedOnce) {
             this.configuration = configuration;
             this.givenStory = givenStory;
             this.allStepCandidates = allStepCandidates;
+            this.stepCandidateCache = stepCandidateCache;
+            this.storyCache = storyCache;
+            this.givenStoriesPerformedOnce = givenStoriesPerformedOnce;
             this.embedderMonitor = embedderMonitor;
             this.filter = filter;
             this.failures = failures;
@@ -600,6 +727,17 @@ public class PerformableTree {
             return stepsContext;
         }
 
+        /**
+         * Uses an executor to perform the scenarios of the stories or the examples of the scenarios in parallel, if
+         * enabled by the story controls or the story and scenario meta. Without executor, the scenarios and the
+         * examples are always performed one after the other.
+         *
+         * @param scenarioExecutor the ExecutorService performing the scenarios
+         */
+        public void useScenarioExecutor(ExecutorService scenarioExecutor) {
+            this.scenarioExecutor = scenarioExecutor;
+        }
+
         public boolean restartScenario() {
             Throwable cause = failure(state());
             while (cause != null) {
@@ -693,7 +831,7 @@ public class PerformableTree {
                 Map<String, String> parameters) {
             MatchingStepMonitor monitor = new MatchingStepMonitor(configuration.stepMonitor());
             Map<Stage, List<Step>> steps = configuration.stepCollector().collectLifecycleSteps(
-                    allStepCandidates.getRegularSteps(), lifecycle, meta, scope, parameters, monitor);
+                    regularSteps(), lifecycle, meta, scope, parameters, monitor);
             Map<Stage, PerformableSteps> performableSteps = new EnumMap<>(Stage.class);
             for (Map.Entry<Stage, List<Step>> entry : steps.entrySet()) {
                 performableSteps.put(entry.getKey(), new PerformableSteps(entry.getValue(), monitor.matched()));
@@ -706,10 +844,9 @@ public class PerformableTree {
             MatchingStepMonitor monitor = new MatchingStepMonitor(configuration.stepMonitor());
             StepCollector stepCollector = configuration.stepCollector();
             Map<Stage, List<Step>> beforeOrAfterStepSteps = stepCollector.collectLifecycleSteps(
-                    allStepCandidates.getRegularSteps(), lifecycle, meta, Scope.STEP, parameters, monitor);
+                    regularSteps(), lifecycle, meta, Scope.STEP, parameters, monitor);
             List<Step> steps = new LinkedList<>();
-            for (Step step : stepCollector.collectScenarioSteps(allStepCandidates.getRegularSteps(), scenario,
-                    parameters, monitor)) {
+            for (Step step : stepCollector.collectScenarioSteps(regularSteps(), scenario, parameters, monitor)) {
                 steps.addAll(beforeOrAfterStepSteps.get(Stage.BEFORE));
                 steps.add(step);
                 steps.addAll(beforeOrAfterStepSteps.get(Stage.AFTER));
@@ -717,9 +854,22 @@ public class PerformableTree {
             return new PerformableSteps(steps, monitor.matched());
         }
 
+        private List<StepCandidate> regularSteps() {
+            List<StepCandidate> regularSteps = this.regularSteps;
+            if (regularSteps == null) {
+                regularSteps = allStepCandidates.getRegularSteps();
+                if (regularSteps instanceof IndexedStepCandidates) {
+                    regularSteps = ((IndexedStepCandidates) regularSteps).withCache(stepCandidateCache);
+                }
+                this.regularSteps = regularSteps;
+            }
+            return regularSteps;
+        }
+
         public RunContext childContextFor(GivenStory givenStory) {
             RunContext child = new RunContext(configuration, allStepCandidates, embedderMonitor, filter,
-                    failures, true);
+                    failures, true, stepCandidateCache, storyCache, givenStoriesPerformedOnce);
+            child.scenarioExecutor = scenarioExecutor;
             child.currentRunContext().pathIs(configuration.pathCalculator().calculate(path(), givenStory.getPath()));
             return child;
         }
@@ -833,8 +983,107 @@ public class PerformableTree {
             return embedderMonitor;
         }
 
+        public StepCandidateCache stepCandidateCache() {
+            return stepCandidateCache;
+        }
+
+        /**
+         * Returns the cache of the stories loaded and parsed in this run, e.g. the given stories, shared with the
+         * child contexts of the given stories
+         *
+         * @return The StoryCache
+         */
+        public StoryCache storyCache() {
+            return storyCache;
+        }
+
+        /**
+         * Claims the performance of a given story run once: the first caller claims it, while the other callers wait
+         * for it to be performed and, unless its performance failed and was released to be claimed again, reuse it.
+         *
+         * @param key the key of the given story, unique per run or per worker, as identified by {@link #worker()}
+         * @return A boolean, <code>true</code> if the caller must perform the given story and then call
+         *         {@link #givenStoryPerformedOnce(String, boolean)}, <code>false</code> if it is reused
+         * @throws InterruptedException if interrupted while waiting for the given story to be performed
+         */
+        public boolean claimGivenStoryPerformedOnce(String key) throws InterruptedException {
+            while (true) {
+                CountDownLatch performed = new CountDownLatch(1);
+                CountDownLatch claimed = givenStoriesPerformedOnce.claims.putIfAbsent(key, performed);
+                if (claimed == null) {
+                    return true;
+                }
+                claimed.await();
+                if (givenStoriesPerformedOnce.claims.get(key) == claimed) {
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * Marks a claimed given story as performed, so that it is reused if successful or else claimed again by
+         * its next caller.
+         *
+         * @param key the key of the given story
+         * @param successful whether the given story was performed successfully
+         */
+        public void givenStoryPerformedOnce(String key, boolean successful) {
+            CountDownLatch performed = givenStoriesPerformedOnce.claims.get(key);
+            if (!successful) {
+                givenStoriesPerformedOnce.claims.remove(key);
+            }
+            if (performed != null) {
+                performed.countDown();
+            }
+        }
+
+        /**
+         * Identifies the worker performing the current story: the thread performing the story, given an identity
+         * which, unlike the thread id, is never reused during the run, e.g. by a thread replacing a terminated one.
+         * The tasks performing its scenarios or examples in parallel perform them as the same worker, while each
+         * virtual thread performing a story is a worker of its own.
+         *
+         * @return The identity of the worker, unique per run
+         */
+        public long worker() {
+            return givenStoriesPerformedOnce.worker.get();
+        }
+
+        private void workerIs(long worker) {
+            givenStoriesPerformedOnce.worker.set(worker);
+        }
+
+        /**
+         * Performs a task, e.g. a story performed on a worker thread, in its own scope: unless the current thread
+         * already has a story run context, e.g. as the thread which created this run context, the story run context
+         * and the {@link StepsContext} objects used by the task are removed from the thread once the task is done,
+         * so that they neither outlive the task on pooled threads nor need inheriting by virtual threads.
+         *
+         * @param task the task to perform
+         * @param <T> the type of the task result
+         * @return The task result
+         */
+        public <T> T performInScope(Supplier<T> task) {
+            if (storyRunContext.get() != null) {
+                return task.get();
+            }
+            storyRunContext.set(new StoryRunContext());
+            StepsContext.Scope previousScope = stepsContext.enterScope();
+            try {
+                return task.get();
+            } finally {
+                stepsContext.restoreScope(previousScope);
+                storyRunContext.remove();
+            }
+        }
+
         private StoryRunContext currentRunContext() {
-            return storyRunContext.get();
+            StoryRunContext runContext = storyRunContext.get();
+            if (runContext == null) {
+                runContext = new StoryRunContext();
+                storyRunContext.set(runContext);
+            }
+            return runContext;
         }
 
         /**
@@ -848,6 +1097,12 @@ public class PerformableTree {
         }
     }
 
+    private static class GivenStoriesPerformedOnce {
+        private final Map<String, CountDownLatch> claims = new ConcurrentHashMap<>();
+        private final AtomicLong workers = new AtomicLong();
+        private final ThreadLocal<Long> worker = ThreadLocal.withInitial(workers::incrementAndGet);
+    }
+
     private static class StoryRunContext {
         private State state;
         private String path;
@@ -911,7 +1166,7 @@ public class PerformableTree {
     public static class PerformableRoot {
 
         private PerformableSteps beforeSteps = new PerformableSteps();
-        private Map<String, PerformableStory> stories = new LinkedHashMap<>();
+        private final Map<String, PerformableStory> stories = new LinkedHashMap<>();
         private PerformableSteps afterSteps = new PerformableSteps();
 
         public void addBeforeSteps(PerformableSteps beforeSteps) {
@@ -919,7 +1174,19 @@ public class PerformableTree {
         }
 
         public void add(PerformableStory performableStory) {
-            stories.put(performableStory.getStory().getPath(), performableStory);
+            synchronized (stories) {
+                stories.put(performableStory.getStory().getPath(), performableStory);
+            }
+        }
+
+        public void release(Story story) {
+            PerformableStory performableStory;
+            synchronized (stories) {
+                performableStory = stories.get(story.getPath());
+            }
+            if (performableStory != null) {
+                performableStory.release();
+            }
         }
 
         public void addAfterSteps(PerformableSteps afterSteps) {
@@ -927,7 +1194,10 @@ public class PerformableTree {
         }
 
         public PerformableStory get(Story story) {
-            PerformableStory performableStory = stories.get(story.getPath());
+            PerformableStory performableStory;
+            synchronized (stories) {
+                performableStory = stories.get(story.getPath());
+            }
             if (performableStory != null) {
                 return performableStory;
             }
@@ -935,7 +1205,9 @@ public class PerformableTree {
         }
 
         public List<PerformableStory> getStories() {
-            return new ArrayList<>(stories.values());
+            synchronized (stories) {
+                return new ArrayList<>(stories.values());
+            }
         }
 
     }
@@ -1015,6 +1287,11 @@ public class PerformableTree {
             return givenStories;
         }
 
+        protected void release() {
+            givenStories = new PerformableGivenStories(Collections.emptyList(), null);
+            stageSteps.clear();
+        }
+
     }
 
     private interface LifecycleStepsExecutionHook {
@@ -1023,6 +1300,12 @@ public class PerformableTree {
 
     public static class PerformableStory extends PerformableEntity {
 
+        /**
+         * The story meta property performing the scenarios of the story in parallel, unless its value is
+         * <code>false</code>, regardless of {@link StoryControls#parallelScenarios()}.
+         */
+        public static final String PARALLEL_SCENARIOS = "parallelScenarios";
+
         private final Story story;
         private final transient Keywords keywords;
         private final boolean givenStory;
@@ -1097,8 +1380,12 @@ public class PerformableTree {
 
                             context.reporter().beforeScenarios();
 
-                            for (PerformableScenario scenario : scenarios) {
-                                scenario.perform(context);
+                            if (parallelScenarios(context)) {
+                                new ParallelPerformables(context, scenarios, scenarios.size()).perform();
+                            } else {
+                                for (PerformableScenario scenario : scenarios) {
+                                    scenario.perform(context);
+                                }
                             }
                         }
                     },
@@ -1133,13 +1420,185 @@ public class PerformableTree {
             return scenarios;
         }
 
+        @Override
+        protected void release() {
+            super.release();
+            for (PerformableScenario scenario : scenarios) {
+                scenario.release();
+            }
+        }
+
         public boolean hasIncludedScenarios() {
             return getScenarios().stream().anyMatch(scenario -> !scenario.isExcluded());
         }
+
+        private boolean parallelScenarios(RunContext context) {
+            if (context.scenarioExecutor == null || scenarios.size() < 2) {
+                return false;
+            }
+            Meta meta = story.getMeta();
+            if (meta.hasProperty(PARALLEL_SCENARIOS)) {
+                return !Boolean.FALSE.toString().equals(meta.getProperty(PARALLEL_SCENARIOS).trim());
+            }
+            return context.configuration().storyControls().parallelScenarios();
+        }
+    }
+
+    /**
+     * Performs performables, i.e. the scenarios of a story or the examples of a scenario, in parallel: the
+     * performables are shared by the calling thread and at most <code>parallelism - 1</code> tasks submitted to the
+     * scenario executor, so that they are all performed even if no task is run by the executor. Each performable is
+     * performed from the state, story controls, story and scenario objects of the calling thread, and reports to a
+     * delayed {@link ConcurrentStoryReporter}, whose reporting is replayed in the order of the performables once
+     * they are all done. The first failed state of the performables becomes the state of the calling thread. If the
+     * calling thread is interrupted, the tasks still running are interrupted and waited for before it returns.
+     */
+    private static class ParallelPerformables {
+        private final RunContext context;
+        private final List<? extends Performable> performables;
+        private final int parallelism;
+        private final String path;
+        private final StoryReporter reporter;
+        private final State state;
+        private final long worker;
+        private final StoryControls storyControls;
+        private final Map<String, Object> storyObjects;
+        private final Map<String, Object> scenarioObjects;
+        private final ConcurrentStoryReporter[] reporters;
+        private final State[] states;
+        private final Throwable[] failures;
+        private final CountDownLatch[] performed;
+        private final AtomicInteger next = new AtomicInteger();
+
+        ParallelPerformables(RunContext context, List<? extends Performable> performables, int parallelism) {
+            this.context = context;
+            this.performables = performables;
+            this.parallelism = Math.min(parallelism, performables.size());
+            this.path = context.path();
+            this.reporter = context.reporter();
+            this.state = context.state();
+            this.worker = context.worker();
+            this.storyControls = context.configuration().storyControls().currentStoryControls();
+            this.storyObjects = context.stepsContext().copyStory();
+            this.scenarioObjects = context.stepsContext().copyScenario();
+            int size = performables.size();
+            this.reporters = new ConcurrentStoryReporter[size];
+            this.states = new State[size];
+            this.failures = new Throwable[size];
+            this.performed = new CountDownLatch[size];
+            for (int i = 0; i < size; i++) {
+                // the reporter is wrapped so that thread-safe reporters are delayed too
+                reporters[i] = new ConcurrentStoryReporter(new NullStoryReporter(),
+                        Collections.singletonList(new DelegatingStoryReporter(reporter)), true);
+                performed[i] = new CountDownLatch(1);
+            }
+        }
+
+        void perform() throws InterruptedException {
+            List<Future<?>> tasks = new ArrayList<>();
+            try {
+                for (int i = 1; i < parallelism; i++) {
+                    tasks.add(context.scenarioExecutor.submit(() -> context.performInScope(this::performAll)));
+                }
+                performAll();
+                for (CountDownLatch latch : performed) {
+                    latch.await();
+                }
+            } finally {
+                // the tasks still running, e.g. if interrupted while waiting for them, are interrupted and waited
+                // for, so that no performable outlives its parent, and the tasks not run yet are left with none
+                int claimed = Math.min(next.getAndSet(performables.size()), performables.size());
+                tasks.forEach(task -> task.cancel(true));
+                awaitPerformed(claimed);
+            }
+            State finalState = state;
+            for (int i = 0; i < performables.size(); i++) {
+                reporters[i].invokeDelayed();
+                Throwable failure = failures[i];
+                if (failure instanceof InterruptedException) {
+                    throw (InterruptedException) failure;
+                } else if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                } else if (failure instanceof Error) {
+                    throw (Error) failure;
+                }
+                if (!context.failed(finalState) && states[i] != null && context.failed(states[i])) {
+                    finalState = states[i];
+                }
+            }
+            context.stateIs(finalState);
+        }
+
+        private void awaitPerformed(int claimed) {
+            boolean interrupted = false;
+            for (int i = 0; i < claimed; i++) {
+                while (true) {
+                    try {
+                        performed[i].await();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private Void performAll() {
+            int index = next.getAndIncrement();
+            while (index < performables.size()) {
+                performAt(index);
+                index = next.getAndIncrement();
+            }
+            return null;
+        }
+
+        private void performAt(int index) {
+            StoryRunContext runContext = context.currentRunContext();
+            String currentPath = runContext.path();
+            StoryReporter currentReporter = runContext.reporter();
+            State currentState = runContext.state();
+            long currentWorker = context.worker();
+            StoryControls controls = context.configuration().storyControls();
+            StoryControls currentStoryControls = controls.currentStoryControls();
+            StepsContext stepsContext = context.stepsContext();
+            Map<String, Object> currentStoryObjects = stepsContext.copyStory();
+            Map<String, Object> currentScenarioObjects = stepsContext.copyScenario();
+            try {
+                runContext.pathIs(path);
+                runContext.reporterIs(reporters[index]);
+                runContext.stateIs(state);
+                context.workerIs(worker);
+                controls.useCurrentStoryControls(storyControls);
+                stepsContext.resetStory(storyObjects);
+                stepsContext.resetScenario(scenarioObjects);
+                performables.get(index).perform(context);
+                states[index] = runContext.state();
+            } catch (Throwable e) {
+                failures[index] = e;
+            } finally {
+                runContext.pathIs(currentPath);
+                runContext.reporterIs(currentReporter);
+                runContext.stateIs(currentState);
+                context.workerIs(currentWorker);
+                controls.useCurrentStoryControls(currentStoryControls);
+                stepsContext.resetStory(currentStoryObjects);
+                stepsContext.resetScenario(currentScenarioObjects);
+                performed[index].countDown();
+            }
+        }
     }
 
     public static class PerformableScenario implements Performable {
 
+        /**
+         * The scenario meta property giving the maximum number of examples of the scenario performed in parallel,
+         * regardless of {@link StoryControls#parallelExamples()}.
+         */
+        public static final String PARALLEL_EXAMPLES = "parallelExamples";
+
         private final Scenario scenario;
         private final String storyPath;
         private boolean excluded;
@@ -1148,6 +1607,8 @@ public class PerformableTree {
         private Timing timing = new Timing();
         private NormalPerformableScenario normalScenario;
         private List<ExamplePerformableScenario> exampleScenarios;
+        private transient boolean released;
+        private transient Throwable releasedFailure;
 
         public PerformableScenario(Scenario scenario, String storyPath) {
             this.scenario = scenario;
@@ -1190,6 +1651,9 @@ public class PerformableTree {
         }
 
         public Throwable getFailure() {
+            if (released) {
+                return releasedFailure;
+            }
             FailureContext context = new FailureContext();
             reportFailures(context);
             List<Throwable> failures = context.getFailures();
@@ -1199,6 +1663,17 @@ public class PerformableTree {
             return null;
         }
 
+        /**
+         * Releases the performable scenarios once the scenario is reported, keeping its failure along with its status
+         * and timing.
+         */
+        private void release() {
+            releasedFailure = status == Status.FAILED ? getFailure() : null;
+            released = true;
+            normalScenario = null;
+            exampleScenarios = null;
+        }
+
         public boolean hasNormalScenario() {
             return normalScenario != null;
         }
@@ -1229,8 +1704,13 @@ public class PerformableTree {
                 if (hasExamples()) {
                     context.reporter().beforeExamples(scenario.getSteps(),
                             scenario.getExamplesTable());
-                    for (ExamplePerformableScenario exampleScenario : exampleScenarios) {
-                        exampleScenario.perform(context);
+                    int parallelism = parallelExamples(context);
+                    if (parallelism > 1) {
+                        new ParallelPerformables(context, exampleScenarios, parallelism).perform();
+                    } else {
+                        for (ExamplePerformableScenario exampleScenario : exampleScenarios) {
+                            exampleScenario.perform(context);
+                        }
                     }
                     context.reporter().afterExamples();
                 } else {
@@ -1255,6 +1735,21 @@ public class PerformableTree {
             }
         }
 
+        private int parallelExamples(RunContext context) {
+            if (context.scenarioExecutor == null || exampleScenarios.size() < 2) {
+                return 1;
+            }
+            Meta meta = scenario.getMeta();
+            if (meta.hasProperty(PARALLEL_EXAMPLES)) {
+                try {
+                    return Integer.parseInt(meta.getProperty(PARALLEL_EXAMPLES).trim());
+                } catch (NumberFormatException e) {
+                    // falls back to the story controls
+                }
+            }
+            return context.configuration().storyControls().parallelExamples();
+        }
+
     }
 
     public abstract static class AbstractPerformableScenario extends PerformableEntity {
@@ -1379,6 +1874,15 @@ public class PerformableTree {
 
     public static class PerformableGivenStories implements Performable {
 
+        /**
+         * The given story meta property performing the given story only once, e.g. to set up expensive and shareable
+         * state: once per worker, as identified by {@link RunContext#worker()}, unless its value is
+         * {@link #RUN_ONCE_PER_RUN}. The next references of the
+         * given story are reported as reused, as long as it was performed successfully.
+         */
+        public static final String RUN_ONCE = "runOnce";
+        public static final String RUN_ONCE_PER_RUN = "run";
+
         private final List<PerformableStory> performableGivenStories;
         private final GivenStories givenStories;
 
@@ -1393,13 +1897,44 @@ public class PerformableTree {
                 StoryReporter storyReporter = context.reporter();
                 storyReporter.beforeGivenStories();
                 storyReporter.givenStories(givenStories);
-                for (PerformableStory story : performableGivenStories) {
-                    story.perform(context);
+                for (int i = 0; i < performableGivenStories.size(); i++) {
+                    PerformableStory story = performableGivenStories.get(i);
+                    Meta meta = story.getStory().getMeta();
+                    if (meta.hasProperty(RUN_ONCE)) {
+                        performOnce(context, story, runOnceKey(context, story, givenStories.getStories().get(i),
+                                meta.getProperty(RUN_ONCE)));
+                    } else {
+                        story.perform(context);
+                    }
                 }
                 storyReporter.afterGivenStories();
             }
         }
 
+        private void performOnce(RunContext context, PerformableStory story, String key)
+                throws InterruptedException {
+            if (!context.claimGivenStoryPerformedOnce(key)) {
+                context.reporter().givenStoryReused(story.getStory());
+                return;
+            }
+            boolean successful = false;
+            try {
+                story.perform(context);
+                successful = story.getStatus() == Status.SUCCESSFUL;
+            } finally {
+                context.givenStoryPerformedOnce(key, successful);
+            }
+        }
+
+        private String runOnceKey(RunContext context, PerformableStory story, GivenStory givenStory,
+                String runOnce) {
+            String key = story.getStory().getPath() + givenStory.getAnchor() + givenStory.getParameters();
+            if (RUN_ONCE_PER_RUN.equals(runOnce.trim())) {
+                return key;
+            }
+            return key + "@" + context.worker();
+        }
+
         @Override
         public void reportFailures(FailureContext context) {
         }
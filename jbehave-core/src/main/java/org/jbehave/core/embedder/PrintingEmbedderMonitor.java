@@ -123,6 +123,11 @@ public abstract class PrintingEmbedderMonitor implements EmbedderMonitor {
         }
     }
 
+    @Override
+    public void mergingReports(List<File> outputDirectories, File mergedDirectory) {
+        print("Merging reports of '%s' to '%s'", outputDirectories, mergedDirectory);
+    }
+
     @Override
     public void reportsViewFailures(ReportsCount count) {
         print("Failures in reports view: %d scenarios failed", count.getScenariosFailed());
@@ -188,6 +193,21 @@ public abstract class PrintingEmbedderMonitor implements EmbedderMonitor {
         print("Using timeout for story %s of %d secs.", path, timeout);
     }
 
+    @Override
+    public void storiesMakespan(long makespanInMillis, long idealMakespanInMillis) {
+        print("Stories run in %d ms, ideally in %d ms", makespanInMillis, idealMakespanInMillis);
+    }
+
+    @Override
+    public void storiesUnchanged(List<String> storyPaths) {
+        print("Skipped stories unchanged since their last successful run %s", storyPaths);
+    }
+
+    @Override
+    public void storiesSharded(int shardIndex, int shardCount, List<String> storyPaths) {
+        print("Running shard %s of %s with stories %s", shardIndex, shardCount, storyPaths);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
@@ -17,6 +17,16 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
     public static final String STORY_TIMEOUT_IN_SECS_BY_PATH = "STORY_TIMEOUT_IN_SECS_BY_PATH";
     public static final String FAIL_ON_STORY_TIMEOUT = "FAIL_ON_STORY_TIMEOUT";
     public static final String THREADS = "THREADS";
+    public static final String STREAM_STORIES = "STREAM_STORIES";
+    public static final String BUILD_STORIES_IN_PARALLEL = "BUILD_STORIES_IN_PARALLEL";
+    public static final String SCHEDULE_LONGEST_STORIES_FIRST = "SCHEDULE_LONGEST_STORIES_FIRST";
+    public static final String DEFAULT_STORY_DURATION_IN_MILLIS = "DEFAULT_STORY_DURATION_IN_MILLIS";
+    public static final String SKIP_UNCHANGED_STORIES = "SKIP_UNCHANGED_STORIES";
+    public static final String RERUN_FAILED_STORIES = "RERUN_FAILED_STORIES";
+    public static final String SHARD_INDEX = "SHARD_INDEX";
+    public static final String SHARD_COUNT = "SHARD_COUNT";
+    public static final String SHARD_DURATIONS = "SHARD_DURATIONS";
+    public static final String FORKS = "FORKS";
 
     @Override
     public boolean batch() {
@@ -67,6 +77,56 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
     public int threads() {
         return propertyAs(THREADS, Integer.class, super.threads()); 
     }
+
+    @Override
+    public boolean streamStories() {
+        return propertyAs(STREAM_STORIES, Boolean.class, super.streamStories());
+    }
+
+    @Override
+    public boolean buildStoriesInParallel() {
+        return propertyAs(BUILD_STORIES_IN_PARALLEL, Boolean.class, super.buildStoriesInParallel());
+    }
+
+    @Override
+    public boolean scheduleLongestStoriesFirst() {
+        return propertyAs(SCHEDULE_LONGEST_STORIES_FIRST, Boolean.class, super.scheduleLongestStoriesFirst());
+    }
+
+    @Override
+    public long defaultStoryDurationInMillis() {
+        return propertyAs(DEFAULT_STORY_DURATION_IN_MILLIS, Long.class, super.defaultStoryDurationInMillis());
+    }
+
+    @Override
+    public boolean skipUnchangedStories() {
+        return propertyAs(SKIP_UNCHANGED_STORIES, Boolean.class, super.skipUnchangedStories());
+    }
+
+    @Override
+    public boolean rerunFailedStories() {
+        return propertyAs(RERUN_FAILED_STORIES, Boolean.class, super.rerunFailedStories());
+    }
+
+    @Override
+    public int shardIndex() {
+        return propertyAs(SHARD_INDEX, Integer.class, super.shardIndex());
+    }
+
+    @Override
+    public int shardCount() {
+        return propertyAs(SHARD_COUNT, Integer.class, super.shardCount());
+    }
+
+    @Override
+    public String shardDurations() {
+        return propertyAs(SHARD_DURATIONS, String.class, super.shardDurations());
+    }
+
+    @Override
+    public int forks() {
+        return propertyAs(FORKS, Integer.class, super.forks());
+    }
    
     @SuppressWarnings("unchecked")
     private <T> T propertyAs(String name, Class<T> type, T defaultValue) {
@@ -103,6 +163,16 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
         .append("verboseFiltering", verboseFiltering())
         .append("storyTimeouts", storyTimeouts())
         .append("threads", threads())
+        .append("streamStories", streamStories())
+        .append("buildStoriesInParallel", buildStoriesInParallel())
+        .append("scheduleLongestStoriesFirst", scheduleLongestStoriesFirst())
+        .append("defaultStoryDurationInMillis", defaultStoryDurationInMillis())
+        .append("skipUnchangedStories", skipUnchangedStories())
+        .append("rerunFailedStories", rerunFailedStories())
+        .append("shardIndex", shardIndex())
+        .append("shardCount", shardCount())
+        .append("shardDurations", shardDurations())
+        .append("forks", forks())
         .toString();        
     }
 
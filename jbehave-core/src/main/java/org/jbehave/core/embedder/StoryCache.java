@@ -0,0 +1,130 @@
+package org.jbehave.core.embedder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.StoryParser;
+
+/**
+ * Bounded and thread-safe cache of the {@link Story}s loaded and parsed from their paths, keyed by the path and by
+ * the identity of the {@link StoryLoader} and {@link StoryParser} of the configuration. It allows the given stories
+ * referenced by many stories or scenarios, e.g. shared setup stories, to be loaded and parsed only once per run.
+ * Once the maximum size is reached, the least recently used entry is evicted for every new one.
+ */
+public class StoryCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final int maxSize;
+    private final Map<Key, Story> stories;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public StoryCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public StoryCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.stories = new LinkedHashMap<Key, Story>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Story> eldest) {
+                return size() > StoryCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the story of the given path, loaded and parsed with the story loader and parser of the configuration
+     * unless already cached
+     *
+     * @param configuration the Configuration providing the story loader and parser
+     * @param storyPath the story path
+     * @return The parsed Story
+     */
+    public Story storyOfPath(Configuration configuration, String storyPath) {
+        StoryLoader storyLoader = configuration.storyLoader();
+        StoryParser storyParser = configuration.storyParser();
+        Key key = new Key(storyPath, storyLoader, storyParser);
+        Story story;
+        synchronized (stories) {
+            story = stories.get(key);
+        }
+        if (story != null) {
+            hits.incrementAndGet();
+            return story;
+        }
+        misses.incrementAndGet();
+        story = storyParser.parseStory(storyLoader.loadStoryAsText(storyPath), storyPath);
+        if (maxSize > 0) {
+            // a story parsed concurrently for the same path is kept, so that all its users share it
+            synchronized (stories) {
+                Story cached = stories.putIfAbsent(key, story);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+        return story;
+    }
+
+    public int size() {
+        synchronized (stories) {
+            return stories.size();
+        }
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the ratio of the lookups of stories found in the cache
+     *
+     * @return The hit rate between <code>0</code> and <code>1</code>, <code>0</code> if no story was looked up
+     */
+    public double hitRate() {
+        long hitCount = hits();
+        long lookups = hitCount + misses();
+        return lookups > 0 ? (double) hitCount / lookups : 0;
+    }
+
+    private static final class Key {
+        private final String storyPath;
+        private final StoryLoader storyLoader;
+        private final StoryParser storyParser;
+
+        private Key(String storyPath, StoryLoader storyLoader, StoryParser storyParser) {
+            this.storyPath = storyPath;
+            this.storyLoader = storyLoader;
+            this.storyParser = storyParser;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return storyPath.equals(that.storyPath) && storyLoader == that.storyLoader
+                    && storyParser == that.storyParser;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * storyPath.hashCode() + System.identityHashCode(storyLoader))
+                    + System.identityHashCode(storyParser);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package org.jbehave.core.embedder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.IOUtils;
+import org.jbehave.core.annotations.ScenarioType;
+import org.jbehave.core.annotations.Scope;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.GivenStory;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.steps.BeforeOrAfterStep;
+import org.jbehave.core.steps.IndexedStepCandidates;
+import org.jbehave.core.steps.NullStepMonitor;
+import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepMonitor;
+
+/**
+ * <p>
+ * Computes the content key of a story, i.e. a hash which changes whenever the outcome of the story may change: the
+ * hash of the meta filter, of the story text, of its examples tables, of its given stories resolved recursively and
+ * of the step classes which its steps, and the composed steps of the matched composite steps, can match.
+ * </p>
+ * <p>
+ * The classes of the steps are hashed by their bytecode, as are the classes declaring the before and after steps,
+ * which may be performed for any story. All the candidates which can match a step are hashed, rather than only the
+ * one prioritised, so that the key changes with any class which can change the step performed.
+ * </p>
+ * <p>
+ * Each of these classes is hashed with its hierarchy, i.e. its superclasses and the interfaces it implements, bar
+ * those of the JDK. The other classes which the steps may call, e.g. helpers or page objects, are not hashed, as they
+ * cannot be known without analysing the bytecode: a change to them alone does not change the key.
+ * </p>
+ */
+public class StoryContentHasher {
+
+    private static final StepMonitor SILENT = new NullStepMonitor();
+
+    private final Configuration configuration;
+    private final AllStepCandidates allStepCandidates;
+    private final StoryCache storyCache;
+    private final MetaFilter filter;
+    private final Map<Class<?>, String> classHashes = new ConcurrentHashMap<>();
+    private volatile String lifecycleClassesHash;
+
+    public StoryContentHasher(Configuration configuration, AllStepCandidates allStepCandidates,
+            StoryCache storyCache, MetaFilter filter) {
+        this.configuration = configuration;
+        this.allStepCandidates = allStepCandidates;
+        this.storyCache = storyCache;
+        this.filter = filter;
+    }
+
+    /**
+     * Computes the content key of a story.
+     *
+     * @param story the Story
+     * @return The content key as an hexadecimal hash, or <code>null</code> if the story or any of its given stories
+     *         cannot be loaded from its path, e.g. if created from text
+     */
+    public String hashOf(Story story) {
+        try {
+            Hash hash = new Hash();
+            Content content = new Content();
+            // the filter may exclude scenarios of the story
+            hash.update(filter.asString());
+            hashStory(story, hash, content);
+            hash.update(lifecycleClassesHash());
+            for (String composite : content.composites) {
+                hash.update(composite);
+            }
+            hashClasses(content.classes, hash);
+            return hash.asString();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void hashStory(Story story, Hash hash, Content content) {
+        String path = story.getPath();
+        hash.update(path);
+        hash.update(configuration.storyLoader().loadStoryAsText(path));
+        if (!content.hashedPaths.add(path)) {
+            return;
+        }
+        hashGivenStories(story.getGivenStories(), path, hash, content);
+        Lifecycle lifecycle = story.getLifecycle();
+        hashTable(lifecycle.getExamplesTable(), hash);
+        List<String> lifecycleSteps = new ArrayList<>();
+        for (Scope scope : Scope.values()) {
+            lifecycleSteps.addAll(lifecycle.getBeforeSteps(scope));
+            lifecycleSteps.addAll(lifecycle.getAfterSteps(scope));
+        }
+        collectMatched(lifecycleSteps, content);
+        for (Scenario scenario : story.getScenarios()) {
+            hashGivenStories(scenario.getGivenStories(), path, hash, content);
+            hashTable(scenario.getExamplesTable(), hash);
+            collectMatched(scenario.getSteps(), content);
+        }
+    }
+
+    private void hashGivenStories(GivenStories givenStories, String storyPath, Hash hash, Content content) {
+        for (GivenStory givenStory : givenStories.getStories()) {
+            String path = configuration.pathCalculator().calculate(storyPath, givenStory.getPath());
+            hash.update(givenStory.asString());
+            hashStory(storyCache.storyOfPath(configuration, path), hash, content);
+        }
+    }
+
+    private void hashTable(ExamplesTable table, Hash hash) {
+        if (table != null) {
+            hash.update(table.asString());
+        }
+    }
+
+    private void collectMatched(List<String> steps, Content content) {
+        Keywords keywords = configuration.keywords();
+        List<StepCandidate> candidates = allStepCandidates.getRegularSteps();
+        String previousNonAndStep = null;
+        for (String step : steps) {
+            for (StepCandidate candidate : candidatesFor(candidates, step, previousNonAndStep)) {
+                if (candidate.matches(step, previousNonAndStep, SILENT)) {
+                    collectClasses(candidate, content.classes);
+                    // composite steps, e.g. loaded from composite paths, are hashed by their composed steps
+                    if (candidate.isComposite() && content.composites.add(candidate.getPatternAsString()
+                            + Arrays.toString(candidate.composedSteps()))) {
+                        collectMatched(Arrays.asList(candidate.composedSteps()), content);
+                    }
+                }
+            }
+            if (!keywords.isAndStep(step)) {
+                previousNonAndStep = step;
+            }
+        }
+    }
+
+    private List<StepCandidate> candidatesFor(List<StepCandidate> candidates, String step,
+            String previousNonAndStep) {
+        if (candidates instanceof IndexedStepCandidates) {
+            return ((IndexedStepCandidates) candidates).candidatesFor(step, previousNonAndStep);
+        }
+        return candidates;
+    }
+
+    private void collectClasses(StepCandidate candidate, Map<String, Class<?>> classes) {
+        Method method = candidate.getMethod();
+        if (method != null) {
+            collectHierarchy(method.getDeclaringClass(), classes);
+        }
+        Class<?> stepsType = candidate.getStepsType();
+        if (stepsType != null) {
+            collectHierarchy(stepsType, classes);
+        }
+    }
+
+    static void collectHierarchy(Class<?> type, Map<String, Class<?>> classes) {
+        // the classes of the JDK, loaded by the bootstrap class loader, do not change with the steps
+        if (type == null || type.getClassLoader() == null || classes.put(type.getName(), type) != null) {
+            return;
+        }
+        collectHierarchy(type.getSuperclass(), classes);
+        for (Class<?> implemented : type.getInterfaces()) {
+            collectHierarchy(implemented, classes);
+        }
+    }
+
+    private void hashClasses(Map<String, Class<?>> classes, Hash hash) {
+        for (Map.Entry<String, Class<?>> entry : classes.entrySet()) {
+            hash.update(entry.getKey());
+            hash.update(classHashes.computeIfAbsent(entry.getValue(), this::bytecodeHash));
+        }
+    }
+
+    private String lifecycleClassesHash() {
+        String hash = lifecycleClassesHash;
+        if (hash == null) {
+            Map<String, Class<?>> classes = new TreeMap<>();
+            List<BeforeOrAfterStep> steps = new ArrayList<>();
+            steps.addAll(allStepCandidates.getBeforeStoriesSteps());
+            steps.addAll(allStepCandidates.getAfterStoriesSteps());
+            for (boolean givenStory : new boolean[] { false, true }) {
+                steps.addAll(allStepCandidates.getBeforeStorySteps(givenStory));
+                steps.addAll(allStepCandidates.getAfterStorySteps(givenStory));
+            }
+            for (ScenarioType scenarioType : ScenarioType.values()) {
+                steps.addAll(allStepCandidates.getBeforeScenarioSteps(scenarioType));
+                steps.addAll(allStepCandidates.getAfterScenarioSteps(scenarioType));
+            }
+            for (BeforeOrAfterStep step : steps) {
+                collectHierarchy(step.getMethod().getDeclaringClass(), classes);
+            }
+            Hash classesHash = new Hash();
+            hashClasses(classes, classesHash);
+            hash = classesHash.asString();
+            lifecycleClassesHash = hash;
+        }
+        return hash;
+    }
+
+    private String bytecodeHash(Class<?> type) {
+        Hash hash = new Hash();
+        String resource = type.getName().replace('.', '/') + ".class";
+        ClassLoader classLoader = type.getClassLoader() != null ? type.getClassLoader()
+                : ClassLoader.getSystemClassLoader();
+        try (InputStream bytecode = classLoader.getResourceAsStream(resource)) {
+            if (bytecode == null) {
+                throw new BytecodeNotFound(type, null);
+            }
+            hash.update(IOUtils.toByteArray(bytecode));
+        } catch (IOException e) {
+            throw new BytecodeNotFound(type, e);
+        }
+        return hash.asString();
+    }
+
+    private static class Content {
+
+        private final Map<String, Class<?>> classes = new TreeMap<>();
+        private final Set<String> composites = new TreeSet<>();
+        private final Set<String> hashedPaths = new HashSet<>();
+    }
+
+    private static class Hash {
+
+        private final MessageDigest digest;
+
+        Hash() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void update(String text) {
+            update(text.getBytes(StandardCharsets.UTF_8));
+            // separates the texts, so that their concatenation is hashed unambiguously
+            digest.update((byte) 0);
+        }
+
+        void update(byte[] bytes) {
+            digest.update(bytes);
+        }
+
+        String asString() {
+            return String.format("%064x", new BigInteger(1, digest.digest()));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    public static class BytecodeNotFound extends RuntimeException {
+
+        public BytecodeNotFound(Class<?> type, Throwable cause) {
+            super(type.getName(), cause);
+        }
+    }
+}
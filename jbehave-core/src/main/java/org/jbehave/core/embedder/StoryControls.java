@@ -27,6 +27,8 @@ public class StoryControls {
     private String scenarioMetaPrefix = "";
     private boolean skipStoryIfGivenStoryFailed = false;
     private NumberFormat storyIndexFormat;
+    private boolean parallelScenarios = false;
+    private int parallelExamples = 1;
     private final ThreadLocal<StoryControls> currentStoryControls = ThreadLocal
             .withInitial(() -> new StoryControls(this));
 
@@ -42,6 +44,8 @@ public class StoryControls {
         scenarioMetaPrefix = storyControls.scenarioMetaPrefix;
         skipStoryIfGivenStoryFailed = storyControls.skipStoryIfGivenStoryFailed;
         storyIndexFormat = storyControls.storyIndexFormat;
+        parallelScenarios = storyControls.parallelScenarios;
+        parallelExamples = storyControls.parallelExamples;
         // should not be used
         currentStoryControls.set(null);
     }
@@ -69,6 +73,16 @@ public class StoryControls {
         currentStoryControls.remove();
     }
 
+    /**
+     * Uses the current story controls of another thread on the current thread, e.g. to perform the scenarios of a
+     * story in parallel with the controls of the thread performing the story.
+     *
+     * @param currentStoryControls the current StoryControls of the other thread
+     */
+    public void useCurrentStoryControls(StoryControls currentStoryControls) {
+        this.currentStoryControls.set(currentStoryControls);
+    }
+
     public boolean skipScenariosAfterFailure() {
         return currentStoryControls().skipScenariosAfterFailure;
     }
@@ -97,6 +111,29 @@ public class StoryControls {
         return currentStoryControls().skipStoryIfGivenStoryFailed;
     }
 
+    /**
+     * Whether the scenarios of a story are performed in parallel, unless overridden by the story meta
+     * {@link org.jbehave.core.embedder.PerformableTree.PerformableStory#PARALLEL_SCENARIOS}. The scenarios are then
+     * performed independently of one another, each from the state of the story once its before steps and given
+     * stories are performed.
+     *
+     * @return A boolean, <code>true</code> if scenarios are performed in parallel
+     */
+    public boolean parallelScenarios() {
+        return currentStoryControls().parallelScenarios;
+    }
+
+    /**
+     * The maximum number of examples of a scenario performed in parallel, unless overridden by the scenario meta
+     * {@link org.jbehave.core.embedder.PerformableTree.PerformableScenario#PARALLEL_EXAMPLES}. The examples are then
+     * performed independently of one another, each from the state of the scenario, and reported in their order.
+     *
+     * @return The number of examples performed in parallel, <code>1</code> if performed one after the other
+     */
+    public int parallelExamples() {
+        return currentStoryControls().parallelExamples;
+    }
+
     public NumberFormat storyIndexFormat() {
         return Optional.ofNullable(currentStoryControls().storyIndexFormat).orElseGet(() -> new DecimalFormat(" [0]"));
     } 
@@ -153,6 +190,16 @@ public class StoryControls {
         return this;
     }
 
+    public StoryControls doParallelScenarios(boolean parallelScenarios) {
+        this.parallelScenarios = parallelScenarios;
+        return this;
+    }
+
+    public StoryControls doParallelExamples(int parallelExamples) {
+        this.parallelExamples = parallelExamples;
+        return this;
+    }
+
     public StoryControls useStoryIndexFormat(NumberFormat storyIndexFormat) {
         this.storyIndexFormat = storyIndexFormat;
         return this;
@@ -0,0 +1,208 @@
+package org.jbehave.core.embedder;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.jbehave.core.model.Story;
+
+/**
+ * Holds the durations of the stories of a previous run, as written by the {@link StoryManager} to
+ * {@link #STORY_DURATIONS}, so that the stories of the next run can be scheduled longest first: submitting the
+ * longest stories first avoids a long story starting last and extending the run while the other threads are idle.
+ * The shards of stories run separately are balanced by the durations pinned for all of them, as read via
+ * {@link #ofShards(EmbedderControls)}, rather than by the durations written by each run.
+ */
+public class StoryDurations {
+
+    public static final String STORY_DURATIONS = "storyDurations.props";
+
+    private final Properties durations;
+
+    public StoryDurations(Properties durations) {
+        this.durations = durations;
+    }
+
+    /**
+     * Reads the story durations from the given output directory.
+     *
+     * @param outputDirectory the output directory of the previous run
+     * @return The StoryDurations, empty if none could be read
+     */
+    public static StoryDurations read(File outputDirectory) {
+        Properties durations = new Properties();
+        File file = new File(outputDirectory, STORY_DURATIONS);
+        if (file.exists()) {
+            try (Reader reader = new FileReader(file)) {
+                durations.load(reader);
+            } catch (IOException e) {
+                // the stories are scheduled as unknown
+            }
+        }
+        return new StoryDurations(durations);
+    }
+
+    /**
+     * Reads the story durations the shards are balanced by, from the file pinned by
+     * {@link EmbedderControls#shardDurations()}. The file is never written by the runs, so that every shard reading
+     * it splits the stories in the same way.
+     *
+     * @param embedderControls the EmbedderControls
+     * @return The StoryDurations, empty if no file is pinned, the shards then being balanced by the default story
+     *         duration only
+     * @throws ShardDurationsNotReadable if the pinned file cannot be read
+     */
+    public static StoryDurations ofShards(EmbedderControls embedderControls) {
+        Properties durations = new Properties();
+        String shardDurations = embedderControls.shardDurations();
+        if (shardDurations != null) {
+            // unlike the durations of the previous run, the pinned durations are required by all the shards
+            try (Reader reader = new FileReader(shardDurations)) {
+                durations.load(reader);
+            } catch (IOException e) {
+                throw new ShardDurationsNotReadable(shardDurations, e);
+            }
+        }
+        return new StoryDurations(durations);
+    }
+
+    /**
+     * Returns the duration of a story in the previous run.
+     *
+     * @param path the story path
+     * @return The duration in millis or <code>-1</code> if unknown
+     */
+    public long durationInMillis(String path) {
+        String duration = durations.getProperty(path);
+        if (duration != null) {
+            try {
+                return Long.parseLong(duration.trim());
+            } catch (NumberFormatException e) {
+                // the story is unknown
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the duration estimated for a story, i.e. its duration in the previous run if known.
+     *
+     * @param path the story path
+     * @param defaultDurationInMillis the duration of unknown stories, or if negative the average duration of the
+     *            stories of the previous run
+     * @return The estimated duration in millis
+     */
+    public long estimatedDurationInMillis(String path, long defaultDurationInMillis) {
+        long duration = durationInMillis(path);
+        if (duration >= 0) {
+            return duration;
+        }
+        return defaultDurationInMillis >= 0 ? defaultDurationInMillis : averageDurationInMillis();
+    }
+
+    private long averageDurationInMillis() {
+        // the totals of the run are not story paths
+        long total = 0;
+        int count = 0;
+        for (String path : durations.stringPropertyNames()) {
+            if (!path.equals("total") && !path.equals("threads") && !path.equals("threadAverage")) {
+                long duration = durationInMillis(path);
+                if (duration >= 0) {
+                    total += duration;
+                    count++;
+                }
+            }
+        }
+        return count > 0 ? total / count : 0;
+    }
+
+    /**
+     * Orders the stories by decreasing estimated duration, i.e. longest processing time first.
+     *
+     * @param defaultDurationInMillis the duration of unknown stories, or if negative the average duration of the
+     *            stories of the previous run
+     * @return The Comparator of stories
+     */
+    public Comparator<Story> longestFirst(long defaultDurationInMillis) {
+        long defaultDuration = defaultDurationInMillis >= 0 ? defaultDurationInMillis : averageDurationInMillis();
+        return Comparator.comparingLong((Story story) -> estimatedDurationInMillis(story.getPath(), defaultDuration))
+                .reversed();
+    }
+
+    /**
+     * Splits the story paths into shards of balanced estimated durations, by greedy bin packing: the paths are
+     * assigned in decreasing order of their estimated durations, ties broken by path, each to the shard with the
+     * least total duration so far, ties broken by the fewest paths, e.g. if no durations are known, then by index.
+     * The split only depends on the set of paths and on the durations, so that the shards run separately compute the
+     * same split without any coordination.
+     *
+     * @param storyPaths the story paths
+     * @param shardIndex the index of the shard, from <code>0</code> to <code>shardCount - 1</code>
+     * @param shardCount the number of shards
+     * @param defaultDurationInMillis the duration of unknown stories, or if negative the average duration of the
+     *            stories of the previous run
+     * @return The story paths of the shard, in their given order
+     */
+    public List<String> shard(List<String> storyPaths, int shardIndex, int shardCount,
+            long defaultDurationInMillis) {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Invalid shard " + shardIndex + " of " + shardCount);
+        }
+        long defaultDuration = defaultDurationInMillis >= 0 ? defaultDurationInMillis : averageDurationInMillis();
+        List<String> paths = new ArrayList<>(new TreeSet<>(storyPaths));
+        paths.sort(Comparator.comparingLong((String path) -> estimatedDurationInMillis(path, defaultDuration))
+                .reversed());
+        long[] totals = new long[shardCount];
+        int[] counts = new int[shardCount];
+        Set<String> pathsOfShard = new HashSet<>();
+        for (String path : paths) {
+            int shard = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (totals[i] < totals[shard] || (totals[i] == totals[shard] && counts[i] < counts[shard])) {
+                    shard = i;
+                }
+            }
+            totals[shard] += estimatedDurationInMillis(path, defaultDuration);
+            counts[shard]++;
+            if (shard == shardIndex) {
+                pathsOfShard.add(path);
+            }
+        }
+        return storyPaths.stream().filter(pathsOfShard::contains).collect(Collectors.toList());
+    }
+
+    /**
+     * Computes the ideal makespan of a run, i.e. the lower bound of its duration: the stories cannot be run faster
+     * than their total duration shared by all the threads, nor than the longest story.
+     *
+     * @param durationsInMillis the durations of the stories
+     * @param threads the number of threads running the stories
+     * @return The ideal makespan in millis
+     */
+    public static long idealMakespanInMillis(Iterable<Long> durationsInMillis, int threads) {
+        long total = 0;
+        long longest = 0;
+        for (long duration : durationsInMillis) {
+            total += duration;
+            longest = Math.max(longest, duration);
+        }
+        return Math.max(longest, total / Math.max(1, threads));
+    }
+
+    @SuppressWarnings("serial")
+    public static class ShardDurationsNotReadable extends RuntimeException {
+
+        public ShardDurationsNotReadable(String path, Throwable cause) {
+            super("Shard durations could not be read from " + path, cause);
+        }
+    }
+}
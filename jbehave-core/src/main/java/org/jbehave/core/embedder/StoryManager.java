@@ -1,23 +1,40 @@
 package org.jbehave.core.embedder;
 
 import java.io.File;
+import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.embedder.PerformableTree.PerformableRoot;
 import org.jbehave.core.embedder.PerformableTree.RunContext;
+import org.jbehave.core.embedder.PerformableTree.Status;
 import org.jbehave.core.embedder.StoryTimeouts.TimeoutParser;
 import org.jbehave.core.failures.BatchFailures;
 import org.jbehave.core.model.Story;
@@ -29,6 +46,8 @@ import org.jbehave.core.steps.StepCollector.Stage;
  * Manages the execution and outcomes of running stories. While each story is
  * run by the {@link PerformableTree}, the manager is responsible for the concurrent
  * submission and monitoring of their execution via the {@link ExecutorService}.
+ * The stories are monitored as events: each story is handled once it is done and
+ * its timeout is checked when it is due, as scheduled on a timer.
  */
 public class StoryManager {
 
@@ -40,8 +59,14 @@ public class StoryManager {
     private final PerformableTree performableTree;
     private final Map<String, RunningStory> runningStories = new HashMap<>();
     private final Map<MetaFilter, List<Story>> excludedStories = new HashMap<>();
+    private final BlockingQueue<RunningStory> storyEvents = new LinkedBlockingQueue<>();
+    private final Map<String, String> storyKeys = new HashMap<>();
+    private final List<Story> storiesNotRun = new ArrayList<>();
     private RunContext context;
+    private StoryResultCache storyResultCache;
+    private boolean allStoriesRun = true;
     private StoryTimeouts timeouts;
+    private ScheduledExecutorService timer;
     
     public StoryManager(Configuration configuration,
             InjectableStepsFactory stepsFactory,
@@ -85,6 +110,16 @@ public class StoryManager {
         return performableTree.getRoot();
     }
 
+    /**
+     * The stories of the last run which were not run again, as they did not fail in the previous runs or are
+     * unchanged since their last successful run, and whose previous reports are kept.
+     *
+     * @return The List of Story not run again
+     */
+    public List<Story> storiesNotRun() {
+        return storiesNotRun;
+    }
+
     public List<StoryOutcome> outcomes() {
         List<StoryOutcome> outcomes = new ArrayList<>();
         for (RunningStory story : runningStories.values()) {
@@ -104,12 +139,47 @@ public class StoryManager {
         AllStepCandidates allStepCandidates = new AllStepCandidates(configuration.stepConditionMatcher(),
                 stepsFactory.createCandidateSteps());
         context = performableTree.newRunContext(configuration, allStepCandidates, embedderMonitor, filter, failures);
+        context.useScenarioExecutor(executorService);
+
+        // run only the stories of the shard, if split into shards
+        List<Story> storiesToRun = stories;
+        if (embedderControls.shardCount() > 1) {
+            storiesToRun = storiesOfShard(storiesToRun);
+        }
+
+        // run again only the stories which failed or were pending in the previous runs
+        List<Story> storiesOfRun = storiesToRun;
+        if (embedderControls.rerunFailedStories()) {
+            storiesToRun = failedStories(storiesToRun);
+        }
+
+        // skip stories unchanged since their last successful run
+        storyResultCache = null;
+        if (embedderControls.skipUnchangedStories()) {
+            storiesToRun = changedStories(storiesToRun, new StoryContentHasher(configuration, allStepCandidates,
+                    context.storyCache(), filter));
+        }
+        allStoriesRun = storiesToRun.size() == stories.size();
+        storiesNotRun.clear();
+        Set<Story> run = Collections.newSetFromMap(new IdentityHashMap<>());
+        run.addAll(storiesToRun);
+        for (Story story : storiesOfRun) {
+            if (!run.contains(story)) {
+                storiesNotRun.add(story);
+            }
+        }
 
-        // add stories
-        performableTree.addStories(context, stories);
+        // add stories, or only the steps around them if stories are added when performed
+        if (embedderControls.streamStories()) {
+            performableTree.addBeforeAndAfterStoriesSteps(context);
+        } else if (embedderControls.buildStoriesInParallel()) {
+            performableTree.addStories(context, storiesToRun, ForkJoinPool.commonPool());
+        } else {
+            performableTree.addStories(context, storiesToRun);
+        }
 
         // perform stories
-        performStories(context, performableTree, stories);
+        performStories(context, performableTree, storiesToRun);
 
         // collect failures
         failures.putAll(context.getFailures());
@@ -118,10 +188,77 @@ public class StoryManager {
 
     private void runStories(RunContext context, List<Story> stories) {
         stories.stream()
-                .sorted(configuration.storyExecutionComparator())
+                .sorted(storyExecutionComparator())
                 .forEach(story -> filterRunning(context, story));
     }
 
+    private List<Story> storiesOfShard(List<Story> stories) {
+        StoryDurations storyDurations = StoryDurations.ofShards(embedderControls);
+        List<String> paths = stories.stream().map(Story::getPath).collect(Collectors.toList());
+        int shardIndex = embedderControls.shardIndex();
+        int shardCount = embedderControls.shardCount();
+        List<String> pathsOfShard = storyDurations.shard(paths, shardIndex, shardCount,
+                embedderControls.defaultStoryDurationInMillis());
+        embedderMonitor.storiesSharded(shardIndex, shardCount, pathsOfShard);
+        Set<String> shard = new HashSet<>(pathsOfShard);
+        return stories.stream().filter(story -> shard.contains(story.getPath())).collect(Collectors.toList());
+    }
+
+    private List<Story> failedStories(List<Story> stories) {
+        StoryStatuses storyStatuses = StoryStatuses.read(configuration.storyReporterBuilder().outputDirectory());
+        if (storyStatuses.isEmpty()) {
+            // no story was run before
+            return stories;
+        }
+        List<Story> failed = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        for (Story story : stories) {
+            // the stories without a status, e.g. added since, are run too
+            if (storyStatuses.status(story.getPath()) == null || storyStatuses.isFailedOrPending(story.getPath())) {
+                failed.add(story);
+            } else {
+                skipped.add(story.getPath());
+            }
+        }
+        if (!skipped.isEmpty()) {
+            embedderMonitor.storiesSkipped(skipped);
+        }
+        return failed;
+    }
+
+    private List<Story> changedStories(List<Story> stories, StoryContentHasher storyContentHasher) {
+        storyResultCache = StoryResultCache.read(configuration.storyReporterBuilder().outputDirectory());
+        storyKeys.clear();
+        List<Story> changed = new ArrayList<>();
+        List<String> unchanged = new ArrayList<>();
+        for (Story story : stories) {
+            String key = storyContentHasher.hashOf(story);
+            if (storyResultCache.isUnchanged(story.getPath(), key)) {
+                unchanged.add(story.getPath());
+            } else {
+                if (key != null) {
+                    storyKeys.put(story.getPath(), key);
+                }
+                changed.add(story);
+            }
+        }
+        if (!unchanged.isEmpty()) {
+            embedderMonitor.storiesUnchanged(unchanged);
+        }
+        return changed;
+    }
+
+    private Comparator<Story> storyExecutionComparator() {
+        Comparator<Story> comparator = configuration.storyExecutionComparator();
+        if (embedderControls.scheduleLongestStoriesFirst()) {
+            StoryDurations storyDurations = StoryDurations.read(configuration.storyReporterBuilder()
+                    .outputDirectory());
+            return storyDurations.longestFirst(embedderControls.defaultStoryDurationInMillis())
+                    .thenComparing(comparator);
+        }
+        return comparator;
+    }
+
     private void performStories(RunContext context,
             PerformableTree performableTree, List<Story> stories) {
         // before stories
@@ -167,65 +304,133 @@ public class StoryManager {
         if (runningStories.values().isEmpty()) {
             return;
         }
-        boolean allDone = false;
-        boolean started = false;
-        while (!allDone || !started) {
-            allDone = true;
-            for (RunningStory runningStory : runningStories.values()) {
-                if (runningStory.isStarted()) {
-                    started = true;
-                    Story story = runningStory.getStory();
-                    Future<ThrowableStory> future = runningStory.getFuture();
-                    if (!future.isDone()) {
-                        allDone = false;
-                        StoryDuration duration = runningStory.getDuration();
-                        runningStory.updateDuration();
-                        if (context.isCancelled(story)) {
-                            if (duration.cancelTimedOut()) {
-                                future.cancel(true);
-                            }
-                            continue;
-                        }
-                        if (duration.timedOut()) {
-                            embedderMonitor.storyTimeout(story, duration);
-                            context.cancelStory(story, duration);
-                            if (embedderControls.failOnStoryTimeout()) {
-                                throw new StoryExecutionFailed(story.getPath(),
-                                        new StoryTimedOut(duration));
-                            }
-                            continue;
-                        }
-                    } else {
-                        try {
-                            ThrowableStory throwableStory = future.get();
-                            Throwable throwable = throwableStory.getThrowable();
-                            if (throwable != null) {
-                                context.addFailure(story, throwable);
-                                if (!embedderControls.ignoreFailureInStories()) {
-                                    continue;
-                                }
-                            }
-                        } catch (Throwable e) {
-                            context.addFailure(story, e);
-                            if (!embedderControls.ignoreFailureInStories()) {
-                                continue;
-                            }
-                        }
-                    }
+        Set<RunningStory> pendingStories = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (RunningStory runningStory : runningStories.values()) {
+            if (runningStory.isDone()) {
+                storyDone(context, runningStory);
+            } else {
+                pendingStories.add(runningStory);
+            }
+        }
+        try {
+            // stories are handled as they are done or reach their timeout, as notified by their tasks and timer
+            while (!pendingStories.isEmpty()) {
+                RunningStory runningStory = nextStoryEvent();
+                if (runningStory == null || !pendingStories.contains(runningStory)) {
+                    continue;
+                }
+                if (runningStory.isDone()) {
+                    pendingStories.remove(runningStory);
+                    storyDone(context, runningStory);
                 } else {
-                    started = false;
-                    allDone = false;
+                    checkTimeout(context, runningStory);
                 }
             }
-            tickTock();
+        } finally {
+            shutdownTimer();
         }
         writeStoryDurations(runningStories.values());
+        writeStoryResults(runningStories.values());
+        writeStoryStatuses(runningStories.values());
+        reportMakespan(runningStories.values());
+    }
+
+    private void reportMakespan(Collection<RunningStory> runningStories) {
+        long startedAtMillis = Long.MAX_VALUE;
+        long endedAtMillis = 0;
+        List<Long> durations = new ArrayList<>();
+        for (RunningStory runningStory : runningStories) {
+            if (runningStory.isStarted()) {
+                startedAtMillis = Math.min(startedAtMillis, runningStory.getStartedAtMillis());
+                endedAtMillis = Math.max(endedAtMillis, runningStory.getEndedAtMillis());
+                durations.add(runningStory.getDurationInMillis());
+            }
+        }
+        if (!durations.isEmpty()) {
+            long makespan = endedAtMillis - startedAtMillis;
+            embedderMonitor.storiesMakespan(makespan,
+                    StoryDurations.idealMakespanInMillis(durations, embedderControls.threads()));
+        }
+    }
+
+    private RunningStory nextStoryEvent() {
+        try {
+            return storyEvents.take();
+        } catch (InterruptedException e) {
+            // swallow exception quietly
+            return null;
+        }
+    }
+
+    private void storyDone(RunContext context, RunningStory runningStory) {
+        Story story = runningStory.getStory();
+        if (runningStory.isStarted()) {
+            // the duration is up to the time the story ended, rather than the time it is handled
+            runningStory.getDuration();
+            runningStory.updateDuration();
+        }
+        try {
+            ThrowableStory throwableStory = runningStory.getFuture().get();
+            Throwable throwable = throwableStory.getThrowable();
+            if (throwable != null) {
+                context.addFailure(story, throwable);
+            }
+        } catch (Throwable e) {
+            context.addFailure(story, e);
+        }
+    }
+
+    private void checkTimeout(RunContext context, RunningStory runningStory) {
+        Story story = runningStory.getStory();
+        StoryDuration duration = runningStory.getDuration();
+        runningStory.updateDuration();
+        if (context.isCancelled(story)) {
+            if (duration.cancelTimedOut()) {
+                // the task notifies its cancellation as it is then done
+                runningStory.getFuture().cancel(true);
+            } else {
+                scheduleTimeoutCheck(runningStory, duration.millisUntilCancelTimedOut());
+            }
+            return;
+        }
+        if (duration.timedOut()) {
+            embedderMonitor.storyTimeout(story, duration);
+            context.cancelStory(story, duration);
+            if (embedderControls.failOnStoryTimeout()) {
+                throw new StoryExecutionFailed(story.getPath(),
+                        new StoryTimedOut(duration));
+            }
+            scheduleTimeoutCheck(runningStory, duration.millisUntilCancelTimedOut());
+            return;
+        }
+        scheduleTimeoutCheck(runningStory, duration.millisUntilTimedOut());
+    }
+
+    private synchronized void scheduleTimeoutCheck(RunningStory runningStory, long delayInMillis) {
+        if (timer == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "jbehave-story-timeouts");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            timer = executor;
+        }
+        runningStory.timeoutCheck = timer.schedule(() -> storyEvents.add(runningStory), delayInMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void shutdownTimer() {
+        if (timer != null) {
+            timer.shutdownNow();
+            timer = null;
+        }
     }
 
     protected void writeStoryDurations(Collection<RunningStory> runningStories) {
         // collect story durations and cancel any outstanding execution which is
-        // not done before returning
-        Properties storyDurations = new Properties();
+        // not done before returning, keeping the previous durations of the stories not run
+        Properties storyDurations = allStoriesRun ? new Properties() : read(StoryDurations.STORY_DURATIONS);
         long total = 0;
         for (RunningStory runningStory : runningStories) {
             long durationInMillis = runningStory.getDurationInMillis();
@@ -243,7 +448,60 @@ public class StoryManager {
         storyDurations.setProperty("threads", Long.toString(threads));
         storyDurations.setProperty("threadAverage",
                 Long.toString(threadAverage));
-        write(storyDurations, "storyDurations.props");
+        write(storyDurations, StoryDurations.STORY_DURATIONS);
+    }
+
+    private void writeStoryResults(Collection<RunningStory> runningStories) {
+        // the stories of a dry run are successful without being performed
+        if (storyResultCache == null || configuration.storyControls().dryRun()) {
+            return;
+        }
+        for (RunningStory runningStory : runningStories) {
+            String path = runningStory.getStory().getPath();
+            storyResultCache.storyPerformed(path, storyKeys.get(path), runningStory.isSuccessful());
+        }
+        try {
+            storyResultCache.write(configuration.storyReporterBuilder().outputDirectory());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void writeStoryStatuses(Collection<RunningStory> runningStories) {
+        // the stories of a dry run are successful without being performed
+        if (configuration.storyControls().dryRun()) {
+            return;
+        }
+        File outputDirectory = configuration.storyReporterBuilder().outputDirectory();
+        StoryStatuses storyStatuses = StoryStatuses.read(outputDirectory);
+        boolean performed = false;
+        for (RunningStory runningStory : runningStories) {
+            Status status = runningStory.getStatus();
+            if (status != null) {
+                storyStatuses.statusIs(runningStory.getStory().getPath(), status);
+                performed = true;
+            }
+        }
+        if (performed) {
+            try {
+                storyStatuses.write(outputDirectory);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private Properties read(String name) {
+        Properties p = new Properties();
+        File file = new File(configuration.storyReporterBuilder().outputDirectory(), name);
+        if (file.exists()) {
+            try (Reader input = new FileReader(file)) {
+                p.load(input);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return p;
     }
 
     private void write(Properties p, String name) {
@@ -259,16 +517,47 @@ public class StoryManager {
         }
     }
 
-    private void tickTock() {
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            // swallow exception quietly
-        }
+    private synchronized RunningStory submit(EnqueuedStory enqueuedStory) {
+        // the timeout is resolved upfront, so that invalid timeouts fail the run rather than the story
+        enqueuedStory.getTimeoutInSecs();
+        StoryTask task = new StoryTask(enqueuedStory);
+        RunningStory runningStory = new RunningStory(enqueuedStory, task);
+        task.runningStory = runningStory;
+        executorService.execute(task);
+        return runningStory;
     }
 
-    private synchronized RunningStory submit(EnqueuedStory enqueuedStory) {
-        return new RunningStory(enqueuedStory, executorService.submit(enqueuedStory));
+    /**
+     * The task running an enqueued story, which schedules the check of the story timeout when it starts and
+     * notifies the manager when it is done, either performed or cancelled.
+     */
+    private class StoryTask extends FutureTask<ThrowableStory> {
+
+        private RunningStory runningStory;
+
+        StoryTask(EnqueuedStory enqueuedStory) {
+            super(enqueuedStory);
+        }
+
+        @Override
+        public void run() {
+            long timeoutInSecs = runningStory.enqueuedStory.getTimeoutInSecs();
+            if (timeoutInSecs != 0 && !isDone()) {
+                scheduleTimeoutCheck(runningStory, new StoryDuration(timeoutInSecs).millisUntilTimedOut());
+            }
+            super.run();
+        }
+
+        @Override
+        protected void done() {
+            // on the worker thread as soon as performed, or on the cancelling thread
+            runningStory.endedAtMillis = System.currentTimeMillis();
+            ScheduledFuture<?> timeoutCheck = runningStory.timeoutCheck;
+            if (timeoutCheck != null) {
+                timeoutCheck.cancel(false);
+            }
+            storyEvents.add(runningStory);
+        }
     }
 
     static class EnqueuedStory implements Callable<ThrowableStory> {
@@ -279,7 +568,9 @@ public class StoryManager {
         private final EmbedderMonitor embedderMonitor;
         private final Story story;
         private final StoryTimeouts timeouts;
-        private long startedAtMillis;
+        private volatile long startedAtMillis;
+        private Long timeoutInSecs;
+        private volatile Status status;
 
         public EnqueuedStory(PerformableTree performableTree,
                 RunContext context, EmbedderControls embedderControls,
@@ -294,18 +585,32 @@ public class StoryManager {
 
         @Override
         public ThrowableStory call() {
+            return context.performInScope(this::performStory);
+        }
+
+        private ThrowableStory performStory() {
             startedAtMillis = System.currentTimeMillis();
             String storyPath = story.getPath();
+            boolean streamed = embedderControls.streamStories();
             try {
                 embedderMonitor.runningStory(storyPath);
+                if (streamed) {
+                    performableTree.addStory(context, story);
+                }
                 performableTree.perform(context, story);
+                status = performedStatus();
             } catch (Throwable e) {
+                status = Status.FAILED;
                 if (embedderControls.ignoreFailureInStories()) {
                     embedderMonitor.storyFailed(storyPath, e);
                 } else {
                     return new ThrowableStory(story, new StoryExecutionFailed(
                             storyPath, e));
                 }
+            } finally {
+                if (streamed) {
+                    performableTree.releaseStory(story);
+                }
             }
             return new ThrowableStory(story, null);
         }
@@ -318,8 +623,31 @@ public class StoryManager {
             return startedAtMillis;
         }
 
+        private Status performedStatus() {
+            // the story run context is only known once the story is performed by the tree
+            if (context.state() == null || context.path() == null) {
+                return null;
+            }
+            if (context.hasFailed()) {
+                return Status.FAILED;
+            }
+            return context.isStoryPending() ? Status.PENDING : Status.SUCCESSFUL;
+        }
+
+        /**
+         * Returns the status of the story once performed.
+         *
+         * @return The Status or <code>null</code> if unknown
+         */
+        public Status getStatus() {
+            return status;
+        }
+
         public long getTimeoutInSecs() {
-            return timeouts.getTimeoutInSecs(story);
+            if (timeoutInSecs == null) {
+                timeoutInSecs = timeouts.getTimeoutInSecs(story);
+            }
+            return timeoutInSecs;
         }
 
     }
@@ -365,6 +693,8 @@ public class StoryManager {
         private EnqueuedStory enqueuedStory;
         private Future<ThrowableStory> future;
         private StoryDuration duration;
+        private volatile ScheduledFuture<?> timeoutCheck;
+        private volatile long endedAtMillis;
 
         public RunningStory(EnqueuedStory enqueuedStory,
                 Future<ThrowableStory> future) {
@@ -384,7 +714,7 @@ public class StoryManager {
             if (duration == null) {
                 return 0;
             }
-            return duration.getDurationInSecs() * 1000;
+            return duration.getDurationInMillis();
         }
 
         public StoryDuration getDuration() {
@@ -395,7 +725,11 @@ public class StoryManager {
         }
 
         public void updateDuration() {
-            duration.update();
+            if (endedAtMillis != 0) {
+                duration.update(endedAtMillis);
+            } else {
+                duration.update();
+            }
         }
 
         public boolean isDone() {
@@ -412,10 +746,42 @@ public class StoryManager {
             }
             return false;
         }
-        
+
+        /**
+         * Returns the status of the story once done, failed if cancelled or failed with an exception.
+         *
+         * @return The Status or <code>null</code> if not done or unknown
+         */
+        public Status getStatus() {
+            if (!isDone()) {
+                return null;
+            }
+            if (future.isCancelled() || isFailed()) {
+                return Status.FAILED;
+            }
+            return enqueuedStory.getStatus();
+        }
+
+        public boolean isSuccessful() {
+            return getStatus() == Status.SUCCESSFUL;
+        }
+
         public boolean isStarted() {
             return enqueuedStory.getStartedAtMillis() != 0;
         }
+
+        public long getStartedAtMillis() {
+            return enqueuedStory.getStartedAtMillis();
+        }
+
+        /**
+         * Returns the time the story ended at, i.e. was performed or cancelled.
+         *
+         * @return The time in millis, or now if not ended yet
+         */
+        public long getEndedAtMillis() {
+            return endedAtMillis != 0 ? endedAtMillis : System.currentTimeMillis();
+        }
     }
 
     public static class StoryOutcome {
@@ -0,0 +1,85 @@
+package org.jbehave.core.embedder;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Properties;
+
+/**
+ * Holds the content keys of the stories which were successful in the previous runs, as computed by the
+ * {@link StoryContentHasher} and written by the {@link StoryManager} to {@link #STORY_RESULTS}, so that the stories
+ * whose key is unchanged can be skipped when the unchanged stories are skipped, as controlled by
+ * {@link EmbedderControls#skipUnchangedStories()}.
+ */
+public class StoryResultCache {
+
+    public static final String STORY_RESULTS = "storyResults.props";
+
+    private final Properties results;
+
+    public StoryResultCache(Properties results) {
+        this.results = results;
+    }
+
+    /**
+     * Reads the story results from the given output directory.
+     *
+     * @param outputDirectory the output directory of the previous runs
+     * @return The StoryResultCache, empty if none could be read
+     */
+    public static StoryResultCache read(File outputDirectory) {
+        Properties results = new Properties();
+        File file = new File(outputDirectory, STORY_RESULTS);
+        if (file.exists()) {
+            try (Reader reader = new FileReader(file)) {
+                results.load(reader);
+            } catch (IOException e) {
+                // all the stories are run
+            }
+        }
+        return new StoryResultCache(results);
+    }
+
+    /**
+     * Writes the story results to the given output directory.
+     *
+     * @param outputDirectory the output directory of the run
+     * @throws IOException if the story results cannot be written
+     */
+    public synchronized void write(File outputDirectory) throws IOException {
+        outputDirectory.mkdirs();
+        try (Writer writer = new FileWriter(new File(outputDirectory, STORY_RESULTS))) {
+            results.store(writer, getClass().getName());
+        }
+    }
+
+    /**
+     * Whether a story was successful in a previous run with the same content key.
+     *
+     * @param path the story path
+     * @param key the content key of the story, or <code>null</code> if it could not be computed
+     * @return A boolean, <code>true</code> if the story can be skipped
+     */
+    public synchronized boolean isUnchanged(String path, String key) {
+        return key != null && key.equals(results.getProperty(path));
+    }
+
+    /**
+     * Records the outcome of a story, keeping its content key only if successful.
+     *
+     * @param path the story path
+     * @param key the content key of the story, or <code>null</code> if it could not be computed
+     * @param successful whether the story was successful
+     */
+    public synchronized void storyPerformed(String path, String key, boolean successful) {
+        if (successful && key != null) {
+            results.setProperty(path, key);
+        } else {
+            results.remove(path);
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package org.jbehave.core.embedder;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Properties;
+
+import org.jbehave.core.embedder.PerformableTree.Status;
+
+/**
+ * Holds the last known {@link Status} of the stories, as written by the {@link StoryManager} to
+ * {@link #STORY_STATUSES} after each run, so that only the stories which failed or were pending can be run again, as
+ * controlled by {@link EmbedderControls#rerunFailedStories()}. The statuses of the stories which are not run keep
+ * their value of the previous runs.
+ */
+public class StoryStatuses {
+
+    public static final String STORY_STATUSES = "storyStatuses.props";
+
+    private final Properties statuses;
+
+    public StoryStatuses(Properties statuses) {
+        this.statuses = statuses;
+    }
+
+    /**
+     * Reads the story statuses from the given output directory.
+     *
+     * @param outputDirectory the output directory of the previous runs
+     * @return The StoryStatuses, empty if none could be read
+     */
+    public static StoryStatuses read(File outputDirectory) {
+        Properties statuses = new Properties();
+        File file = new File(outputDirectory, STORY_STATUSES);
+        if (file.exists()) {
+            try (Reader reader = new FileReader(file)) {
+                statuses.load(reader);
+            } catch (IOException e) {
+                // the statuses are unknown
+            }
+        }
+        return new StoryStatuses(statuses);
+    }
+
+    /**
+     * Writes the story statuses to the given output directory.
+     *
+     * @param outputDirectory the output directory of the run
+     * @throws IOException if the story statuses cannot be written
+     */
+    public synchronized void write(File outputDirectory) throws IOException {
+        outputDirectory.mkdirs();
+        try (Writer writer = new FileWriter(new File(outputDirectory, STORY_STATUSES))) {
+            statuses.store(writer, getClass().getName());
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return statuses.isEmpty();
+    }
+
+    /**
+     * Returns the last known status of a story.
+     *
+     * @param path the story path
+     * @return The Status or <code>null</code> if unknown
+     */
+    public synchronized Status status(String path) {
+        String status = statuses.getProperty(path);
+        if (status != null) {
+            try {
+                return Status.valueOf(status);
+            } catch (IllegalArgumentException e) {
+                // the status is unknown
+            }
+        }
+        return null;
+    }
+
+    public synchronized void statusIs(String path, Status status) {
+        statuses.setProperty(path, status.name());
+    }
+
+    /**
+     * Whether a story failed or was pending, i.e. needs to be run again.
+     *
+     * @param path the story path
+     * @return A boolean, <code>true</code> if the story failed, was pending or was not performed
+     */
+    public boolean isFailedOrPending(String path) {
+        Status status = status(path);
+        return status == Status.FAILED || status == Status.PENDING || status == Status.NOT_PERFORMED;
+    }
+
+}
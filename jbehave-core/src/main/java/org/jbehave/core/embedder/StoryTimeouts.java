@@ -4,9 +4,12 @@ import static java.util.Arrays.asList;
 import static java.util.regex.Pattern.compile;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -22,6 +25,7 @@ public class StoryTimeouts {
     private EmbedderControls embedderControls;
     private EmbedderMonitor embedderMonitor;
     private List<TimeoutParser> parsers = new ArrayList<>();
+    private volatile CompiledTimeouts compiledTimeouts;
 
     public StoryTimeouts(EmbedderControls embedderControls,
             EmbedderMonitor embedderMonitor) {
@@ -36,15 +40,15 @@ public class StoryTimeouts {
 
     public StoryTimeouts withParsers(TimeoutParser...parsers) {
         this.parsers.addAll(0, asList(parsers));
+        this.compiledTimeouts = null;
         return this;
     }
     
     public long getTimeoutInSecs(Story story) {
-        Map<String, StoryTimeout> timeouts = asMap(embedderControls
-                .storyTimeouts());
+        Collection<StoryTimeout> timeouts = compiledTimeouts();
         
         // look for timeout by path
-        for (StoryTimeout timeout : timeouts.values()) {
+        for (StoryTimeout timeout : timeouts) {
             if (timeout.allowedByPath(story.getPath())) {
                 long timeoutInSecs = timeout.getTimeoutInSecs();
                 embedderMonitor.usingTimeout(story.getName(), timeoutInSecs);
@@ -53,7 +57,7 @@ public class StoryTimeouts {
         }
 
         // look for default timeout
-        for (StoryTimeout timeout : timeouts.values()) {
+        for (StoryTimeout timeout : timeouts) {
             if (timeout.isDefault()) {
                 long timeoutInSecs = timeout.getTimeoutInSecs();
                 embedderMonitor.usingTimeout(story.getName(), timeoutInSecs);
@@ -67,8 +71,19 @@ public class StoryTimeouts {
         return timeoutInSecs;
     }
 
+    private Collection<StoryTimeout> compiledTimeouts() {
+        // the timeouts are parsed once, unless the controls have changed since
+        String timeoutsAsString = embedderControls.storyTimeouts();
+        CompiledTimeouts compiled = compiledTimeouts;
+        if (compiled == null || !Objects.equals(compiled.timeoutsAsString, timeoutsAsString)) {
+            compiled = new CompiledTimeouts(timeoutsAsString, asMap(timeoutsAsString).values());
+            compiledTimeouts = compiled;
+        }
+        return compiled.timeouts;
+    }
+
     private Map<String, StoryTimeout> asMap(String timeoutsAsString) {
-        Map<String, StoryTimeout> timeouts = new HashMap<>();
+        Map<String, StoryTimeout> timeouts = new LinkedHashMap<>();
         if (StringUtils.isBlank(timeoutsAsString)) {
             return timeouts;
         }        
@@ -79,6 +94,16 @@ public class StoryTimeouts {
         return timeouts;
     }
 
+    private static class CompiledTimeouts {
+        private final String timeoutsAsString;
+        private final Collection<StoryTimeout> timeouts;
+
+        CompiledTimeouts(String timeoutsAsString, Collection<StoryTimeout> timeouts) {
+            this.timeoutsAsString = timeoutsAsString;
+            this.timeouts = timeouts;
+        }
+    }
+
     public static class StoryTimeout {
         private static final String COLON = ":";
         private boolean isDefault;
@@ -86,6 +111,8 @@ public class StoryTimeouts {
         private String timeout = "0";
         private String timeoutAsString;
         private List<TimeoutParser> parsers;
+        private Pattern compiledPattern;
+        private Long timeoutInSecs;
     
         public StoryTimeout(String timeoutAsString, List<TimeoutParser> parsers) {
             this.timeoutAsString = timeoutAsString;
@@ -102,7 +129,10 @@ public class StoryTimeouts {
 
         public boolean allowedByPath(String path) {
             if (path != null) {
-                return path.matches(regexOf(pathPattern));
+                if (compiledPattern == null) {
+                    compiledPattern = Pattern.compile(regexOf(pathPattern));
+                }
+                return compiledPattern.matcher(path).matches();
             }
             return false;
         }
@@ -116,6 +146,13 @@ public class StoryTimeouts {
         }
 
         public long getTimeoutInSecs() {
+            if (timeoutInSecs == null) {
+                timeoutInSecs = parseTimeout();
+            }
+            return timeoutInSecs;
+        }
+
+        private long parseTimeout() {
             for (TimeoutParser parser : parsers) {
                 if (parser.isValid(timeout)) {
                     return parser.asSeconds(timeout);
@@ -61,6 +61,56 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         return delegate.threads();
     }
 
+    @Override
+    public boolean streamStories() {
+        return delegate.streamStories();
+    }
+
+    @Override
+    public boolean buildStoriesInParallel() {
+        return delegate.buildStoriesInParallel();
+    }
+
+    @Override
+    public boolean scheduleLongestStoriesFirst() {
+        return delegate.scheduleLongestStoriesFirst();
+    }
+
+    @Override
+    public long defaultStoryDurationInMillis() {
+        return delegate.defaultStoryDurationInMillis();
+    }
+
+    @Override
+    public boolean skipUnchangedStories() {
+        return delegate.skipUnchangedStories();
+    }
+
+    @Override
+    public boolean rerunFailedStories() {
+        return delegate.rerunFailedStories();
+    }
+
+    @Override
+    public int shardIndex() {
+        return delegate.shardIndex();
+    }
+
+    @Override
+    public int shardCount() {
+        return delegate.shardCount();
+    }
+
+    @Override
+    public String shardDurations() {
+        return delegate.shardDurations();
+    }
+
+    @Override
+    public int forks() {
+        return delegate.forks();
+    }
+
     @Override
     public EmbedderControls doBatch(boolean batch) {
         throw notAllowed();
@@ -101,6 +151,56 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         throw notAllowed();
     }
 
+    @Override
+    public EmbedderControls doStreamStories(boolean streamStories) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls doBuildStoriesInParallel(boolean buildStoriesInParallel) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls doScheduleLongestStoriesFirst(boolean scheduleLongestStoriesFirst) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls useDefaultStoryDurationInMillis(long defaultStoryDurationInMillis) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls doSkipUnchangedStories(boolean skipUnchangedStories) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls doRerunFailedStories(boolean rerunFailedStories) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls useShardIndex(int shardIndex) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls useShardCount(int shardCount) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls useShardDurations(String shardDurations) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls useForks(int forks) {
+        throw notAllowed();
+    }
+
     private RuntimeException notAllowed() {
         return new ModificationNotAllowed();
     }
@@ -0,0 +1,66 @@
+package org.jbehave.core.embedder.executors;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jbehave.core.embedder.EmbedderControls;
+import org.jbehave.core.embedder.PerformableTree.RunContext;
+import org.jbehave.core.steps.context.StepsContext;
+
+/**
+ * Creates instances of <code>Executors#newVirtualThreadPerTaskExecutor()</code>, starting a virtual thread for each
+ * story and, if performed in parallel, for each scenario or example, so that stories with I/O-bound steps can be run
+ * concurrently regardless of {@link EmbedderControls#threads()}. On Java versions without virtual threads, falls back
+ * to the {@link FixedThreadExecutors}.
+ * <p>
+ * The contexts of the tasks, i.e. the {@link StepsContext} objects and the story run context of the
+ * {@link RunContext}, are not truly task-scoped: as JBehave is built for Java 8, which has no scoped values, they are
+ * held in ThreadLocals, which each task sets up on its thread and restores once done, via
+ * {@link RunContext#performInScope(java.util.function.Supplier)}. They are therefore neither inherited from the thread
+ * submitting the task nor visible to any thread the steps start themselves, and cost a ThreadLocal per virtual thread
+ * for the duration of its task.
+ * </p>
+ */
+public class VirtualThreadExecutors implements ExecutorServiceFactory {
+
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = newVirtualThreadPerTaskExecutor();
+
+    @Override
+    public ExecutorService create(EmbedderControls controls) {
+        if (!isAvailable()) {
+            return new FixedThreadExecutors().create(controls);
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new VirtualThreadsNotAvailable(e);
+        }
+    }
+
+    /**
+     * Whether virtual threads are available on the current Java version.
+     *
+     * @return A boolean, <code>true</code> if the created executors run tasks on virtual threads
+     */
+    public static boolean isAvailable() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    private static Method newVirtualThreadPerTaskExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    public static class VirtualThreadsNotAvailable extends RuntimeException {
+
+        public VirtualThreadsNotAvailable(Throwable cause) {
+            super(cause);
+        }
+    }
+}
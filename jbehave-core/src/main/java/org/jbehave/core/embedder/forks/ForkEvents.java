@@ -0,0 +1,98 @@
+package org.jbehave.core.embedder.forks;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The events sent by the {@link StoryForkWorker} to the {@link StoryForks} over its standard output, one per line,
+ * made of tab-separated fields, the first being the name of the event.
+ */
+final class ForkEvents {
+
+    static final String RUNNING_STORY = "runningStory";
+    static final String STORY_FAILED = "storyFailed";
+    static final String FAILURE = "failure";
+    static final String DONE = "done";
+
+    private static final char SEPARATOR = '\t';
+
+    private ForkEvents() {
+    }
+
+    static void write(PrintStream output, String... fields) {
+        StringBuilder line = new StringBuilder();
+        for (String field : fields) {
+            if (line.length() > 0) {
+                line.append(SEPARATOR);
+            }
+            line.append(escape(field));
+        }
+        synchronized (output) {
+            output.println(line);
+            output.flush();
+        }
+    }
+
+    static List<String> read(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\\' && i + 1 < line.length()) {
+                field.append(unescape(line.charAt(++i)));
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    static String stackTraceOf(Throwable cause) {
+        StringWriter writer = new StringWriter();
+        cause.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    private static char unescape(char escaped) {
+        switch (escaped) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            default:
+                return escaped;
+        }
+    }
+
+    private static String escape(String field) {
+        StringBuilder escaped = new StringBuilder();
+        for (char c : String.valueOf(field).toCharArray()) {
+            switch (c) {
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '\t':
+                    escaped.append("\\t");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    escaped.append("\\r");
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,126 @@
+package org.jbehave.core.embedder.forks;
+
+import static java.util.Arrays.asList;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.ConfigurableEmbedder;
+import org.jbehave.core.InjectableEmbedder;
+import org.jbehave.core.embedder.DelegatingEmbedderMonitor;
+import org.jbehave.core.embedder.Embedder;
+import org.jbehave.core.embedder.NullEmbedderMonitor;
+import org.jbehave.core.embedder.PropertyBasedEmbedderControls;
+import org.jbehave.core.failures.BatchFailures;
+
+/**
+ * <p>
+ * The worker JVM started by the {@link StoryForks}, which runs the story paths read from its standard input, one per
+ * line, with the embedder provided by the class given as first argument, i.e. an {@link Embedder} or an
+ * {@link InjectableEmbedder}, single-threaded. The reports are written to the relative directory given as second
+ * argument, the remaining arguments being the meta filters.
+ * </p>
+ * <p>
+ * The standard output is reserved to the {@link ForkEvents} sent to the parent JVM: the output of the stories is
+ * redirected to the standard error.
+ * </p>
+ */
+public class StoryForkWorker {
+
+    private final PrintStream events;
+
+    public StoryForkWorker(PrintStream events) {
+        this.events = events;
+    }
+
+    public static void main(String[] args) throws IOException {
+        PrintStream events = new PrintStream(System.out, true, "UTF-8");
+        System.setOut(System.err);
+        BufferedReader storyPaths = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        try {
+            new StoryForkWorker(events).run(args, storyPaths);
+        } catch (Throwable e) {
+            // the threads of the stories may still be running, the parent is told of the failure by the exit value
+            e.printStackTrace();
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    public void run(String[] args, BufferedReader input) throws IOException {
+        List<String> storyPaths = new ArrayList<>();
+        String storyPath;
+        while ((storyPath = input.readLine()) != null) {
+            if (!storyPath.isEmpty()) {
+                storyPaths.add(storyPath);
+            }
+        }
+        Embedder embedder = embedderOf(args[0]);
+        embedder.configuration().storyReporterBuilder().withRelativeDirectory(args[1]);
+        if (args.length > 2) {
+            embedder.useMetaFilters(new ArrayList<>(asList(args).subList(2, args.length)));
+        }
+        // the controls of the parent are passed as system properties, the failures are handled by the parent
+        embedder.useEmbedderControls(new PropertyBasedEmbedderControls().useThreads(1).useForks(0)
+                .doGenerateViewAfterStories(false).doIgnoreFailureInStories(true).doIgnoreFailureInView(true));
+        embedder.useEmbedderMonitor(new DelegatingEmbedderMonitor(embedder.embedderMonitor(), new ForkMonitor()));
+        try {
+            embedder.runStoriesAsPaths(storyPaths);
+        } finally {
+            embedder.generateSurefireReport();
+        }
+        // only sent once all the stories are run, so that the parent fails the worker otherwise
+        ForkEvents.write(events, ForkEvents.DONE);
+    }
+
+    private Embedder embedderOf(String embedderClass) {
+        try {
+            Object instance = Class.forName(embedderClass, true, Thread.currentThread().getContextClassLoader())
+                    .getDeclaredConstructor().newInstance();
+            if (instance instanceof ConfigurableEmbedder) {
+                return ((ConfigurableEmbedder) instance).configuredEmbedder();
+            }
+            if (instance instanceof InjectableEmbedder) {
+                return ((InjectableEmbedder) instance).injectedEmbedder();
+            }
+            return (Embedder) instance;
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new ForkedEmbedderNotInstantiated(embedderClass, e);
+        }
+    }
+
+    private class ForkMonitor extends NullEmbedderMonitor {
+
+        @Override
+        public void runningStory(String path) {
+            ForkEvents.write(events, ForkEvents.RUNNING_STORY, path);
+        }
+
+        @Override
+        public void storyFailed(String path, Throwable cause) {
+            ForkEvents.write(events, ForkEvents.STORY_FAILED, path, ForkEvents.stackTraceOf(cause));
+        }
+
+        @Override
+        public void batchFailed(BatchFailures failures) {
+            for (Map.Entry<String, Throwable> failure : failures.entrySet()) {
+                ForkEvents.write(events, ForkEvents.FAILURE, failure.getKey(),
+                        ForkEvents.stackTraceOf(failure.getValue()));
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    public static class ForkedEmbedderNotInstantiated extends RuntimeException {
+
+        public ForkedEmbedderNotInstantiated(String embedderClass, Throwable cause) {
+            super(embedderClass, cause);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package org.jbehave.core.embedder.forks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.embedder.Embedder;
+import org.jbehave.core.embedder.EmbedderControls;
+import org.jbehave.core.embedder.EmbedderMonitor;
+import org.jbehave.core.embedder.PropertyBasedEmbedderControls;
+import org.jbehave.core.embedder.StoryDurations;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.reporters.ReportsMerger;
+import org.jbehave.core.reporters.StoryReporterBuilder;
+import org.jbehave.core.reporters.SurefireReporter;
+
+/**
+ * <p>
+ * Runs the stories in worker JVMs, as many as {@link EmbedderControls#forks()}, started with the classpath of the
+ * {@link Embedder}, so that stories whose steps are not thread-safe can use several cores. The story paths are split
+ * between the workers by their durations in the previous run, as read from the {@link StoryDurations}, and written to
+ * the standard input of the {@link StoryForkWorker}, which runs them single-threaded with the embedder provided by the
+ * {@link Embedder#forkedEmbedderClass()}.
+ * </p>
+ * <p>
+ * The workers write their reports in their own directory, under the <code>forks</code> directory of the output
+ * directory, and send the {@link ForkEvents} of the stories run, as well as their failures, to the parent JVM, which
+ * reports them to its {@link EmbedderMonitor}. Once all the workers are done, their reports are merged into the
+ * output directory by the {@link ReportsMerger}. A worker which exits with a non-zero value, or before sending the
+ * {@link ForkEvents#DONE} event, is failed. The properties of the output directory, e.g. the
+ * {@link StoryDurations}, are merged rather than replaced, so that those of the stories not run, e.g. in other shards,
+ * are kept.
+ * </p>
+ * <p>
+ * The story paths are split between the workers up front, rather than handed out over the standard input as each
+ * worker becomes idle, and only the events of the {@link EmbedderMonitor} are sent back, rather than the events of the
+ * story reporters. This keeps each worker an ordinary single-threaded run, writing its own reports, with a
+ * one-way input and a few lines of output per story, which do not depend on the reporters configured. The trade-offs
+ * are that:
+ * <ul>
+ * <li>the balance between the workers relies on the durations of the previous run: a worker whose stories take
+ * longer than recorded, or which has no recorded durations, is not relieved by the other workers, which may be idle
+ * meanwhile;</li>
+ * <li>the reporters of the parent JVM do not see the stories as they run: the reports are only available once all
+ * the workers are done and their reports merged.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * The workers are started with the system properties of the {@link Embedder} and with its {@link EmbedderControls}
+ * as the system properties read by the {@link PropertyBasedEmbedderControls}, apart from:
+ * <ul>
+ * <li>the controls overridden by the workers, i.e. a single thread, no forks, no reports view and the failures in
+ * stories and in the view ignored, as they are handled by the parent JVM;</li>
+ * <li>the controls applied by the parent JVM, i.e. the skip of the stories and the shard of the stories, which is
+ * split between the workers;</li>
+ * <li>the {@link EmbedderControls#skipUnchangedStories()} and {@link EmbedderControls#rerunFailedStories()}, which
+ * are not supported when forking, as the workers write their reports in a new directory for each run: all the
+ * stories of the shard are run.</li>
+ * </ul>
+ * </p>
+ */
+public class StoryForks {
+
+    private static final String FORKS = "forks";
+
+    private final Embedder embedder;
+
+    public StoryForks(Embedder embedder) {
+        this.embedder = embedder;
+    }
+
+    public void runStoriesAsPaths(List<String> storyPaths, BatchFailures failures) {
+        EmbedderControls embedderControls = embedder.embedderControls();
+        StoryReporterBuilder builder = embedder.configuration().storyReporterBuilder();
+        File outputDirectory = builder.outputDirectory();
+        StoryDurations storyDurations = StoryDurations.read(outputDirectory);
+        if (embedderControls.shardCount() > 1) {
+            int shardIndex = embedderControls.shardIndex();
+            int shardCount = embedderControls.shardCount();
+            storyPaths = StoryDurations.ofShards(embedderControls).shard(storyPaths, shardIndex, shardCount,
+                    embedderControls.defaultStoryDurationInMillis());
+            embedder.embedderMonitor().storiesSharded(shardIndex, shardCount, storyPaths);
+        }
+        List<File> forkDirectories = new ArrayList<>();
+        List<Fork> forks = new ArrayList<>();
+        try {
+            for (int fork = 0; fork < embedderControls.forks(); fork++) {
+                List<String> pathsOfFork = storyDurations.shard(storyPaths, fork, embedderControls.forks(),
+                        embedderControls.defaultStoryDurationInMillis());
+                if (pathsOfFork.isEmpty()) {
+                    continue;
+                }
+                String forkDirectory = FORKS + "/fork-" + fork;
+                File directory = new File(outputDirectory, forkDirectory);
+                FileUtils.deleteDirectory(directory);
+                forkDirectories.add(directory);
+                forks.add(start(fork, pathsOfFork, builder.relativeDirectory() + "/" + forkDirectory, failures));
+            }
+            for (Fork fork : forks) {
+                fork.waitUntilDone();
+            }
+        } catch (IOException e) {
+            failures.put(FORKS, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.put(FORKS, e);
+        } finally {
+            for (Fork fork : forks) {
+                fork.destroyIfAlive();
+            }
+        }
+        String surefireReportName = builder.hasSurefireReporter() ? builder.surefireReporter().getReportName()
+                : SurefireReporter.Options.DEFAULT_REPORT_NAME;
+        new ReportsMerger(surefireReportName).merge(forkDirectories, outputDirectory);
+    }
+
+    private Fork start(int index, List<String> storyPaths, String relativeDirectory, BatchFailures failures)
+            throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(new File(new File(System.getProperty("java.home"), "bin"), "java").getPath());
+        for (String name : embedder.systemProperties().stringPropertyNames()) {
+            command.add(systemProperty(name, embedder.systemProperties().getProperty(name)));
+        }
+        command.addAll(controlsAsSystemProperties(embedder.embedderControls()));
+        command.add("-cp");
+        command.add(classpath());
+        command.add(StoryForkWorker.class.getName());
+        command.add(embedder.forkedEmbedderClass());
+        command.add(relativeDirectory);
+        command.addAll(embedder.metaFilters());
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        try (Writer writer = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8)) {
+            for (String storyPath : storyPaths) {
+                writer.write(storyPath);
+                writer.write('\n');
+            }
+        }
+        Fork fork = new Fork("fork-" + index, process, failures);
+        fork.reader.start();
+        return fork;
+    }
+
+    private List<String> controlsAsSystemProperties(EmbedderControls controls) {
+        // the controls which apply to the stories run by each worker
+        List<String> properties = new ArrayList<>();
+        properties.add(systemProperty(PropertyBasedEmbedderControls.BATCH, controls.batch()));
+        properties.add(systemProperty(PropertyBasedEmbedderControls.VERBOSE_FAILURES, controls.verboseFailures()));
+        properties.add(systemProperty(PropertyBasedEmbedderControls.VERBOSE_FILTERING, controls.verboseFiltering()));
+        if (controls.storyTimeouts() != null) {
+            properties.add(systemProperty(PropertyBasedEmbedderControls.STORY_TIMEOUTS, controls.storyTimeouts()));
+        }
+        properties.add(systemProperty(PropertyBasedEmbedderControls.FAIL_ON_STORY_TIMEOUT,
+                controls.failOnStoryTimeout()));
+        properties.add(systemProperty(PropertyBasedEmbedderControls.STREAM_STORIES, controls.streamStories()));
+        properties.add(systemProperty(PropertyBasedEmbedderControls.BUILD_STORIES_IN_PARALLEL,
+                controls.buildStoriesInParallel()));
+        properties.add(systemProperty(PropertyBasedEmbedderControls.SCHEDULE_LONGEST_STORIES_FIRST,
+                controls.scheduleLongestStoriesFirst()));
+        properties.add(systemProperty(PropertyBasedEmbedderControls.DEFAULT_STORY_DURATION_IN_MILLIS,
+                controls.defaultStoryDurationInMillis()));
+        return properties;
+    }
+
+    private String systemProperty(String name, Object value) {
+        return "-D" + name + "=" + value;
+    }
+
+    private String classpath() {
+        Set<String> elements = new LinkedHashSet<>();
+        ClassLoader classLoader = embedder.classLoader();
+        while (classLoader != null) {
+            if (classLoader instanceof URLClassLoader) {
+                for (URL url : ((URLClassLoader) classLoader).getURLs()) {
+                    elements.add(pathOf(url));
+                }
+            }
+            classLoader = classLoader.getParent();
+        }
+        for (String element : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            elements.add(element);
+        }
+        return String.join(File.pathSeparator, elements);
+    }
+
+    private String pathOf(URL url) {
+        try {
+            return new File(url.toURI()).getPath();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return url.getPath();
+        }
+    }
+
+    private class Fork {
+
+        private final String name;
+        private final Process process;
+        private final BatchFailures failures;
+        private final Thread reader;
+        private volatile boolean done;
+
+        Fork(String name, Process process, BatchFailures failures) {
+            this.name = name;
+            this.process = process;
+            this.failures = failures;
+            this.reader = new Thread(this::readEvents, name);
+        }
+
+        private void readEvents() {
+            EmbedderMonitor embedderMonitor = embedder.embedderMonitor();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    List<String> event = ForkEvents.read(line);
+                    switch (event.get(0)) {
+                        case ForkEvents.RUNNING_STORY:
+                            synchronized (embedderMonitor) {
+                                embedderMonitor.runningStory(event.get(1));
+                            }
+                            break;
+                        case ForkEvents.STORY_FAILED:
+                            // the workers ignore the failures of the stories, as handled by the parent controls
+                            if (embedder.embedderControls().ignoreFailureInStories()) {
+                                synchronized (embedderMonitor) {
+                                    embedderMonitor.storyFailed(event.get(1), new ForkedStoryFailed(name,
+                                            event.get(2)));
+                                }
+                            } else {
+                                failures.put(event.get(1), new ForkedStoryFailed(name, event.get(2)));
+                            }
+                            break;
+                        case ForkEvents.FAILURE:
+                            failures.put(event.get(1), new ForkedStoryFailed(name, event.get(2)));
+                            break;
+                        case ForkEvents.DONE:
+                            done = true;
+                            break;
+                        default:
+                            // not an event
+                    }
+                }
+            } catch (IOException e) {
+                failures.put(name, e);
+            }
+        }
+
+        void waitUntilDone() throws InterruptedException {
+            int exitValue = process.waitFor();
+            reader.join();
+            if (!done || exitValue != 0) {
+                failures.put(name, new ForkFailed(name, exitValue));
+            }
+        }
+
+        void destroyIfAlive() {
+            if (process.isAlive()) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    public static class ForkedStoryFailed extends RuntimeException {
+
+        public ForkedStoryFailed(String fork, String stackTrace) {
+            super("Failed in " + fork + ": " + stackTrace);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    public static class ForkFailed extends RuntimeException {
+
+        public ForkFailed(String fork, int exitValue) {
+            super(fork + " exited with value " + exitValue + " without running all its stories successfully");
+        }
+    }
+}
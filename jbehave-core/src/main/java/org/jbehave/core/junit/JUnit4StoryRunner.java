@@ -2,6 +2,7 @@ package org.jbehave.core.junit;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jbehave.core.ConfigurableEmbedder;
 import org.jbehave.core.configuration.Configuration;
@@ -11,6 +12,7 @@ import org.jbehave.core.embedder.EmbedderControls;
 import org.jbehave.core.embedder.PerformableTree;
 import org.jbehave.core.embedder.PerformableTree.RunContext;
 import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.model.Story;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.reporters.StoryReporterBuilder;
 import org.jbehave.core.steps.CandidateSteps;
@@ -134,7 +136,12 @@ public class JUnit4StoryRunner extends BlockJUnit4ClassRunner {
         PerformableTree performableTree = configuredEmbedder.performableTree();
         RunContext context = performableTree.newRunContext(configuration, allStepCandidates,
                 configuredEmbedder.embedderMonitor(), configuredEmbedder.metaFilter(), failures);
-        performableTree.addStories(context, configuredEmbedder.storyManager().storiesOfPaths(storyPaths));
+        List<Story> stories = configuredEmbedder.storyManager().storiesOfPaths(storyPaths);
+        if (configuredEmbedder.embedderControls().buildStoriesInParallel()) {
+            performableTree.addStories(context, stories, ForkJoinPool.commonPool());
+        } else {
+            performableTree.addStories(context, stories);
+        }
         return performableTree;
     }
 
@@ -26,6 +26,10 @@ public class StoryDuration {
         return durationInMillis / 1000;
     }
 
+    public long getDurationInMillis() {
+        return durationInMillis;
+    }
+
     public long getTimeoutInSecs() {
         return timeoutInSecs;
     }
@@ -40,6 +44,17 @@ public class StoryDuration {
         return this;
     }
 
+    /**
+     * Updates the duration of a story which ended at the given time, rather than now.
+     *
+     * @param endedAtMillis the time the story ended at
+     * @return The StoryDuration
+     */
+    public StoryDuration update(long endedAtMillis) {
+        this.durationInMillis = endedAtMillis - startedAtMillis;
+        return this;
+    }
+
     private long elapsedTimeInMillis() {
         return System.currentTimeMillis() - startedAtMillis;
     }    
@@ -52,6 +67,27 @@ public class StoryDuration {
         return cancelTimeoutInSecs == 0 || getDurationInSecs() > timeoutInSecs + cancelTimeoutInSecs;
     }
 
+    /**
+     * Computes the time left until the story times out, as per {@link #timedOut()}.
+     *
+     * @return The milliseconds until the story times out, <code>0</code> if it already has
+     */
+    public long millisUntilTimedOut() {
+        return Math.max(0, (timeoutInSecs + 1) * 1000 - elapsedTimeInMillis());
+    }
+
+    /**
+     * Computes the time left until the timed out story is cancelled, as per {@link #cancelTimedOut()}.
+     *
+     * @return The milliseconds until the story is cancelled, <code>0</code> if it already is
+     */
+    public long millisUntilCancelTimedOut() {
+        if (cancelTimeoutInSecs == 0) {
+            return 0;
+        }
+        return Math.max(0, (timeoutInSecs + cancelTimeoutInSecs + 1) * 1000 - elapsedTimeInMillis());
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SIMPLE_STYLE);
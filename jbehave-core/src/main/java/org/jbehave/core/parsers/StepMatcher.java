@@ -3,6 +3,7 @@ package org.jbehave.core.parsers;
 import java.util.regex.Matcher;
 
 import org.jbehave.core.model.StepPattern;
+import org.jbehave.core.steps.CapturedMatch;
 
 /**
  * A step matcher is responsible for matching steps against a given step pattern
@@ -15,4 +16,15 @@ public interface StepMatcher {
     String[] parameterNames();
 
     StepPattern pattern();
+
+    /**
+     * Matches the whole step and captures the values of its parameters
+     *
+     * @param stepWithoutStartingWord the step without starting word
+     * @return The CapturedMatch or <code>null</code> if the step does not match
+     */
+    default CapturedMatch match(String stepWithoutStartingWord) {
+        Matcher matcher = matcher(stepWithoutStartingWord);
+        return matcher.matches() ? CapturedMatch.capture(stepWithoutStartingWord, matcher) : null;
+    }
 }
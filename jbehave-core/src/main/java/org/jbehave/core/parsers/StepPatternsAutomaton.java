@@ -0,0 +1,375 @@
+package org.jbehave.core.parsers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Multi-pattern automaton combining the {@link StepMatcher}s of a step type, which finds in a single scan of a
+ * textual step the step matchers which can possibly match it, so that only these need to be run.
+ * </p>
+ * <p>
+ * The regular expressions of {@link RegexStepMatcher}s, as resolved by the {@link RegexPrefixCapturingPatternParser},
+ * are split into the literal segments separated by the parameter groups. A step can only match if it starts with the
+ * first segment, ends with the last one and contains all the others: the first segments are held in a prefix trie
+ * and all the others in an Aho-Corasick automaton, with whitespace sequences normalised to a single space. The
+ * derivation of the segments stops at the first construct which is neither a literal, a whitespace sequence nor a
+ * parameter group, and step matchers for which no segment can be derived are always returned.
+ * </p>
+ * <p>
+ * The automaton only ever filters out step matchers which cannot match: the step matchers it returns must still be
+ * run, in the order of priority of their candidates, to confirm the match and to capture the parameter values.
+ * </p>
+ */
+public class StepPatternsAutomaton {
+
+    private static final int INDEXABLE_FLAGS = Pattern.DOTALL | Pattern.MULTILINE | Pattern.UNIX_LINES;
+    private static final String REGEX_META_CHARACTERS = ".[]{}()*+?^$|\\";
+    private static final String REGEX_QUANTIFIERS = "?*+{";
+    private static final String[] PARAMETER_GROUPS = { "(.*)", "(.*?)", "(.+)", "(.+?)" };
+
+    private final Segments[] segments;
+    private final Node prefixes = new Node();
+    private final SegmentsAutomaton innerSegments = new SegmentsAutomaton();
+
+    public StepPatternsAutomaton(List<? extends StepMatcher> stepMatchers) {
+        this.segments = new Segments[stepMatchers.size()];
+        for (int position = 0; position < segments.length; position++) {
+            Segments matcherSegments = segmentsOf(stepMatchers.get(position));
+            Node node = prefixes;
+            for (int i = 0; i < matcherSegments.prefix.length(); i++) {
+                node = node.childOrCreate(matcherSegments.prefix.charAt(i));
+            }
+            node.add(position);
+            matcherSegments.innerIds = new int[matcherSegments.inner.size()];
+            for (int i = 0; i < matcherSegments.innerIds.length; i++) {
+                matcherSegments.innerIds[i] = innerSegments.add(matcherSegments.inner.get(i));
+            }
+            segments[position] = matcherSegments;
+        }
+        innerSegments.build();
+    }
+
+    /**
+     * Returns the positions of the step matchers which can possibly match the textual step.
+     *
+     * @param stepWithoutStartingWord the textual step without its starting word
+     * @return The List of positions of the step matchers, in ascending order
+     */
+    public List<Integer> candidatesFor(String stepWithoutStartingWord) {
+        String step = normalise(stepWithoutStartingWord);
+        List<Integer> prefixed = new ArrayList<>();
+        Node node = prefixes;
+        node.collect(prefixed);
+        for (int i = 0; i < step.length() && node != null; i++) {
+            node = node.child(step.charAt(i));
+            if (node != null) {
+                node.collect(prefixed);
+            }
+        }
+        prefixed.sort(null);
+        boolean[] found = null;
+        List<Integer> positions = new ArrayList<>(prefixed.size());
+        for (int position : prefixed) {
+            Segments matcherSegments = segments[position];
+            if (matcherSegments.suffix != null && !step.endsWith(matcherSegments.suffix)) {
+                continue;
+            }
+            if (matcherSegments.innerIds.length > 0) {
+                if (found == null) {
+                    found = innerSegments.scan(step);
+                }
+                if (!allFound(matcherSegments.innerIds, found)) {
+                    continue;
+                }
+            }
+            positions.add(position);
+        }
+        return positions;
+    }
+
+    private static boolean allFound(int[] ids, boolean[] found) {
+        for (int id : ids) {
+            if (!found[id]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalise(String step) {
+        StringBuilder normalised = new StringBuilder(step.length());
+        boolean inWhitespace = false;
+        for (int i = 0; i < step.length(); i++) {
+            char c = step.charAt(i);
+            if (isWhitespace(c)) {
+                if (!inWhitespace) {
+                    normalised.append(' ');
+                }
+                inWhitespace = true;
+            } else {
+                normalised.append(c);
+                inWhitespace = false;
+            }
+        }
+        return normalised.toString();
+    }
+
+    /**
+     * Derives the literal segments separated by parameter groups that any step matching the regex must contain.
+     * Whitespace sequences (<code>\s+</code>) are normalised to a single space and the derivation stops at the first
+     * construct which is not supported, so the segments may be shorter than the actual ones, but never longer.
+     */
+    private static Segments segmentsOf(StepMatcher stepMatcher) {
+        if (!(stepMatcher instanceof RegexStepMatcher)) {
+            return new Segments();
+        }
+        Pattern pattern = stepMatcher.matcher("").pattern();
+        String regex = pattern.pattern();
+        if ((pattern.flags() & ~INDEXABLE_FLAGS) != 0 || regex.contains("\\Q") || hasAlternation(regex)) {
+            return new Segments();
+        }
+        List<String> runs = new ArrayList<>();
+        StringBuilder run = new StringBuilder();
+        boolean complete = true;
+        int length = regex.length();
+        int i = 0;
+        while (i < length) {
+            int groupLength = parameterGroupLength(regex, i);
+            if (groupLength > 0) {
+                runs.add(run.toString());
+                run.setLength(0);
+                i += groupLength;
+                continue;
+            }
+            char c = regex.charAt(i);
+            int atomStart = run.length();
+            if (regex.startsWith("\\s+", i)) {
+                if (atomStart == 0 || run.charAt(atomStart - 1) != ' ') {
+                    run.append(' ');
+                }
+                i += 3;
+                // lazy and possessive quantifiers still require at least one whitespace
+                if (i < length && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+                    i++;
+                }
+                continue;
+            }
+            if (c == '\\') {
+                if (i + 1 >= length || !isEscapedLiteral(regex.charAt(i + 1))) {
+                    complete = false;
+                    break;
+                }
+                run.append(regex.charAt(i + 1));
+                i += 2;
+            } else if (REGEX_META_CHARACTERS.indexOf(c) >= 0 || isWhitespace(c)) {
+                complete = false;
+                break;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(regex.charAt(i + 1))) {
+                run.append(c).append(regex.charAt(i + 1));
+                i += 2;
+            } else {
+                run.append(c);
+                i++;
+            }
+            if (i < length && REGEX_QUANTIFIERS.indexOf(regex.charAt(i)) >= 0) {
+                // quantified literal may be absent or repeated
+                run.setLength(atomStart);
+                complete = false;
+                break;
+            }
+        }
+        runs.add(run.toString());
+        return new Segments(runs, complete);
+    }
+
+    private static int parameterGroupLength(String regex, int index) {
+        for (String group : PARAMETER_GROUPS) {
+            if (regex.startsWith(group, index)) {
+                int end = index + group.length();
+                if (end < regex.length() && REGEX_QUANTIFIERS.indexOf(regex.charAt(end)) >= 0) {
+                    // quantified group is not supported
+                    return 0;
+                }
+                return group.length();
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isEscapedLiteral(char c) {
+        return !Character.isLetterOrDigit(c) && !isWhitespace(c);
+    }
+
+    private static boolean hasAlternation(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '|') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whitespace as defined by the regex <code>\s</code> character class
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * The segments of a step matcher: the prefix the step must start with, the inner segments it must contain and
+     * the suffix it must end with, if known.
+     */
+    private static final class Segments {
+        private final String prefix;
+        private final List<String> inner = new ArrayList<>();
+        private final String suffix;
+        private int[] innerIds;
+
+        private Segments() {
+            this.prefix = "";
+            this.suffix = null;
+        }
+
+        private Segments(List<String> runs, boolean complete) {
+            this.prefix = runs.get(0);
+            int last = runs.size() - 1;
+            for (int i = 1; i < (complete ? last : runs.size()); i++) {
+                if (!runs.get(i).isEmpty()) {
+                    inner.add(runs.get(i));
+                }
+            }
+            this.suffix = complete && !runs.get(last).isEmpty() ? runs.get(last) : null;
+        }
+    }
+
+    /**
+     * Aho-Corasick automaton finding all the inner segments contained in a step in a single scan.
+     */
+    private static final class SegmentsAutomaton {
+        private final Node root = new Node();
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        private int add(String segment) {
+            Integer id = ids.get(segment);
+            if (id == null) {
+                id = ids.size();
+                ids.put(segment, id);
+                Node node = root;
+                for (int i = 0; i < segment.length(); i++) {
+                    node = node.childOrCreate(segment.charAt(i));
+                }
+                node.add(id);
+            }
+            return id;
+        }
+
+        private void build() {
+            Queue<Node> queue = new ArrayDeque<>();
+            for (Node child : root.children) {
+                child.fail = root;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                Node node = queue.remove();
+                for (int i = 0; i < node.keys.length; i++) {
+                    Node child = node.children[i];
+                    Node fail = node.fail;
+                    while (fail != root && fail.child(node.keys[i]) == null) {
+                        fail = fail.fail;
+                    }
+                    Node failChild = fail.child(node.keys[i]);
+                    child.fail = failChild != null ? failChild : root;
+                    // segments ending at the failure node also end at the child
+                    child.addAll(child.fail.positions);
+                    queue.add(child);
+                }
+            }
+        }
+
+        private boolean[] scan(String step) {
+            boolean[] found = new boolean[ids.size()];
+            Node node = root;
+            for (int i = 0; i < step.length(); i++) {
+                char c = step.charAt(i);
+                Node child = node.child(c);
+                while (child == null && node != root) {
+                    node = node.fail;
+                    child = node.child(c);
+                }
+                node = child != null ? child : root;
+                for (int id : node.positions) {
+                    found[id] = true;
+                }
+            }
+            return found;
+        }
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final int[] NO_POSITIONS = new int[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int[] positions = NO_POSITIONS;
+        private Node fail;
+
+        private Node child(char key) {
+            int i = Arrays.binarySearch(keys, key);
+            return i >= 0 ? children[i] : null;
+        }
+
+        private Node childOrCreate(char key) {
+            int i = Arrays.binarySearch(keys, key);
+            if (i >= 0) {
+                return children[i];
+            }
+            int insertion = -i - 1;
+            Node child = new Node();
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            newKeys[insertion] = key;
+            newChildren[insertion] = child;
+            System.arraycopy(keys, insertion, newKeys, insertion + 1, keys.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        private void add(int position) {
+            positions = Arrays.copyOf(positions, positions.length + 1);
+            positions[positions.length - 1] = position;
+        }
+
+        private void addAll(int[] more) {
+            if (more.length > 0) {
+                int length = positions.length;
+                positions = Arrays.copyOf(positions, length + more.length);
+                System.arraycopy(more, 0, positions, length, more.length);
+            }
+        }
+
+        private void collect(List<Integer> collected) {
+            for (int position : positions) {
+                collected.add(position);
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.jbehave.core.parsers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.jbehave.core.steps.CapturedMatch;
+import org.jbehave.core.steps.StepType;
+
+/**
+ * <p>
+ * Step matcher for templates made of literal text, whitespace sequences and parameters, which matches steps and
+ * captures the parameter values by region matching rather than by running the regular expression.
+ * </p>
+ * <p>
+ * The template is derived from the regular expression resolved by the {@link RegexPrefixCapturingPatternParser},
+ * i.e. <code>\s+</code> for whitespace sequences and greedy <code>(.*)</code> groups for the parameters, and it is
+ * matched with the same backtracking order as the regular expression, so the captured values are identical. The
+ * regular expression is still provided via {@link #matcher(String)}, e.g. to find the step in a longer text.
+ * </p>
+ */
+public class TemplateStepMatcher extends RegexStepMatcher {
+
+    private static final String WHITESPACES = "\\s+";
+    private static final String PARAMETER_GROUP = "(.*)";
+    private static final String REGEX_META_CHARACTERS = ".[]{}()*+?^$|\\";
+
+    private final Token[] tokens;
+    private final int groups;
+
+    private TemplateStepMatcher(StepType stepType, String annotatedPattern, Pattern regexPattern,
+            String[] parameterNames, List<Token> tokens) {
+        super(stepType, annotatedPattern, regexPattern, parameterNames);
+        this.tokens = tokens.toArray(new Token[0]);
+        this.groups = (int) tokens.stream().filter(token -> token.kind == Kind.PARAMETER).count();
+    }
+
+    /**
+     * Creates a template step matcher equivalent to a regex step matcher, if its regular expression is a template.
+     *
+     * @param stepType the step type
+     * @param annotatedPattern the annotated pattern
+     * @param regexPattern the regular expression resolved from the annotated pattern
+     * @param parameterNames the parameter names
+     * @return The TemplateStepMatcher or <code>null</code> if the regular expression is not a template
+     */
+    public static TemplateStepMatcher from(StepType stepType, String annotatedPattern, Pattern regexPattern,
+            String[] parameterNames) {
+        if (regexPattern.flags() != Pattern.DOTALL) {
+            return null;
+        }
+        List<Token> tokens = tokensOf(regexPattern.pattern());
+        if (tokens == null) {
+            return null;
+        }
+        return new TemplateStepMatcher(stepType, annotatedPattern, regexPattern, parameterNames, tokens);
+    }
+
+    private static List<Token> tokensOf(String regex) {
+        List<Token> tokens = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            Kind kind = null;
+            if (regex.startsWith(WHITESPACES, i)) {
+                kind = Kind.WHITESPACES;
+                i += WHITESPACES.length();
+            } else if (regex.startsWith(PARAMETER_GROUP, i)) {
+                kind = Kind.PARAMETER;
+                i += PARAMETER_GROUP.length();
+            } else if (c == '\\') {
+                if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    return null;
+                }
+                literal.append(regex.charAt(i + 1));
+                i += 2;
+            } else if (REGEX_META_CHARACTERS.indexOf(c) >= 0) {
+                return null;
+            } else {
+                literal.append(c);
+                i++;
+            }
+            if (kind != null) {
+                if (i < regex.length() && "?*+{".indexOf(regex.charAt(i)) >= 0) {
+                    // quantified constructs are not part of templates
+                    return null;
+                }
+                addLiteral(tokens, literal);
+                tokens.add(new Token(kind, null));
+            }
+        }
+        addLiteral(tokens, literal);
+        return tokens;
+    }
+
+    private static void addLiteral(List<Token> tokens, StringBuilder literal) {
+        if (literal.length() > 0) {
+            tokens.add(new Token(Kind.LITERAL, literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    @Override
+    public CapturedMatch match(String stepWithoutStartingWord) {
+        int[] bounds = new int[groups * 2];
+        if (!matches(stepWithoutStartingWord, 0, 0, 0, bounds)) {
+            return null;
+        }
+        String[] values = new String[groups];
+        for (int group = 0; group < groups; group++) {
+            values[group] = stepWithoutStartingWord.substring(bounds[group * 2], bounds[group * 2 + 1]);
+        }
+        return CapturedMatch.of(stepWithoutStartingWord, values);
+    }
+
+    /**
+     * Matches the tokens from the given one at the given position of the step, trying the longest whitespace
+     * sequences and parameter values first, as greedy quantifiers of the regular expression do.
+     */
+    private boolean matches(String step, int token, int position, int group, int[] bounds) {
+        if (token == tokens.length) {
+            return position == step.length();
+        }
+        Token current = tokens[token];
+        switch (current.kind) {
+            case LITERAL:
+                return step.startsWith(current.literal, position)
+                        && matches(step, token + 1, position + current.literal.length(), group, bounds);
+            case WHITESPACES:
+                int whitespacesEnd = position;
+                while (whitespacesEnd < step.length() && isWhitespace(step.charAt(whitespacesEnd))) {
+                    whitespacesEnd++;
+                }
+                for (int end = whitespacesEnd; end > position; end--) {
+                    if (matches(step, token + 1, end, group, bounds)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                for (int end = lastEnd(step, token + 1, step.length(), position); end >= position;
+                        end = lastEnd(step, token + 1, end - 1, position)) {
+                    if (matches(step, token + 1, end, group + 1, bounds)) {
+                        bounds[group * 2] = position;
+                        bounds[group * 2 + 1] = end;
+                        return true;
+                    }
+                }
+                return false;
+        }
+    }
+
+    /**
+     * Returns the last position, not after the given one, where the next token can possibly start, or -1
+     */
+    private int lastEnd(String step, int nextToken, int end, int position) {
+        if (end < position) {
+            return -1;
+        }
+        if (nextToken == tokens.length) {
+            return end == step.length() ? end : -1;
+        }
+        Token next = tokens[nextToken];
+        switch (next.kind) {
+            case LITERAL:
+                int start = step.lastIndexOf(next.literal, end);
+                return start >= position ? start : -1;
+            case WHITESPACES:
+                for (int i = Math.min(end, step.length() - 1); i >= position; i--) {
+                    if (isWhitespace(step.charAt(i))) {
+                        return i;
+                    }
+                }
+                return -1;
+            default:
+                return end;
+        }
+    }
+
+    /**
+     * Whitespace as defined by the regex <code>\s</code> character class
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private enum Kind {
+        LITERAL, WHITESPACES, PARAMETER
+    }
+
+    private static final class Token {
+        private final Kind kind;
+        private final String literal;
+
+        private Token(Kind kind, String literal) {
+            this.kind = kind;
+            this.literal = literal;
+        }
+    }
+}
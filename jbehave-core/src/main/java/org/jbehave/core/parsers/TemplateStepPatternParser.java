@@ -0,0 +1,38 @@
+package org.jbehave.core.parsers;
+
+import java.util.regex.Pattern;
+
+import org.jbehave.core.steps.StepType;
+
+/**
+ * <p>
+ * A step pattern parser which, for the patterns made only of literal text and parameters, provides a
+ * {@link TemplateStepMatcher} matching steps without running regular expressions. Patterns which need a regular
+ * expression, e.g. containing alternations, are matched by a {@link RegexStepMatcher} as with the
+ * {@link RegexPrefixCapturingPatternParser}, of which this parser accepts the same parameter prefix and character
+ * class.
+ * </p>
+ */
+public class TemplateStepPatternParser extends RegexPrefixCapturingPatternParser {
+
+    public TemplateStepPatternParser() {
+        super();
+    }
+
+    public TemplateStepPatternParser(String prefix) {
+        super(prefix);
+    }
+
+    public TemplateStepPatternParser(String prefix, String characterClass) {
+        super(prefix, characterClass);
+    }
+
+    @Override
+    public StepMatcher parseStep(StepType stepType, String stepPattern) {
+        StepMatcher stepMatcher = super.parseStep(stepType, stepPattern);
+        Pattern regexPattern = stepMatcher.matcher("").pattern();
+        TemplateStepMatcher templateStepMatcher = TemplateStepMatcher.from(stepType,
+                stepMatcher.pattern().annotated(), regexPattern, stepMatcher.parameterNames());
+        return templateStepMatcher != null ? templateStepMatcher : stepMatcher;
+    }
+}
@@ -52,6 +52,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
     private static Method beforeGivenStories;
     private static Method givenStories;
     private static Method givenStoriesPaths;
+    private static Method givenStoryReused;
     private static Method afterGivenStories;
     private static Method beforeExamples;
     private static Method example;
@@ -95,6 +96,7 @@ public class ConcurrentStoryReporter implements StoryReporter {
             beforeGivenStories = StoryReporter.class.getMethod("beforeGivenStories");
             givenStories = StoryReporter.class.getMethod("givenStories", GivenStories.class);
             givenStoriesPaths = StoryReporter.class.getMethod("givenStories", List.class);
+            givenStoryReused = StoryReporter.class.getMethod("givenStoryReused", Story.class);
             afterGivenStories = StoryReporter.class.getMethod("afterGivenStories");
             beforeExamples = StoryReporter.class.getMethod("beforeExamples", List.class, ExamplesTable.class);
             example = StoryReporter.class.getMethod("example", Map.class, int.class);
@@ -243,6 +245,11 @@ public class ConcurrentStoryReporter implements StoryReporter {
         perform(reporter ->  reporter.givenStories(storyPaths), givenStoriesPaths, storyPaths);
     }
 
+    @Override
+    public void givenStoryReused(Story story) {
+        perform(reporter -> reporter.givenStoryReused(story), givenStoryReused, story);
+    }
+
     @Override
     public void afterGivenStories() {
         perform(StoryReporter::afterGivenStories, afterGivenStories);
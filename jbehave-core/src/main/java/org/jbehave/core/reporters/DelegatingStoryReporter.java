@@ -170,6 +170,11 @@ public class DelegatingStoryReporter implements StoryReporter {
         delegate(reporter -> reporter.givenStories(storyPaths));
     }
 
+    @Override
+    public void givenStoryReused(Story story) {
+        delegate(reporter -> reporter.givenStoryReused(story));
+    }
+
     @Override
     public void afterGivenStories() {
         delegate(StoryReporter::afterGivenStories);
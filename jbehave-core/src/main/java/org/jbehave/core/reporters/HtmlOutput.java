@@ -102,6 +102,7 @@ public class HtmlOutput extends PrintStreamOutput {
         patterns.setProperty("givenStories", "<div class=\"givenStories\">{0} {1}</div>\n");
         patterns.setProperty("givenStoriesStart", "<div class=\"givenStories\">{0}\n");
         patterns.setProperty("givenStory", "<div class=\"givenStory\">{0} {1}</div>\n");
+        patterns.setProperty("givenStoryReused", "<div class=\"givenStoryReused\">{0}</div>\n");
         patterns.setProperty("givenStoriesEnd", "</div>\n");
         patterns.setProperty("successful", "<div class=\"step successful\">{0}</div>\n");
         patterns.setProperty("ignorable", "<div class=\"step ignorable\">{0}</div>\n");
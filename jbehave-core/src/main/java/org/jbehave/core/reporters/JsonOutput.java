@@ -65,7 +65,8 @@ public class JsonOutput extends PrintStreamOutput {
             }
             givenStoriesLevel--;
             return super.format(key, defaultPattern, args);
-        } else if ("beforeStory".equals(key) && storyPublishingLevel < givenStoriesLevel) {
+        } else if (("beforeStory".equals(key) || "givenStoryReused".equals(key))
+                && storyPublishingLevel < givenStoriesLevel) {
             // Starting given "stories"
             print("\"stories\": [");
             storyPublishingLevel++;
@@ -158,6 +159,7 @@ public class JsonOutput extends PrintStreamOutput {
         patterns.setProperty("givenStoriesStart", "\"keyword\": \"{0}\", \"givenStories\":[");
         patterns.setProperty("givenStory", "'{'\"parameters\": \"{1}\", \"path\": \"{0}\"}");
         patterns.setProperty("givenStoriesEnd", "]");
+        patterns.setProperty("givenStoryReused", "'{'\"path\": \"{0}\", \"reused\": true}");
         patterns.setProperty("afterGivenStories", "}");
         patterns.setProperty("beforeStep", "'{'");
         patterns.setProperty("successful", "\"outcome\": \"successful\", \"value\": \"{0}\"}");
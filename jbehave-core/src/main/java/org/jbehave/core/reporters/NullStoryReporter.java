@@ -166,6 +166,11 @@ public class NullStoryReporter implements StoryReporter {
         // Do nothing by default
     }
 
+    @Override
+    public void givenStoryReused(Story story) {
+        // Do nothing by default
+    }
+
     @Override
     public void afterGivenStories() {
         // Do nothing by default
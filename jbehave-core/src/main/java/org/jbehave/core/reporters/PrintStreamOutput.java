@@ -469,6 +469,11 @@ public abstract class PrintStreamOutput extends NullStoryReporter {
         givenStories(new GivenStories(StringUtils.join(storyPaths, ",")));
     }
 
+    @Override
+    public void givenStoryReused(Story story) {
+        print(format("givenStoryReused", "{0} (reused)\n", story.getPath()));
+    }
+
     @Override
     public void afterGivenStories() {
         print(format("afterGivenStories", ""));
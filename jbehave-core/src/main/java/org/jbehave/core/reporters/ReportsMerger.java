@@ -0,0 +1,316 @@
+package org.jbehave.core.reporters;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.embedder.StoryDurations;
+
+/**
+ * <p>
+ * Merges the reports of stories run separately, e.g. by several JVMs or in several shards, each with its own output
+ * directory, into a single output directory, from which a single reports view can be generated by the
+ * {@link ViewGenerator}:
+ * <ul>
+ * <li>the report files of the stories, including their <code>stats</code>, are copied, those of the later directories
+ * replacing those of the earlier ones with the same name, e.g. of the <code>BeforeStories</code> and
+ * <code>AfterStories</code>;</li>
+ * <li>the properties files, e.g. the {@link StoryDurations#STORY_DURATIONS}, are merged by story into those already
+ * in the merged directory, so that the properties of the stories not run again, e.g. in other shards, are kept, the
+ * totals of the story durations being computed over the stories run in all the directories;</li>
+ * <li>the view resources are copied and the Surefire XML reports, as generated by the {@link SurefireReporter}, are
+ * merged into a single test suite.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * The files are streamed, rather than read in memory, apart from the properties files.
+ * </p>
+ */
+public class ReportsMerger {
+
+    private static final String VIEW = "view";
+    private static final String PROPS = ".props";
+    private static final String XML = ".xml";
+    private static final String TESTSUITE = "testsuite";
+    private static final String PROPERTIES = "properties";
+    private static final String TESTCASE = "testcase";
+    private static final List<String> COUNTS = Arrays.asList("tests", "errors", "skipped", "failures");
+    private static final List<String> DURATION_TOTALS = Arrays.asList("total", "threads", "threadAverage");
+
+    private final String surefireReportName;
+
+    public ReportsMerger() {
+        this(SurefireReporter.Options.DEFAULT_REPORT_NAME);
+    }
+
+    public ReportsMerger(String surefireReportName) {
+        this.surefireReportName = surefireReportName;
+    }
+
+    /**
+     * Merges the reports of the output directories into the merged directory, which may be one of them. The
+     * properties already in the merged directory are kept, unless replaced by those of the output directories.
+     *
+     * @param outputDirectories the output directories of the stories run separately
+     * @param mergedDirectory the directory of the merged reports
+     */
+    public void merge(List<File> outputDirectories, File mergedDirectory) {
+        try {
+            mergedDirectory.mkdirs();
+            Map<String, Properties> properties = new TreeMap<>();
+            if (!contains(outputDirectories, mergedDirectory)) {
+                File[] files = mergedDirectory.listFiles((dir, name) -> name.endsWith(PROPS));
+                if (files != null) {
+                    for (File file : files) {
+                        properties.put(file.getName(), read(file));
+                    }
+                }
+            }
+            Properties durationsRun = new Properties();
+            long threads = 0;
+            for (File outputDirectory : outputDirectories) {
+                File[] files = outputDirectory.listFiles();
+                if (files == null) {
+                    continue;
+                }
+                boolean isMergedDirectory = isSame(outputDirectory, mergedDirectory);
+                for (File file : files) {
+                    String name = file.getName();
+                    if (name.endsWith(PROPS)) {
+                        Properties read = read(file);
+                        if (name.equals(StoryDurations.STORY_DURATIONS)) {
+                            threads += Math.max(1, new StoryDurations(read).durationInMillis("threads"));
+                            durationsRun.putAll(read);
+                        }
+                        properties.computeIfAbsent(name, key -> new Properties()).putAll(read);
+                    } else if (file.isFile() && !isMergedDirectory) {
+                        Files.copy(file.toPath(), new File(mergedDirectory, name).toPath(),
+                                StandardCopyOption.REPLACE_EXISTING);
+                    } else if (name.equals(VIEW) && !isMergedDirectory) {
+                        copyViewResources(file, new File(mergedDirectory, VIEW));
+                    }
+                }
+            }
+            for (Map.Entry<String, Properties> entry : properties.entrySet()) {
+                // the totals are kept if no story durations were merged
+                if (entry.getKey().equals(StoryDurations.STORY_DURATIONS) && threads > 0) {
+                    totalDurations(entry.getValue(), durationsRun, threads);
+                }
+                write(entry.getValue(), new File(mergedDirectory, entry.getKey()));
+            }
+            mergeSurefireReports(outputDirectories, mergedDirectory);
+        } catch (IOException | XMLStreamException e) {
+            throw new ReportsMergeFailed(outputDirectories, mergedDirectory, e);
+        }
+    }
+
+    private boolean isSame(File directory, File other) throws IOException {
+        return directory.getCanonicalFile().equals(other.getCanonicalFile());
+    }
+
+    private boolean contains(List<File> directories, File directory) throws IOException {
+        for (File other : directories) {
+            if (isSame(other, directory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void copyViewResources(File viewDirectory, File mergedViewDirectory) throws IOException {
+        // the views are generated again from the merged reports, only their resources are copied
+        File[] resources = viewDirectory.listFiles(File::isDirectory);
+        if (resources != null) {
+            for (File resource : resources) {
+                FileUtils.copyDirectory(resource, new File(mergedViewDirectory, resource.getName()));
+            }
+        }
+    }
+
+    private Properties read(File file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.ISO_8859_1)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    private void write(Properties properties, File file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.ISO_8859_1)) {
+            properties.store(writer, getClass().getName());
+        }
+    }
+
+    private void totalDurations(Properties durations, Properties durationsRun, long threads) {
+        // the stories were run by all the threads of all the runs, the stories not run again being left out
+        StoryDurations storyDurations = new StoryDurations(durationsRun);
+        long total = 0;
+        for (String path : durationsRun.stringPropertyNames()) {
+            if (!DURATION_TOTALS.contains(path)) {
+                total += Math.max(0, storyDurations.durationInMillis(path));
+            }
+        }
+        threads = Math.max(1, threads);
+        durations.setProperty("total", Long.toString(total));
+        durations.setProperty("threads", Long.toString(threads));
+        durations.setProperty("threadAverage", Long.toString(total / threads));
+    }
+
+    private void mergeSurefireReports(List<File> outputDirectories, File mergedDirectory)
+            throws IOException, XMLStreamException {
+        List<File> reports = new ArrayList<>();
+        for (File outputDirectory : outputDirectories) {
+            File[] files = new File(outputDirectory, VIEW).listFiles(
+                    (dir, name) -> name.startsWith(surefireReportName) && name.endsWith(XML));
+            if (files != null) {
+                Arrays.sort(files);
+                reports.addAll(Arrays.asList(files));
+            }
+        }
+        if (reports.isEmpty()) {
+            return;
+        }
+        // the reports are read twice, to total their counts before copying their test cases
+        File merged = new File(new File(mergedDirectory, VIEW), surefireReportName + XML);
+        File mergedTemp = new File(merged.getParentFile(), merged.getName() + ".tmp");
+        merged.getParentFile().mkdirs();
+        SuiteTotals totals = new SuiteTotals();
+        for (File report : reports) {
+            totals.add(testsuiteOf(report));
+        }
+        XMLEventFactory events = XMLEventFactory.newInstance();
+        try (OutputStream output = Files.newOutputStream(mergedTemp.toPath())) {
+            XMLEventWriter writer = XMLOutputFactory.newInstance().createXMLEventWriter(output, "UTF-8");
+            writer.add(events.createStartDocument("UTF-8", "1.0"));
+            writer.add(totals.asStartElement(events));
+            boolean withProperties = true;
+            for (File report : reports) {
+                copyElements(report, writer, withProperties);
+                withProperties = false;
+            }
+            writer.add(events.createEndElement("", "", TESTSUITE));
+            writer.add(events.createEndDocument());
+            writer.close();
+        }
+        Files.move(mergedTemp.toPath(), merged.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private StartElement testsuiteOf(File report) throws IOException, XMLStreamException {
+        try (InputStream input = Files.newInputStream(report.toPath())) {
+            XMLEventReader reader = XMLInputFactory.newInstance().createXMLEventReader(input);
+            try {
+                while (reader.hasNext()) {
+                    XMLEvent event = reader.nextEvent();
+                    if (event.isStartElement()) {
+                        return event.asStartElement();
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        throw new XMLStreamException("No test suite in " + report);
+    }
+
+    private void copyElements(File report, XMLEventWriter writer, boolean withProperties)
+            throws IOException, XMLStreamException {
+        try (InputStream input = Files.newInputStream(report.toPath())) {
+            XMLEventReader reader = XMLInputFactory.newInstance().createXMLEventReader(input);
+            try {
+                int depth = 0;
+                boolean copying = false;
+                while (reader.hasNext()) {
+                    XMLEvent event = reader.nextEvent();
+                    if (event.isStartElement()) {
+                        depth++;
+                        String name = event.asStartElement().getName().getLocalPart();
+                        // the children of the test suite, i.e. its properties and test cases
+                        if (depth == 2) {
+                            copying = name.equals(TESTCASE) || (withProperties && name.equals(PROPERTIES));
+                        }
+                    }
+                    if (copying && depth >= 2) {
+                        writer.add(event);
+                    }
+                    if (event.isEndElement()) {
+                        depth--;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private static class SuiteTotals {
+
+        private final Map<String, Long> counts = new TreeMap<>();
+        private String name;
+        private double timeInSecs;
+
+        void add(StartElement testsuite) {
+            if (name == null) {
+                name = valueOf(testsuite, "name", "");
+            }
+            for (String count : COUNTS) {
+                counts.merge(count, Long.parseLong(valueOf(testsuite, count, "0")), Long::sum);
+            }
+            timeInSecs += Double.parseDouble(valueOf(testsuite, "time", "0"));
+        }
+
+        private String valueOf(StartElement element, String name, String defaultValue) {
+            Attribute attribute = element.getAttributeByName(new QName(name));
+            return attribute != null ? attribute.getValue() : defaultValue;
+        }
+
+        StartElement asStartElement(XMLEventFactory events) {
+            List<Attribute> attributes = new ArrayList<>();
+            attributes.add(events.createAttribute("xsi", "http://www.w3.org/2001/XMLSchema-instance",
+                    "noNamespaceSchemaLocation",
+                    "https://maven.apache.org/surefire/maven-surefire-plugin/xsd/surefire-test-report.xsd"));
+            attributes.add(events.createAttribute("name", name));
+            attributes.add(events.createAttribute("time",
+                    new DecimalFormat("0.###", DecimalFormatSymbols.getInstance(Locale.ENGLISH)).format(timeInSecs)));
+            for (Map.Entry<String, Long> count : counts.entrySet()) {
+                attributes.add(events.createAttribute(count.getKey(), Long.toString(count.getValue())));
+            }
+            return events.createStartElement("", "", TESTSUITE, attributes.iterator(),
+                    Arrays.asList(events.createNamespace("xsi", "http://www.w3.org/2001/XMLSchema-instance"))
+                            .iterator());
+        }
+    }
+
+    @SuppressWarnings("serial")
+    public static class ReportsMergeFailed extends RuntimeException {
+
+        public ReportsMergeFailed(List<File> outputDirectories, File mergedDirectory, Throwable cause) {
+            super("Merge of reports of " + outputDirectories + " into " + mergedDirectory + " failed", cause);
+        }
+    }
+}
@@ -68,6 +68,8 @@ public interface StoryReporter {
 
     void givenStories(List<String> storyPaths);
 
+    void givenStoryReused(Story story);
+
     void afterGivenStories();
 
     void beforeExamples(List<String> steps, ExamplesTable table);
@@ -7,11 +7,16 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
@@ -26,6 +31,8 @@ import org.jbehave.core.embedder.PerformableTree.PerformableStory;
 import org.jbehave.core.embedder.PerformableTree.Status;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 
 public class SurefireReporter {
@@ -101,29 +108,88 @@ public class SurefireReporter {
         this.reportByStory = options.reportByStory;
     }
 
+    public String getReportName() {
+        return reportName;
+    }
+
     public synchronized void generate(PerformableRoot root,
                                       File outputDirectory) {
+        generate(root, Collections.emptyList(), outputDirectory);
+    }
+
+    /**
+     * Generates the report of the stories performed, keeping the test cases of the stories not run again, e.g. when
+     * only the failed stories are run again, as reported by the previous report.
+     *
+     * @param root the PerformableRoot of the stories performed
+     * @param storiesNotRun the stories not run again, whose test cases are kept from the previous report
+     * @param outputDirectory the output directory of the reports
+     */
+    public synchronized void generate(PerformableRoot root, List<Story> storiesNotRun, File outputDirectory) {
         List<PerformableStory> stories = root.getStories();
         if (reportByStory) {
+            // the reports of the stories not run again are not overwritten
             for (PerformableStory story : stories) {
                 String name = reportName(story.getStory().getPath());
                 File file = outputFile(outputDirectory, name);
-                generateReport(asList(story), file);
+                generateReport(asList(story), Collections.emptyList(), file);
             }
         } else {
             File file = outputFile(outputDirectory, reportName);
-            generateReport(stories, file);
+            generateReport(stories, keptTestCases(stories, storiesNotRun, file), file);
+        }
+    }
+
+    private List<TestCase> keptTestCases(List<PerformableStory> stories, List<Story> storiesNotRun, File file) {
+        List<TestCase> testCases = new ArrayList<>();
+        if (storiesNotRun.isEmpty() || !file.exists()) {
+            return testCases;
+        }
+        // the stories performed by an earlier run of the same root are reported as performed
+        Set<String> performedPaths = new HashSet<>();
+        for (PerformableStory story : stories) {
+            performedPaths.add(story.getStory().getPath());
+        }
+        Set<String> names = new HashSet<>();
+        for (Story story : storiesNotRun) {
+            if (performedPaths.contains(story.getPath())) {
+                continue;
+            }
+            for (Scenario scenario : story.getScenarios()) {
+                names.add(namingStrategy.resolveName(story, scenario));
+            }
+        }
+        try {
+            NodeList elements = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file)
+                    .getElementsByTagName("testcase");
+            for (int i = 0; i < elements.getLength(); i++) {
+                Element element = (Element) elements.item(i);
+                String name = element.getAttribute("name");
+                if (names.contains(name)) {
+                    long time = Math.round(Double.parseDouble(element.getAttribute("time")) * 1000);
+                    TestCase testCase = new TestCase(embeddableClass, name, time);
+                    NodeList failures = element.getElementsByTagName("failure");
+                    if (failures.getLength() > 0) {
+                        testCase.setFailure(new KeptTestFailure((Element) failures.item(0)));
+                    }
+                    testCases.add(testCase);
+                }
+            }
+        } catch (IOException | SAXException | ParserConfigurationException | NumberFormatException e) {
+            throw new RuntimeException("Failed to read previous surefire report " + file, e);
         }
+        return testCases;
     }
 
     private String reportName(String path) {
         return reportName + HYPHEN + StringUtils.substringBefore(path, DOT).replace('/', '.');
     }
 
-    private void generateReport(List<PerformableStory> stories, File file) {
+    private void generateReport(List<PerformableStory> stories, List<TestCase> keptTestCases, File file) {
         try {
             Map<String, Object> dataModel = new HashMap<>();
-            dataModel.put("testsuite", new TestSuite(embeddableClass, namingStrategy, stories, includeProperties));
+            dataModel.put("testsuite", new TestSuite(embeddableClass, namingStrategy, stories, keptTestCases,
+                    includeProperties));
             processor.process(SUREFIRE_FTL, dataModel, new FileWriter(file));
             validateOutput(file, SUREFIRE_XSD);
         } catch (IOException | SAXException e) {
@@ -158,10 +224,24 @@ public class SurefireReporter {
 
         public TestSuite(Class<?> embeddableClass, TestCaseNamingStrategy namingStrategy,
                 List<PerformableStory> stories, boolean includeProperties) {
+            this(embeddableClass, namingStrategy, stories, Collections.emptyList(), includeProperties);
+        }
+
+        public TestSuite(Class<?> embeddableClass, TestCaseNamingStrategy namingStrategy,
+                List<PerformableStory> stories, List<TestCase> keptTestCases, boolean includeProperties) {
             this.embeddableClass = embeddableClass;
             this.namingStrategy = namingStrategy;
             this.testCounts = collectTestCounts(stories);
             this.testCases = collectTestCases(stories);
+            // the test cases kept from a previous report are counted as failed or else successful
+            for (TestCase testCase : keptTestCases) {
+                if (testCase.hasFailure()) {
+                    testCounts.addFailure();
+                } else {
+                    testCounts.addSuccessful();
+                }
+                testCases.add(testCase);
+            }
             this.includeProperties = includeProperties;
         }
 
@@ -396,6 +476,43 @@ public class SurefireReporter {
         }
     }
 
+    /**
+     * A failure kept from a previous report, whose message, type and stack trace are reported as they were.
+     */
+    private static class KeptTestFailure extends TestFailure {
+
+        private final String message;
+        private final String type;
+        private final String stackTrace;
+
+        KeptTestFailure(Element failure) {
+            super(null);
+            this.message = failure.getAttribute("message");
+            this.type = failure.getAttribute("type");
+            this.stackTrace = failure.getTextContent();
+        }
+
+        @Override
+        public boolean hasFailure() {
+            return true;
+        }
+
+        @Override
+        public String getMessage() {
+            return EscapeMode.XML.escapeString(message);
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+
+        @Override
+        public String getStackTrace() {
+            return EscapeMode.XML.escapeString(stackTrace);
+        }
+    }
+
     public static class TestCounts {
 
         private int tests = 0;
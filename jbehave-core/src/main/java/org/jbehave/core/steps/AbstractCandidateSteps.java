@@ -4,6 +4,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 
 import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
 import org.jbehave.core.parsers.StepMatcher;
 import org.jbehave.core.parsers.StepPatternParser;
 
@@ -22,17 +23,33 @@ public abstract class AbstractCandidateSteps implements CandidateSteps {
             String value, int priority, Class<?> type, InjectableStepsFactory stepsFactory, String[] steps) {
         StepPatternParser stepPatternParser = configuration.stepPatternParser();
         PatternVariantBuilder patternVariantBuilder = new PatternVariantBuilder(value);
+        if (configuration.isPatternVariantsCollapsed()
+                && stepPatternParser instanceof RegexPrefixCapturingPatternParser) {
+            StepMatcher stepMatcher = CollapsedPatternVariants.stepMatcher(
+                    (RegexPrefixCapturingPatternParser) stepPatternParser, stepType, patternVariantBuilder);
+            if (stepMatcher != null) {
+                // a single candidate for all the variants, described by the pattern as annotated
+                candidates.add(createCandidate(value, stepMatcher, method, stepType, priority, type, stepsFactory,
+                        steps));
+                return;
+            }
+        }
         for (String variant : patternVariantBuilder.allVariants()) {
             StepMatcher stepMatcher = stepPatternParser.parseStep(stepType, variant);
-            StepCreator stepCreator = createStepCreator(type, stepsFactory, stepMatcher);
-            stepCreator.useParanamer(configuration.paranamer());
-            StepCandidate candidate = new StepCandidate(variant, priority, stepType, method, type, stepsFactory,
-                    configuration.keywords(), stepMatcher, stepPatternParser.getPrefix(), stepCreator, steps,
-                    configuration.stepMonitor());
-            candidates.add(candidate);
+            candidates.add(createCandidate(variant, stepMatcher, method, stepType, priority, type, stepsFactory,
+                    steps));
         }
     }
 
+    private StepCandidate createCandidate(String pattern, StepMatcher stepMatcher, Method method, StepType stepType,
+            int priority, Class<?> type, InjectableStepsFactory stepsFactory, String[] steps) {
+        StepCreator stepCreator = createStepCreator(type, stepsFactory, stepMatcher);
+        stepCreator.useParanamer(configuration.paranamer());
+        return new StepCandidate(pattern, priority, stepType, method, type, stepsFactory, configuration.keywords(),
+                stepMatcher, configuration.stepPatternParser().getPrefix(), stepCreator, steps,
+                configuration.stepMonitor());
+    }
+
     protected final StepCreator createStepCreator(Class<?> type, InjectableStepsFactory stepsFactory) {
         return createStepCreator(type, stepsFactory, null);
     }
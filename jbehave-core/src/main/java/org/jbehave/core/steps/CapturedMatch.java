@@ -0,0 +1,98 @@
+package org.jbehave.core.steps;
+
+import java.util.regex.Matcher;
+
+import org.jbehave.core.parsers.StepMatcher;
+
+/**
+ * The values of the groups captured by a {@link StepMatcher} for a textual step, so that a matched step can be
+ * parametrised without running the matcher again.
+ */
+public class CapturedMatch {
+
+    private final String stepWithoutStartingWord;
+    private final String[] groups;
+
+    private CapturedMatch(String stepWithoutStartingWord, String[] groups) {
+        this.stepWithoutStartingWord = stepWithoutStartingWord;
+        this.groups = groups;
+    }
+
+    /**
+     * Captures the groups of a matcher which has successfully matched a step.
+     *
+     * @param stepWithoutStartingWord the textual step without starting word
+     * @param matcher the Matcher
+     * @return The CapturedMatch
+     */
+    public static CapturedMatch capture(String stepWithoutStartingWord, Matcher matcher) {
+        String[] groups = new String[matcher.groupCount()];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = matcher.group(i + 1);
+        }
+        return new CapturedMatch(stepWithoutStartingWord, groups);
+    }
+
+    /**
+     * Creates a match with the values captured by the groups of a step matcher.
+     *
+     * @param stepWithoutStartingWord the textual step without starting word
+     * @param groups the values of the groups, in order
+     * @return The CapturedMatch
+     */
+    public static CapturedMatch of(String stepWithoutStartingWord, String[] groups) {
+        return new CapturedMatch(stepWithoutStartingWord, groups.clone());
+    }
+
+    /**
+     * Finds the first match of the step matcher in the step.
+     *
+     * @param stepMatcher the StepMatcher
+     * @param stepWithoutStartingWord the textual step without starting word
+     * @return The CapturedMatch, which is not matched if the step matcher is not found in the step
+     */
+    public static CapturedMatch find(StepMatcher stepMatcher, String stepWithoutStartingWord) {
+        Matcher matcher = stepMatcher.matcher(stepWithoutStartingWord);
+        if (matcher.find()) {
+            return capture(stepWithoutStartingWord, matcher);
+        }
+        return new CapturedMatch(stepWithoutStartingWord, null);
+    }
+
+    /**
+     * Creates a match whose groups are not captured, e.g. for a step which is the pattern itself, so that the step
+     * is matched again if it is parametrised.
+     *
+     * @param stepWithoutStartingWord the textual step without starting word
+     * @return The CapturedMatch, which is not matched
+     */
+    static CapturedMatch uncaptured(String stepWithoutStartingWord) {
+        return new CapturedMatch(stepWithoutStartingWord, null);
+    }
+
+    public String getStepWithoutStartingWord() {
+        return stepWithoutStartingWord;
+    }
+
+    public boolean isMatched() {
+        return groups != null;
+    }
+
+    /**
+     * Returns the value captured by a group, as {@link Matcher#group(int)} does.
+     *
+     * @param group the group index, starting from 1
+     * @return The captured value, which may be <code>null</code>
+     * @throws IllegalStateException if the step was not matched
+     * @throws IndexOutOfBoundsException if there is no group with the given index
+     */
+    public String group(int group) {
+        if (groups == null) {
+            throw new IllegalStateException("No match found");
+        }
+        if (group < 1 || group > groups.length) {
+            throw new IndexOutOfBoundsException("No group " + group);
+        }
+        return groups[group - 1];
+    }
+}
@@ -0,0 +1,156 @@
+package org.jbehave.core.steps;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
+import org.jbehave.core.parsers.RegexStepMatcher;
+import org.jbehave.core.parsers.StepMatcher;
+
+/**
+ * <p>
+ * Collapses the variants of a pattern, as built by the {@link PatternVariantBuilder}, into a single
+ * {@link StepMatcher} whose regular expression holds the options of each directive as an alternation, e.g.
+ * <code>the {user|customer} has $n {item|items}</code> is matched by
+ * <code>the(?:\s+user\s+|\s+customer\s+)has\s+(.*)(?:\s+item|\s+items)</code> rather than by four step matchers.
+ * </p>
+ * <p>
+ * The whitespace around a directive is moved into its options, so that the alternation matches the same steps as
+ * the variants, whose whitespace sequences are matched as a whole. Patterns whose variants could not be matched by
+ * such an alternation are not collapsed, i.e. if their options contain parameters or if their directives are only
+ * separated by whitespace.
+ * </p>
+ */
+final class CollapsedPatternVariants {
+
+    private static final char FIRST_PLACEHOLDER = (char) 0xE000;
+    private static final char LAST_PLACEHOLDER = (char) 0xF8FF;
+
+    private CollapsedPatternVariants() {
+    }
+
+    /**
+     * Creates the step matcher of all the variants of a pattern.
+     *
+     * @param stepPatternParser the parser of the variants
+     * @param stepType the step type
+     * @param patternVariantBuilder the builder of the variants
+     * @return The StepMatcher or <code>null</code> if the variants cannot be collapsed
+     */
+    static StepMatcher stepMatcher(RegexPrefixCapturingPatternParser stepPatternParser, StepType stepType,
+            PatternVariantBuilder patternVariantBuilder) {
+        List<String> literals = new ArrayList<>();
+        List<List<String>> directives = new ArrayList<>();
+        patternVariantBuilder.splitInput(literals, directives);
+        if (directives.isEmpty() || directives.size() > LAST_PLACEHOLDER - FIRST_PLACEHOLDER + 1
+                || !collapsible(stepPatternParser.getPrefix(), literals, directives)) {
+            return null;
+        }
+
+        // the literal parts, without the whitespace moved into the options of their adjacent directives
+        String[] trimmedLiterals = new String[literals.size()];
+        List<List<String>> options = new ArrayList<>();
+        for (int i = 0; i < literals.size(); i++) {
+            String literal = literals.get(i);
+            int start = i > 0 ? leadingWhitespaceEnd(literal) : 0;
+            int end = i < directives.size() ? trailingWhitespaceStart(literal) : literal.length();
+            trimmedLiterals[i] = literal.substring(start, Math.max(start, end));
+            if (i < directives.size()) {
+                String before = literal.substring(Math.max(start, end));
+                String after = literals.get(i + 1).substring(0, leadingWhitespaceEnd(literals.get(i + 1)));
+                List<String> directiveOptions = new ArrayList<>();
+                for (String option : directives.get(i)) {
+                    directiveOptions.add(before + option + after);
+                }
+                options.add(directiveOptions);
+            }
+        }
+
+        StringBuilder skeleton = new StringBuilder(trimmedLiterals[0]);
+        for (int i = 0; i < options.size(); i++) {
+            skeleton.append(placeholder(i)).append(trimmedLiterals[i + 1]);
+        }
+        StepMatcher skeletonMatcher = stepPatternParser.parseStep(stepType, skeleton.toString());
+        String[] parameterNames = skeletonMatcher.parameterNames();
+        Pattern skeletonPattern = skeletonMatcher.matcher("").pattern();
+
+        String regex = skeletonPattern.pattern();
+        for (int i = 0; i < options.size(); i++) {
+            StringJoiner alternation = new StringJoiner("|", "(?:", ")");
+            for (String option : options.get(i)) {
+                // each option must leave the parameters of the pattern unchanged
+                String withOption = skeleton.toString().replace(String.valueOf(placeholder(i)), option);
+                if (!Arrays.equals(parameterNames, stepPatternParser.parseStep(stepType, withOption)
+                        .parameterNames())) {
+                    return null;
+                }
+                alternation.add(stepPatternParser.parseStep(stepType, option).matcher("").pattern().pattern());
+            }
+            regex = regex.replace(String.valueOf(placeholder(i)), alternation.toString());
+        }
+        return new RegexStepMatcher(stepType, patternVariantBuilder.getInput(),
+                Pattern.compile(regex, skeletonPattern.flags()), parameterNames);
+    }
+
+    private static boolean collapsible(String prefix, List<String> literals, List<List<String>> directives) {
+        for (int i = 0; i < literals.size(); i++) {
+            String literal = literals.get(i);
+            if (literal.indexOf('|') >= 0 || hasPlaceholder(literal)) {
+                // alternations or placeholders in literal parts would change the alternations of the options
+                return false;
+            }
+            if (i > 0 && i < directives.size() && leadingWhitespaceEnd(literal) == literal.length()) {
+                // options of adjacent directives would share whitespace sequences
+                return false;
+            }
+        }
+        for (List<String> directive : directives) {
+            for (String option : directive) {
+                if (option.contains(prefix) || hasPlaceholder(option)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasPlaceholder(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= FIRST_PLACEHOLDER && c <= LAST_PLACEHOLDER) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static char placeholder(int directive) {
+        return (char) (FIRST_PLACEHOLDER + directive);
+    }
+
+    private static int leadingWhitespaceEnd(String text) {
+        int end = 0;
+        while (end < text.length() && isWhitespace(text.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int trailingWhitespaceStart(String text) {
+        int start = text.length();
+        while (start > 0 && isWhitespace(text.charAt(start - 1))) {
+            start--;
+        }
+        return start;
+    }
+
+    /**
+     * Whitespace as defined by the regex <code>\s</code> character class, as matched by the parser
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
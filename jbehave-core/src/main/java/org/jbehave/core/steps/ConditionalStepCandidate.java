@@ -31,11 +31,12 @@ public class ConditionalStepCandidate extends StepCandidate {
     }
 
     @Override
-    public Step createMatchedStep(String stepAsString, Map<String, String> namedParameters, List<Step> composedSteps) {
+    public Step createMatchedStep(String stepAsString, Map<String, String> namedParameters, List<Step> composedSteps,
+            CapturedMatch match, StepMonitor stepMonitor) {
         Map<Method, ParametrisedStep> parametrisedSteps = stepCreators.entrySet().stream()
                 .collect(Collectors.toMap(Map.Entry::getKey,
                         e -> (ParametrisedStep) e.getValue().createParametrisedStep(e.getKey(), stepAsString,
-                                stepAsString, namedParameters, composedSteps)));
+                                stepAsString, namedParameters, composedSteps, null, stepMonitor)));
 
         return getStepCreator().createConditionalStep(stepConditionMatcher, parametrisedSteps);
     }
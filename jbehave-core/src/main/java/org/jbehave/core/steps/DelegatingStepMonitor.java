@@ -57,6 +57,13 @@ public class DelegatingStepMonitor implements StepMonitor {
         }
     }
 
+    @Override
+    public void stepCandidateCacheLookup(String step, boolean hit, long hits, long misses) {
+        for (StepMonitor monitor : delegates) {
+            monitor.stepCandidateCacheLookup(step, hit, hits, misses);
+        }
+    }
+
     @Override
     public void foundParameter(String parameter, int position) {
         for (StepMonitor monitor : delegates) {
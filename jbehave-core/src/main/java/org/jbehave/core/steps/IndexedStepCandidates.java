@@ -0,0 +1,271 @@
+package org.jbehave.core.steps;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
+import org.jbehave.core.parsers.StepMatcher;
+import org.jbehave.core.parsers.StepPatternsAutomaton;
+
+/**
+ * <p>
+ * List of {@link StepCandidate}s indexed by {@link StepType} and by the literal segments of their pattern, held in
+ * a {@link StepPatternsAutomaton} per step type. A textual step is only ever looked up in the automata of the step
+ * types it can be of, so that the {@link StepCollector} only needs to try the few candidates which can possibly match
+ * it.
+ * </p>
+ * <p>
+ * Candidates for which no literal segment can be derived are always returned for their step type. The candidates
+ * returned by {@link #candidatesFor(String, String)} are in the same relative order as in this list. If the list is
+ * modified, the index is discarded and all the candidates are returned.
+ * </p>
+ * <p>
+ * The candidates the composed steps of a composite step can match are looked up in the same way, in a view of this
+ * list {@link #prioritisedFor(String, StepFinder) prioritised} for the composite step, which only prioritises the
+ * candidates which can possibly match each composed step, rather than the whole list for each composite step.
+ * </p>
+ */
+public class IndexedStepCandidates extends AbstractList<StepCandidate> implements RandomAccess {
+
+    private final List<StepCandidate> candidates;
+    private final Keywords keywords;
+    private final StepCandidateCache stepCandidateCache;
+    private final String prioritisingStep;
+    private final StepFinder stepFinder;
+    private volatile Map<StepType, TypeIndex> index;
+
+    public IndexedStepCandidates(List<StepCandidate> candidates) {
+        this.candidates = new ArrayList<>(candidates);
+        this.keywords = commonKeywords(this.candidates);
+        this.index = keywords != null ? createIndex() : null;
+        this.stepCandidateCache = null;
+        this.prioritisingStep = null;
+        this.stepFinder = null;
+    }
+
+    private IndexedStepCandidates(IndexedStepCandidates indexed, StepCandidateCache stepCandidateCache) {
+        this.candidates = new ArrayList<>(indexed.candidates);
+        this.keywords = indexed.keywords;
+        this.index = indexed.index;
+        this.stepCandidateCache = stepCandidateCache;
+        this.prioritisingStep = null;
+        this.stepFinder = null;
+    }
+
+    private IndexedStepCandidates(IndexedStepCandidates indexed, String prioritisingStep, StepFinder stepFinder) {
+        // the candidates are shared, as the view cannot be modified
+        this.candidates = indexed.candidates;
+        this.keywords = indexed.keywords;
+        this.index = indexed.index;
+        this.stepCandidateCache = indexed.stepCandidateCache;
+        this.prioritisingStep = prioritisingStep;
+        this.stepFinder = stepFinder;
+    }
+
+    /**
+     * Returns a copy of this list, sharing its index, whose resolved candidates are cached in the given cache.
+     *
+     * @param stepCandidateCache the cache of the resolved candidates
+     * @return The IndexedStepCandidates using the cache
+     */
+    public IndexedStepCandidates withCache(StepCandidateCache stepCandidateCache) {
+        return new IndexedStepCandidates(this, stepCandidateCache);
+    }
+
+    /**
+     * Returns the cache of the resolved candidates.
+     *
+     * @return The StepCandidateCache, or <code>null</code> if candidates are not cached
+     */
+    public StepCandidateCache stepCandidateCache() {
+        return stepCandidateCache;
+    }
+
+    /**
+     * Returns an unmodifiable view of this list, sharing its candidates and its index, whose candidates are
+     * prioritised by the step finder for the textual step when {@link #prioritise(List) prioritised}, e.g. the
+     * candidates of the composed steps of a composite step. The view itself is in the order of this list.
+     *
+     * @param stepAsString the textual step the candidates are prioritised for
+     * @param stepFinder the StepFinder prioritising the candidates
+     * @return The IndexedStepCandidates prioritised for the step
+     */
+    IndexedStepCandidates prioritisedFor(String stepAsString, StepFinder stepFinder) {
+        return new IndexedStepCandidates(this, stepAsString, stepFinder);
+    }
+
+    /**
+     * Prioritises some of the candidates of this list, in the same relative order as if the whole list was
+     * prioritised, as the prioritising strategies sort the candidates stably.
+     *
+     * @param candidates the candidates to prioritise, which may be sorted in place
+     * @return The prioritised candidates, as they are if this list is not prioritised for a step
+     */
+    List<StepCandidate> prioritise(List<StepCandidate> candidates) {
+        return stepFinder != null ? stepFinder.prioritise(prioritisingStep, candidates) : candidates;
+    }
+
+    /**
+     * Checks if both lists are indexed by the same index, i.e. hold the same candidates in the same order, as copies
+     * or views of one another, none of which modified since.
+     *
+     * @param other the other IndexedStepCandidates
+     * @return A boolean
+     */
+    boolean hasSameIndexAs(IndexedStepCandidates other) {
+        Map<StepType, TypeIndex> index = this.index;
+        return index != null && index == other.index;
+    }
+
+    /**
+     * Returns the step, if the textual step is an ignorable step or a comment, as recognised by the keywords shared by
+     * all the candidates.
+     *
+     * @param stepAsString the textual step
+     * @return The ignorable step or the comment, or <code>null</code> if the step is neither or if the candidates do
+     *         not share their keywords
+     */
+    public Step ignorableStep(String stepAsString) {
+        if (keywords == null || !keywords.isIgnorableStep(stepAsString)) {
+            return null;
+        }
+        if (StepCandidate.ignore(keywords, stepAsString)) {
+            return StepCreator.createIgnorableStep(stepAsString);
+        }
+        return StepCreator.createComment(stepAsString);
+    }
+
+    @Override
+    public StepCandidate get(int index) {
+        return candidates.get(index);
+    }
+
+    @Override
+    public StepCandidate set(int index, StepCandidate candidate) {
+        if (stepFinder != null) {
+            throw new UnsupportedOperationException("Candidates prioritised for " + prioritisingStep);
+        }
+        this.index = null;
+        return candidates.set(index, candidate);
+    }
+
+    @Override
+    public int size() {
+        return candidates.size();
+    }
+
+    /**
+     * Returns the candidates which can possibly match the textual step.
+     *
+     * @param stepAsString the textual step
+     * @param previousNonAndStep the previous non-AND textual step, may be <code>null</code>
+     * @return A new modifiable List of the candidates, in the order of this list
+     */
+    public List<StepCandidate> candidatesFor(String stepAsString, String previousNonAndStep) {
+        Map<StepType, TypeIndex> index = this.index;
+        if (index == null) {
+            return new ArrayList<>(candidates);
+        }
+        if (keywords.isIgnorableStep(stepAsString)) {
+            // ignorable steps and comments do not match any candidate, see ignorableStep(String)
+            return new ArrayList<>();
+        }
+        List<Integer> positions = new ArrayList<>();
+        try {
+            if (keywords.isAndStep(stepAsString)) {
+                if (previousNonAndStep != null) {
+                    // AND step can only match candidates of the previous step type
+                    addPositions(index, keywords.stepTypeFor(previousNonAndStep), stepAsString, positions);
+                }
+            } else {
+                for (StepType stepType : index.keySet()) {
+                    if (keywords.isStepOfType(stepAsString, stepType)) {
+                        addPositions(index, stepType, stepAsString, positions);
+                    }
+                }
+            }
+        } catch (StartingWordNotFound e) {
+            // no candidate can match the step
+        }
+        positions.sort(null);
+        List<StepCandidate> matching = new ArrayList<>(positions.size());
+        int previous = -1;
+        for (int position : positions) {
+            if (position != previous) {
+                matching.add(candidates.get(position));
+                previous = position;
+            }
+        }
+        return matching;
+    }
+
+    private void addPositions(Map<StepType, TypeIndex> index, StepType stepType, String stepAsString,
+            List<Integer> positions) {
+        TypeIndex typeIndex = index.get(stepType);
+        if (typeIndex != null) {
+            typeIndex.collect(keywords.stepWithoutStartingWord(stepAsString, stepType), positions);
+        }
+    }
+
+    private Map<StepType, TypeIndex> createIndex() {
+        Map<StepType, List<Integer>> positionsByType = new EnumMap<>(StepType.class);
+        for (int position = 0; position < candidates.size(); position++) {
+            positionsByType.computeIfAbsent(candidates.get(position).getStepType(), t -> new ArrayList<>())
+                    .add(position);
+        }
+        Map<StepType, TypeIndex> index = new EnumMap<>(StepType.class);
+        positionsByType.forEach((stepType, positions) -> index.put(stepType, new TypeIndex(positions)));
+        return index;
+    }
+
+    private static Keywords commonKeywords(List<StepCandidate> candidates) {
+        Keywords keywords = null;
+        for (StepCandidate candidate : candidates) {
+            Keywords candidateKeywords = candidate.getKeywords();
+            if (candidateKeywords == null || keywords != null && keywords != candidateKeywords) {
+                return null;
+            }
+            keywords = candidateKeywords;
+        }
+        return keywords;
+    }
+
+    /**
+     * The candidates of a step type, with the automaton of their step matchers
+     */
+    private final class TypeIndex {
+        private final int[] positions;
+        private final StepPatternsAutomaton automaton;
+        private final Map<String, List<Integer>> exact = new HashMap<>();
+
+        private TypeIndex(List<Integer> positions) {
+            this.positions = new int[positions.size()];
+            List<StepMatcher> stepMatchers = new ArrayList<>(positions.size());
+            for (int i = 0; i < this.positions.length; i++) {
+                int position = positions.get(i);
+                StepCandidate candidate = candidates.get(position);
+                this.positions[i] = position;
+                stepMatchers.add(candidate.getStepMatcher());
+                // candidates also match steps equal to their pattern
+                exact.computeIfAbsent(candidate.getPatternAsString(), p -> new ArrayList<>(1)).add(position);
+            }
+            this.automaton = new StepPatternsAutomaton(stepMatchers);
+        }
+
+        private void collect(String stepWithoutStartingWord, List<Integer> collected) {
+            for (int i : automaton.candidatesFor(stepWithoutStartingWord)) {
+                collected.add(positions[i]);
+            }
+            List<Integer> exactPositions = exact.get(stepWithoutStartingWord);
+            if (exactPositions != null) {
+                collected.addAll(exactPositions);
+            }
+        }
+    }
+}
@@ -10,16 +10,21 @@ import java.util.stream.Stream;
 import org.jbehave.core.annotations.AfterScenario.Outcome;
 import org.jbehave.core.annotations.Scope;
 import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
 import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.model.Lifecycle;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.steps.AbstractStepResult.Pending;
+import org.jbehave.core.steps.StepCandidateCache.Resolution;
 import org.jbehave.core.steps.StepCreator.PendingStep;
 
 /**
  * StepCollector that marks unmatched steps as {@link Pending}. It uses a
- * {@link StepFinder} to prioritise {@link StepCandidate}s.
+ * {@link StepFinder} to prioritise {@link StepCandidate}s. If the candidates are
+ * {@link IndexedStepCandidates}, only the ones which can possibly match a step are
+ * prioritised and tried and, if they are bound to a {@link StepCandidateCache}, the
+ * candidates resolved for repeated steps are reused.
  */
 public class MarkUnmatchedStepsAsPending implements StepCollector {
 
@@ -90,54 +95,138 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
 
     private List<Step> collectMatchedSteps(List<String> stepsAsString, Map<String, String> namedParameters,
             List<StepCandidate> stepCandidates, Outcome outcome, StepMonitor stepMonitor) {
+        StepCandidateCache stepCandidateCache = stepCandidates instanceof IndexedStepCandidates
+                ? ((IndexedStepCandidates) stepCandidates).stepCandidateCache() : null;
         List<Step> steps = new ArrayList<>();
         String previousNonAndStep = null;
         for (String stepAsString : stepsAsString) {
             // pending is default step, overridden below
             Step step = StepCreator.createPendingStep(stepAsString, previousNonAndStep);
-            List<StepCandidate> prioritisedCandidates = stepFinder.prioritise(stepAsString,
-                    new ArrayList<>(stepCandidates));
-            for (StepCandidate candidate : prioritisedCandidates) {
-                candidate.useStepMonitor(stepMonitor);
-                if (candidate.ignore(stepAsString)) {
-                    // ignorable steps are added so they can be reported
-                    step = StepCreator.createIgnorableStep(stepAsString);
-                    break;
+            StepType previousNonAndStepType = previousNonAndStepType(stepAsString, previousNonAndStep);
+            Step ignorableStep = ignorableStep(stepAsString, stepCandidates);
+            Resolution resolution = ignorableStep == null ? cachedResolution(stepAsString, previousNonAndStepType,
+                    stepCandidateCache, stepMonitor) : null;
+            if (ignorableStep != null) {
+                // ignorable steps and comments are added so they can be reported
+                step = ignorableStep;
+            } else if (resolution != null) {
+                if (resolution.isMatched()) {
+                    StepCandidate candidate = resolution.getCandidate();
+                    candidate.reuseMatch(stepAsString, previousNonAndStep, stepMonitor);
+                    step = matchedStep(candidate, resolution.getMatch(), stepAsString, step, namedParameters, null,
+                            stepCandidates, outcome, stepMonitor);
                 }
-                if (candidate.comment(stepAsString)) {
-                    // comments are added so they can be reported
-                    step = StepCreator.createComment(stepAsString);
-                    break;
-                }
-                if (candidate.matches(stepAsString, previousNonAndStep)) {
-                    // step matches candidate
-                    if (candidate.isPending()) {
-                        ((PendingStep) step).annotatedOn(candidate.getMethod());
-                    } else {
-                        List<Step> composedSteps = new ArrayList<>();
-                        if (candidate.isComposite()) {
-                            candidate.addComposedSteps(composedSteps, stepAsString, namedParameters,
-                                    prioritisedCandidates, outcome);
-                        }
-                        if (outcome != null) {
-                            step = candidate.createMatchedStepUponOutcome(stepAsString, namedParameters, composedSteps,
-                                    outcome);
-                        } else {
-                            step = candidate.createMatchedStep(stepAsString, namedParameters, composedSteps);
-                        }
+            } else {
+                List<StepCandidate> prioritisedCandidates = stepFinder.prioritise(stepAsString,
+                        candidatesFor(stepAsString, previousNonAndStep, stepCandidates));
+                boolean resolved = true;
+                StepCandidate matchedCandidate = null;
+                CapturedMatch matchedGroups = null;
+                for (StepCandidate candidate : prioritisedCandidates) {
+                    if (candidate.ignore(stepAsString)) {
+                        // ignorable steps are added so they can be reported
+                        step = StepCreator.createIgnorableStep(stepAsString);
+                        resolved = false;
+                        break;
+                    }
+                    if (candidate.comment(stepAsString)) {
+                        // comments are added so they can be reported
+                        step = StepCreator.createComment(stepAsString);
+                        resolved = false;
+                        break;
                     }
-                    if (!(keywords.isAndStep(stepAsString) || keywords.isIgnorableStep(stepAsString))) {
-                        // only update previous step if not AND or IGNORABLE step
-                        previousNonAndStep = stepAsString;
+                    // the monitor and the match are passed along, as the candidates are shared by the stories
+                    matchedGroups = candidate.match(stepAsString, previousNonAndStep, stepMonitor);
+                    if (matchedGroups != null) {
+                        // step matches candidate
+                        step = matchedStep(candidate, matchedGroups, stepAsString, step, namedParameters,
+                                prioritisedCandidates, stepCandidates, outcome, stepMonitor);
+                        matchedCandidate = candidate;
+                        break;
                     }
-                    break;
+                }
+                if (resolved && stepCandidateCache != null) {
+                    stepCandidateCache.put(stepAsString, previousNonAndStepType, matchedCandidate, matchedGroups);
                 }
             }
             if (!(keywords.isAndStep(stepAsString) || keywords.isIgnorableStep(stepAsString))) {
+                // only update previous step if not AND or IGNORABLE step
                 previousNonAndStep = stepAsString;
             }
             steps.add(step);
         }
         return steps;
     }
+
+    private Step matchedStep(StepCandidate candidate, CapturedMatch match, String stepAsString, Step pendingStep,
+            Map<String, String> namedParameters, List<StepCandidate> prioritisedCandidates,
+            List<StepCandidate> stepCandidates, Outcome outcome, StepMonitor stepMonitor) {
+        if (candidate.isPending()) {
+            ((PendingStep) pendingStep).annotatedOn(candidate.getMethod());
+            return pendingStep;
+        }
+        List<Step> composedSteps = new ArrayList<>();
+        if (candidate.isComposite()) {
+            candidate.addComposedSteps(composedSteps, stepAsString, namedParameters,
+                    allPrioritisedCandidates(stepAsString, prioritisedCandidates, stepCandidates), outcome, match,
+                    stepMonitor);
+        }
+        if (outcome != null) {
+            return candidate.createMatchedStepUponOutcome(stepAsString, namedParameters, composedSteps, outcome,
+                    match, stepMonitor);
+        }
+        return candidate.createMatchedStep(stepAsString, namedParameters, composedSteps, match, stepMonitor);
+    }
+
+    private StepType previousNonAndStepType(String stepAsString, String previousNonAndStep) {
+        if (previousNonAndStep != null && keywords.isAndStep(stepAsString)) {
+            try {
+                return keywords.stepTypeFor(previousNonAndStep);
+            } catch (StartingWordNotFound e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private Resolution cachedResolution(String stepAsString, StepType previousNonAndStepType,
+            StepCandidateCache stepCandidateCache, StepMonitor stepMonitor) {
+        if (stepCandidateCache == null || keywords.isIgnorableStep(stepAsString)) {
+            return null;
+        }
+        // the resolution only depends on the step and on the type of the previous step, so it is not matched again
+        Resolution resolution = stepCandidateCache.get(stepAsString, previousNonAndStepType);
+        stepMonitor.stepCandidateCacheLookup(stepAsString, resolution != null, stepCandidateCache.hits(),
+                stepCandidateCache.misses());
+        return resolution;
+    }
+
+    private Step ignorableStep(String stepAsString, List<StepCandidate> stepCandidates) {
+        if (stepCandidates instanceof IndexedStepCandidates) {
+            return ((IndexedStepCandidates) stepCandidates).ignorableStep(stepAsString);
+        }
+        // the candidates recognise ignorable steps and comments as they are tried
+        return null;
+    }
+
+    private List<StepCandidate> candidatesFor(String stepAsString, String previousNonAndStep,
+            List<StepCandidate> stepCandidates) {
+        if (stepCandidates instanceof IndexedStepCandidates) {
+            return ((IndexedStepCandidates) stepCandidates).candidatesFor(stepAsString, previousNonAndStep);
+        }
+        return new ArrayList<>(stepCandidates);
+    }
+
+    private List<StepCandidate> allPrioritisedCandidates(String stepAsString,
+            List<StepCandidate> prioritisedCandidates, List<StepCandidate> stepCandidates) {
+        if (stepCandidates instanceof IndexedStepCandidates) {
+            // composed steps can match any of the candidates, only those which can possibly match them are prioritised
+            return ((IndexedStepCandidates) stepCandidates).prioritisedFor(stepAsString, stepFinder);
+        }
+        if (prioritisedCandidates == null) {
+            // composed steps can match any of the candidates
+            return stepFinder.prioritise(stepAsString, new ArrayList<>(stepCandidates));
+        }
+        return prioritisedCandidates;
+    }
 }
@@ -23,6 +23,11 @@ public class NullStepMonitor implements StepMonitor {
         // Do nothing by default
     }
 
+    @Override
+    public void stepCandidateCacheLookup(String step, boolean hit, long hits, long misses) {
+        // Do nothing by default
+    }
+
     @Override
     public void convertedValueOfType(String value, Type type, Object converted, Queue<Class<?>> converterClasses) {
         // Do nothing by default
@@ -148,20 +148,12 @@ public class PatternVariantBuilder {
         // isolate the part before the first pattern
         String head = m.group(1);
 
-        // isolate the pattern itself, removing its wrapping {}
-        String patternGroup = m.group(2).replaceAll("[\\{\\}]", "");
+        // isolate the pattern options
+        List<String> patternParts = optionsOf(m.group(2));
 
         // isolate the remaining part of the input
         String tail = m.group(6);
 
-        // split the pattern into its options and add an empty
-        // string if it ends with a separator
-        List<String> patternParts = new ArrayList<>();
-        patternParts.addAll(asList(patternGroup.split("\\|")));
-        if (patternGroup.endsWith("|")) {
-            patternParts.add("");
-        }
-
         // Iterate over the current pattern's
         // variants and construct the result.
         for (String part : patternParts) {
@@ -187,6 +179,39 @@ public class PatternVariantBuilder {
         return variants;
     }
 
+    private List<String> optionsOf(String directive) {
+        // remove the wrapping {} of the pattern
+        String patternGroup = directive.replaceAll("[\\{\\}]", "");
+
+        // split the pattern into its options and add an empty
+        // string if it ends with a separator
+        List<String> patternParts = new ArrayList<>();
+        patternParts.addAll(asList(patternGroup.split("\\|")));
+        if (patternGroup.endsWith("|")) {
+            patternParts.add("");
+        }
+        return patternParts;
+    }
+
+    /**
+     * Splits the {@link #input} into the literal parts found around its directives and the options of each
+     * directive, so that the variants can be represented without being generated.
+     *
+     * @param literals the list to which the literal parts are added, one more than the directives
+     * @param directives the list to which the options of each directive are added
+     */
+    void splitInput(List<String> literals, List<List<String>> directives) {
+        String remaining = input;
+        Matcher m = regex.matcher(remaining);
+        while (m.matches()) {
+            literals.add(m.group(1));
+            directives.add(optionsOf(m.group(2)));
+            remaining = m.group(6);
+            m = regex.matcher(remaining);
+        }
+        literals.add(remaining);
+    }
+
     /**
      * Returns a new copy set of all variants with no whitespace compression.
      * 
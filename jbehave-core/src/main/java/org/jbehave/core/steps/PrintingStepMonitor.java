@@ -22,10 +22,14 @@ public abstract class PrintingStepMonitor implements StepMonitor {
             + "with annotations '%s' in steps instance '%s'";
     private static final String STEP_MATCHES_PATTERN = "Step '%s' %s pattern '%s' for method '%s' with annotations '%s'"
             + " in steps instance '%s'";
+    private static final String STEP_CANDIDATE_CACHE_LOOKUP = "Step '%s' %s in step candidate cache (hits: %d, "
+            + "misses: %d)";
     private static final String PERFORMING = "Performing step '%s'%s";
     private static final String DRY_RUN = " (DRY RUN)";
     private static final String MATCHES = "matches";
     private static final String DOES_NOT_MATCH = "does not match";
+    private static final String FOUND = "found";
+    private static final String NOT_FOUND = "not found";
     private static final String USING_NAME_FOR_PARAMETER = "Using %s name '%s' for parameter position %d";
     private static final String ANNOTATED = "annotated";
     private static final String PARAMETER = "parameter";
@@ -48,6 +52,11 @@ public abstract class PrintingStepMonitor implements StepMonitor {
         print(STEP_MATCHES_PATTERN, step, matches(matches), stepPattern, method, getAnnotations(method), stepsInstance);
     }
 
+    @Override
+    public void stepCandidateCacheLookup(String step, boolean hit, long hits, long misses) {
+        print(STEP_CANDIDATE_CACHE_LOOKUP, step, hit ? FOUND : NOT_FOUND, hits, misses);
+    }
+
     @Override
     public void convertedValueOfType(String value, Type type, Object converted, Queue<Class<?>> converterClasses) {
         String classes = converterClasses.stream().map(Class::getName).collect(Collectors.joining(" -> "));
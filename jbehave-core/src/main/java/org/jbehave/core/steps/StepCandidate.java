@@ -4,7 +4,9 @@ import static java.text.MessageFormat.format;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +32,7 @@ import org.jbehave.core.parsers.StepMatcher;
 public class StepCandidate {
 
     public static final String NAME_FORMAT = "{0} {1}";
+    private static final StepMonitor SILENT_MONITOR = new NullStepMonitor();
     private final String patternAsString;
     private final Integer priority;
     private final StepType stepType;
@@ -42,6 +45,8 @@ public class StepCandidate {
     private final String parameterPrefix;
     private final String[] composedSteps;
     private StepMonitor stepMonitor;
+    private volatile CapturedMatch lastMatch;
+    private volatile ComposedStepsPlan composedStepsPlan;
 
     public StepCandidate(String patternAsString, int priority, StepType stepType, Method method, Class<?> stepsType,
             InjectableStepsFactory stepsFactory, Keywords keywords, StepMatcher stepMatcher,
@@ -114,9 +119,13 @@ public class StepCandidate {
     }
 
     public boolean ignore(String stepAsString) {
+        return ignore(keywords, stepAsString);
+    }
+
+    static boolean ignore(Keywords keywords, String stepAsString) {
         try {
             String ignoreWord = keywords.startingWordFor(StepType.IGNORABLE);
-            return isIgnoredStep(stepAsString, ignoreWord);
+            return isIgnoredStep(keywords, stepAsString, ignoreWord);
         } catch (StartingWordNotFound e) {
             return false;
         }
@@ -125,13 +134,14 @@ public class StepCandidate {
     public boolean comment(String stepAsString) {
         try {
             String ignoreWord = keywords.startingWordFor(StepType.IGNORABLE);
-            return keywords.stepStartsWithWord(stepAsString, ignoreWord) && !isIgnoredStep(stepAsString, ignoreWord);
+            return keywords.stepStartsWithWord(stepAsString, ignoreWord)
+                    && !isIgnoredStep(keywords, stepAsString, ignoreWord);
         } catch (StartingWordNotFound e) {
             return false;
         }
     }
 
-    private boolean isIgnoredStep(String stepAsString, String ignoreWord) {
+    private static boolean isIgnoredStep(Keywords keywords, String stepAsString, String ignoreWord) {
         for (Map.Entry<StepType, String> stepStartingWord : keywords.startingWordsByType().entrySet()) {
             if (stepStartingWord.getKey() != StepType.IGNORABLE) {
                 if (keywords.stepStartsWithWords(stepAsString, ignoreWord, stepStartingWord.getValue())) {
@@ -151,6 +161,37 @@ public class StepCandidate {
     }
 
     public boolean matches(String step, String previousNonAndStep) {
+        return matches(step, previousNonAndStep, stepMonitor);
+    }
+
+    /**
+     * Matches the step, notifying the matching to the given step monitor rather than to the monitor of the
+     * candidate, e.g. to match steps silently outside of their collection.
+     *
+     * @param step the textual step
+     * @param previousNonAndStep the previous non-AND textual step, may be <code>null</code>
+     * @param stepMonitor the StepMonitor notified of the matching
+     * @return A boolean, <code>true</code> if the step matches both the type and the pattern of the candidate
+     */
+    public boolean matches(String step, String previousNonAndStep, StepMonitor stepMonitor) {
+        CapturedMatch match = match(step, previousNonAndStep, stepMonitor);
+        if (match != null && match.isMatched()) {
+            lastMatch = match;
+        }
+        return match != null;
+    }
+
+    /**
+     * Matches the step as {@link #matches(String, String, StepMonitor)} does, but returns the match rather than
+     * keeping it, so that the candidates shared by the stories collected concurrently are never written to.
+     *
+     * @param step the textual step
+     * @param previousNonAndStep the previous non-AND textual step, may be <code>null</code>
+     * @param stepMonitor the StepMonitor notified of the matching
+     * @return The CapturedMatch, whose groups are not captured if the step is the pattern itself, or
+     *         <code>null</code> if the step does not match both the type and the pattern of the candidate
+     */
+    public CapturedMatch match(String step, String previousNonAndStep, StepMonitor stepMonitor) {
         try {
             boolean matchesType = true;
             if (keywords.isAndStep(step)) {
@@ -164,38 +205,100 @@ public class StepCandidate {
             }
             stepMonitor.stepMatchesType(step, previousNonAndStep, matchesType, stepType, method, stepsType);
             String stepWithoutStartingWord = stripStartingWord(step);
-            boolean matchesPattern = stepWithoutStartingWord.equals(patternAsString)
-                    || stepMatcher.matcher(stepWithoutStartingWord).matches();
-            stepMonitor.stepMatchesPattern(step, matchesPattern, stepMatcher.pattern(), method, stepsType);
+            CapturedMatch match = stepWithoutStartingWord.equals(patternAsString)
+                    ? CapturedMatch.uncaptured(stepWithoutStartingWord) : stepMatcher.match(stepWithoutStartingWord);
+            stepMonitor.stepMatchesPattern(step, match != null, stepMatcher.pattern(), method, stepsType);
             // must match both type and pattern
-            return matchesType && matchesPattern;
+            return matchesType ? match : null;
         } catch (StartingWordNotFound e) {
-            return false;
+            return null;
         }
     }
 
+    /**
+     * Reuses the match of a step known to match this candidate, e.g. as resolved earlier, notifying the step monitor
+     * of the matching without matching the step again.
+     *
+     * @param step the textual step
+     * @param previousNonAndStep the previous non-AND textual step, may be <code>null</code>
+     * @param stepMonitor the StepMonitor notified of the matching, or <code>null</code> for the monitor of the
+     *            candidate
+     */
+    void reuseMatch(String step, String previousNonAndStep, StepMonitor stepMonitor) {
+        StepMonitor monitor = stepMonitor != null ? stepMonitor : this.stepMonitor;
+        monitor.stepMatchesType(step, previousNonAndStep, true, stepType, method, stepsType);
+        monitor.stepMatchesPattern(step, true, stepMatcher.pattern(), method, stepsType);
+    }
+
     public Step createMatchedStep(String stepAsString, Map<String, String> namedParameters, List<Step> composedSteps) {
+        return createMatchedStep(stepAsString, namedParameters, composedSteps, lastMatch, null);
+    }
+
+    /**
+     * Creates the matched step with the match of the step and the monitor of its collection, rather than with the
+     * ones kept by the candidate.
+     *
+     * @param stepAsString the textual step
+     * @param namedParameters the named parameters
+     * @param composedSteps the composed steps
+     * @param match the match of the step, may be <code>null</code> to match the step again
+     * @param stepMonitor the StepMonitor, or <code>null</code> for the monitor of the candidate
+     * @return The matched step
+     */
+    public Step createMatchedStep(String stepAsString, Map<String, String> namedParameters, List<Step> composedSteps,
+            CapturedMatch match, StepMonitor stepMonitor) {
         return stepCreator.createParametrisedStep(method, stepAsString, stripStartingWord(stepAsString),
-                namedParameters, composedSteps);
+                namedParameters, composedSteps, match, stepMonitor);
     }
 
     public Step createMatchedStepUponOutcome(String stepAsString, Map<String, String> namedParameters,
             List<Step> composedSteps, Outcome outcome) {
+        return createMatchedStepUponOutcome(stepAsString, namedParameters, composedSteps, outcome, lastMatch, null);
+    }
+
+    public Step createMatchedStepUponOutcome(String stepAsString, Map<String, String> namedParameters,
+            List<Step> composedSteps, Outcome outcome, CapturedMatch match, StepMonitor stepMonitor) {
         return stepCreator.createParametrisedStepUponOutcome(method, stepAsString, stripStartingWord(stepAsString),
-                namedParameters, composedSteps, outcome);
+                namedParameters, composedSteps, outcome, match, stepMonitor);
     }
 
     public void addComposedSteps(List<Step> steps, String stepAsString, Map<String, String> namedParameters,
             List<StepCandidate> allCandidates, Outcome outcome) {
+        addComposedSteps(steps, stepAsString, namedParameters, allCandidates, outcome, lastMatch, null);
+    }
+
+    /**
+     * Adds the composed steps with the match of the composite step and the monitor of its collection, which are
+     * passed down to the composed steps rather than kept by the candidates, as these are shared.
+     *
+     * @param steps the steps to add the composed steps to
+     * @param stepAsString the textual composite step
+     * @param namedParameters the named parameters
+     * @param allCandidates all the candidates the composed steps can match
+     * @param outcome the outcome, may be <code>null</code>
+     * @param match the match of the composite step, may be <code>null</code> to match the step again
+     * @param stepMonitor the StepMonitor, or <code>null</code> for the monitor of each candidate
+     */
+    public void addComposedSteps(List<Step> steps, String stepAsString, Map<String, String> namedParameters,
+            List<StepCandidate> allCandidates, Outcome outcome, CapturedMatch match, StepMonitor stepMonitor) {
         Map<String, String> matchedParameters = stepCreator.matchedParameters(method,
-                keywords.stepWithoutStartingWord(stepAsString), namedParameters);
+                keywords.stepWithoutStartingWord(stepAsString), namedParameters, match, stepMonitor);
 
         Map<String, String> mergedParameters = new HashMap<>(namedParameters);
         mergedParameters.putAll(matchedParameters);
 
+        ComposedStepsPlan plan = composedStepsPlan;
+        if (plan != null && plan.isPlannedFor(allCandidates)) {
+            for (PlannedStep plannedStep : plan.plannedSteps) {
+                addPlannedStep(steps, plannedStep, mergedParameters, allCandidates, outcome, stepMonitor);
+            }
+            return;
+        }
+
         String previousNonAndStep = null;
         for (String composedStep : composedSteps) {
-            addComposedStep(steps, composedStep, previousNonAndStep, mergedParameters, allCandidates, outcome);
+            addComposedStep(steps, composedStep, previousNonAndStep, mergedParameters, allCandidates, outcome,
+                    stepMonitor);
             if (!(keywords.isAndStep(composedStep) || keywords.isIgnorableStep(composedStep))) {
                 // only update previous step if not AND or IGNORABLE step
                 previousNonAndStep = composedStep;
@@ -203,50 +306,151 @@ public class StepCandidate {
         }
     }
 
+    /**
+     * Resolves the candidates matching the composed steps of this composite candidate amongst all the candidates,
+     * so that the composed steps are not matched again each time the composite step is added: only their
+     * parametrisation then remains. The plan is used as long as the composed steps are added with the same
+     * candidates, in any order, i.e. not if any candidate has been added, removed or replaced since.
+     *
+     * @param allCandidates all the candidates the composed steps can match
+     */
+    public void planComposedSteps(List<StepCandidate> allCandidates) {
+        if (!isComposite()) {
+            return;
+        }
+        List<PlannedStep> plannedSteps = new ArrayList<>(composedSteps.length);
+        String previousNonAndStep = null;
+        try {
+            for (String composedStep : composedSteps) {
+                plannedSteps.add(planComposedStep(composedStep, previousNonAndStep, allCandidates));
+                if (!(keywords.isAndStep(composedStep) || keywords.isIgnorableStep(composedStep))) {
+                    // only update previous step if not AND or IGNORABLE step
+                    previousNonAndStep = composedStep;
+                }
+            }
+        } catch (StartingWordNotFound e) {
+            // composed steps without starting word are left to fail when added
+            return;
+        }
+        composedStepsPlan = ComposedStepsPlan.of(allCandidates, plannedSteps);
+    }
+
+    private PlannedStep planComposedStep(String composedStep, String previousNonAndStep,
+            List<StepCandidate> allCandidates) {
+        if (ignore(composedStep)) {
+            return new PlannedStep(composedStep, previousNonAndStep, Kind.IGNORABLE, null, null);
+        }
+        if (comment(composedStep)) {
+            return new PlannedStep(composedStep, previousNonAndStep, Kind.COMMENT, null, null);
+        }
+        StepType composedStepType = composedStepType(composedStep, previousNonAndStep);
+        List<StepCandidate> matchingCandidates = new ArrayList<>(1);
+        List<CapturedMatch> capturedMatches = new ArrayList<>(1);
+        if (composedStepType != null) {
+            for (StepCandidate candidate : candidatesFor(composedStep, previousNonAndStep, allCandidates)) {
+                // candidates are matched silently, only the candidates added are monitored
+                CapturedMatch match = composedStepType == candidate.getStepType()
+                        ? candidate.match(composedStep, previousNonAndStep, SILENT_MONITOR) : null;
+                if (match != null) {
+                    matchingCandidates.add(candidate);
+                    capturedMatches.add(match);
+                }
+            }
+        }
+        return new PlannedStep(composedStep, previousNonAndStep, Kind.MATCHED,
+                matchingCandidates.toArray(new StepCandidate[0]), capturedMatches.toArray(new CapturedMatch[0]));
+    }
+
+    private void addPlannedStep(List<Step> steps, PlannedStep plannedStep, Map<String, String> matchedParameters,
+            List<StepCandidate> allCandidates, Outcome outcome, StepMonitor stepMonitor) {
+        String composedStep = plannedStep.composedStep;
+        if (plannedStep.kind == Kind.IGNORABLE) {
+            steps.add(StepCreator.createIgnorableStep(composedStep));
+            return;
+        }
+        if (plannedStep.kind == Kind.COMMENT) {
+            steps.add(StepCreator.createComment(composedStep));
+            return;
+        }
+        int matching = plannedStep.firstMatchingIn(allCandidates);
+        if (matching < 0) {
+            steps.add(StepCreator.createPendingStep(composedStep, plannedStep.previousNonAndStep));
+            return;
+        }
+        StepCandidate candidate = plannedStep.matchingCandidates[matching];
+        // the groups captured when planning are reused to parametrise the step
+        candidate.reuseMatch(composedStep, plannedStep.previousNonAndStep, stepMonitor);
+        addMatchedComposedStep(steps, candidate, composedStep, plannedStep.capturedMatches[matching],
+                matchedParameters, allCandidates, outcome, stepMonitor);
+    }
+
     private void addComposedStep(List<Step> steps, String composedStep, String previousNonAndStep,
-            Map<String, String> matchedParameters, List<StepCandidate> allCandidates, Outcome outcome) {
+            Map<String, String> matchedParameters, List<StepCandidate> allCandidates, Outcome outcome,
+            StepMonitor stepMonitor) {
         if (ignore(composedStep)) {
             // ignorable steps are added so they can be reported
             steps.add(StepCreator.createIgnorableStep(composedStep));
         } else if (comment(composedStep)) {
             // comments are added so they can be reported
             steps.add(StepCreator.createComment(composedStep));
-        } else {
-            StepCandidate candidate = findComposedCandidate(composedStep, previousNonAndStep, allCandidates);
-            if (candidate != null) {
-                List<Step> composedSteps = new ArrayList<>();
-                if (candidate.isComposite()) {
-                    // candidate is itself composite: recursively add composed steps
-                    candidate.addComposedSteps(composedSteps, composedStep, matchedParameters, allCandidates, outcome);
+        } else if (!addMatchedComposedStep(steps, composedStep, previousNonAndStep, matchedParameters,
+                allCandidates, outcome, stepMonitor)) {
+            steps.add(StepCreator.createPendingStep(composedStep, previousNonAndStep));
+        }
+    }
+
+    private boolean addMatchedComposedStep(List<Step> steps, String composedStep, String previousNonAndStep,
+            Map<String, String> matchedParameters, List<StepCandidate> allCandidates, Outcome outcome,
+            StepMonitor stepMonitor) {
+        StepType stepType = composedStepType(composedStep, previousNonAndStep);
+        if (stepType == null) {
+            return false;
+        }
+        for (StepCandidate candidate : candidatesFor(composedStep, previousNonAndStep, allCandidates)) {
+            if (stepType == candidate.getStepType()) {
+                CapturedMatch match = candidate.match(composedStep, previousNonAndStep,
+                        stepMonitor != null ? stepMonitor : candidate.stepMonitor);
+                if (match != null) {
+                    addMatchedComposedStep(steps, candidate, composedStep, match, matchedParameters, allCandidates,
+                            outcome, stepMonitor);
+                    return true;
                 }
-                steps.add(outcome != null
-                    ? candidate.createMatchedStepUponOutcome(composedStep, matchedParameters, composedSteps, outcome)
-                    : candidate.createMatchedStep(composedStep, matchedParameters, composedSteps));
-            } else {
-                steps.add(StepCreator.createPendingStep(composedStep, previousNonAndStep));
             }
         }
+        return false;
+    }
+
+    private void addMatchedComposedStep(List<Step> steps, StepCandidate candidate, String composedStep,
+            CapturedMatch match, Map<String, String> matchedParameters, List<StepCandidate> allCandidates,
+            Outcome outcome, StepMonitor stepMonitor) {
+        List<Step> composedSteps = new ArrayList<>();
+        if (candidate.isComposite()) {
+            // candidate is itself composite: recursively add composed steps
+            candidate.addComposedSteps(composedSteps, composedStep, matchedParameters, allCandidates, outcome, match,
+                    stepMonitor);
+        }
+        steps.add(outcome != null
+            ? candidate.createMatchedStepUponOutcome(composedStep, matchedParameters, composedSteps, outcome, match,
+                    stepMonitor)
+            : candidate.createMatchedStep(composedStep, matchedParameters, composedSteps, match, stepMonitor));
     }
 
-    private StepCandidate findComposedCandidate(String composedStep, String previousNonAndStep,
+    private static List<StepCandidate> candidatesFor(String composedStep, String previousNonAndStep,
             List<StepCandidate> allCandidates) {
-        StepType stepType;
-        if (keywords.isAndStep(composedStep)) {
-            if (previousNonAndStep != null) {
-                stepType = keywords.stepTypeFor(previousNonAndStep);
-            } else {
-                // cannot handle AND step with no previous step
-                return null;
-            }
-        } else {
-            stepType = keywords.stepTypeFor(composedStep);
+        if (allCandidates instanceof IndexedStepCandidates) {
+            // only the candidates which can possibly match the composed step are prioritised and tried
+            IndexedStepCandidates indexed = (IndexedStepCandidates) allCandidates;
+            return indexed.prioritise(indexed.candidatesFor(composedStep, previousNonAndStep));
         }
-        for (StepCandidate candidate : allCandidates) {
-            if (stepType == candidate.getStepType() && candidate.matches(composedStep, previousNonAndStep)) {
-                return candidate;
-            }
+        return allCandidates;
+    }
+
+    private StepType composedStepType(String composedStep, String previousNonAndStep) {
+        if (keywords.isAndStep(composedStep)) {
+            // cannot handle AND step with no previous step
+            return previousNonAndStep != null ? keywords.stepTypeFor(previousNonAndStep) : null;
         }
-        return null;
+        return keywords.stepTypeFor(composedStep);
     }
 
     protected String stripStartingWord(String stepAsString) {
@@ -274,4 +478,96 @@ public class StepCandidate {
         return stepType + " " + patternAsString;
     }
 
+    private static final class ComposedStepsPlan {
+        private final IndexedStepCandidates indexed;
+        private final Map<StepCandidate, Integer> positions;
+        private final List<PlannedStep> plannedSteps;
+
+        private ComposedStepsPlan(IndexedStepCandidates indexed, Map<StepCandidate, Integer> positions,
+                List<PlannedStep> plannedSteps) {
+            this.indexed = indexed;
+            this.positions = positions;
+            this.plannedSteps = plannedSteps;
+        }
+
+        private static ComposedStepsPlan of(List<StepCandidate> allCandidates, List<PlannedStep> plannedSteps) {
+            // the candidates are identified by reference, as replaced candidates may be equal
+            Map<StepCandidate, Integer> positions = new IdentityHashMap<>(allCandidates.size());
+            for (StepCandidate candidate : allCandidates) {
+                positions.putIfAbsent(candidate, positions.size());
+            }
+            IndexedStepCandidates indexed = allCandidates instanceof IndexedStepCandidates
+                    ? (IndexedStepCandidates) allCandidates : null;
+            return new ComposedStepsPlan(indexed, positions, plannedSteps);
+        }
+
+        /**
+         * Checks that the candidates are the planned ones, in any order.
+         */
+        private boolean isPlannedFor(List<StepCandidate> allCandidates) {
+            if (indexed != null && allCandidates instanceof IndexedStepCandidates
+                    && ((IndexedStepCandidates) allCandidates).hasSameIndexAs(indexed)) {
+                // the indexed candidates planned for, or a copy of them, not modified since
+                return true;
+            }
+            if (allCandidates.size() != positions.size()) {
+                return false;
+            }
+            boolean[] found = new boolean[positions.size()];
+            for (StepCandidate candidate : allCandidates) {
+                Integer position = positions.get(candidate);
+                if (position == null || found[position]) {
+                    return false;
+                }
+                found[position] = true;
+            }
+            return true;
+        }
+    }
+
+    private enum Kind {
+        IGNORABLE, COMMENT, MATCHED
+    }
+
+    private static final class PlannedStep {
+        private final String composedStep;
+        private final String previousNonAndStep;
+        private final Kind kind;
+        private final StepCandidate[] matchingCandidates;
+        private final CapturedMatch[] capturedMatches;
+
+        private PlannedStep(String composedStep, String previousNonAndStep, Kind kind,
+                StepCandidate[] matchingCandidates, CapturedMatch[] capturedMatches) {
+            this.composedStep = composedStep;
+            this.previousNonAndStep = previousNonAndStep;
+            this.kind = kind;
+            this.matchingCandidates = matchingCandidates;
+            this.capturedMatches = capturedMatches;
+        }
+
+        /**
+         * Returns the position, amongst the matching candidates, of the one found first in the candidates, which may
+         * have been prioritised differently since planning, or -1 if none matches.
+         */
+        private int firstMatchingIn(List<StepCandidate> allCandidates) {
+            if (matchingCandidates.length <= 1) {
+                return matchingCandidates.length - 1;
+            }
+            List<StepCandidate> candidates = allCandidates;
+            if (allCandidates instanceof IndexedStepCandidates) {
+                // only the matching candidates are prioritised, in the same order as amongst all the candidates
+                candidates = ((IndexedStepCandidates) allCandidates).prioritise(
+                        new ArrayList<>(Arrays.asList(matchingCandidates)));
+            }
+            for (StepCandidate candidate : candidates) {
+                for (int i = 0; i < matchingCandidates.length; i++) {
+                    if (matchingCandidates[i] == candidate) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+    }
+
 }
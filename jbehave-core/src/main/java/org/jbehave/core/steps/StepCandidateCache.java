@@ -0,0 +1,143 @@
+package org.jbehave.core.steps;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded and thread-safe cache of the {@link StepCandidate}s resolved for textual steps, keyed by the textual step
+ * and the type of the previous non-AND step, which is only relevant to AND steps.  It allows a {@link StepCollector}
+ * to skip the prioritisation and matching of all the candidates for steps that have already been resolved, e.g. in
+ * other scenarios, examples, lifecycles or given stories, reusing the groups captured when the step was matched.
+ * Once the maximum size is reached, the least recently used entry is evicted for every new one.
+ */
+public class StepCandidateCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final int maxSize;
+    private final Map<Key, Resolution> candidates;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public StepCandidateCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public StepCandidateCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.candidates = new LinkedHashMap<Key, Resolution>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Resolution> eldest) {
+                return size() > StepCandidateCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached resolution of a textual step, counted as a hit if the step has been resolved
+     *
+     * @param stepAsString the textual step
+     * @param previousNonAndStepType the type of the previous non-AND step, or <code>null</code> if the step is not an
+     *            AND step
+     * @return The Resolution of the step, or <code>null</code> if the step has not been resolved yet
+     */
+    public Resolution get(String stepAsString, StepType previousNonAndStepType) {
+        Resolution resolution;
+        synchronized (candidates) {
+            resolution = candidates.get(new Key(stepAsString, previousNonAndStepType));
+        }
+        if (resolution != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return resolution;
+    }
+
+    /**
+     * Caches the resolution of a textual step
+     *
+     * @param stepAsString the textual step
+     * @param previousNonAndStepType the type of the previous non-AND step, or <code>null</code> if the step is not an
+     *            AND step
+     * @param candidate the matching candidate or <code>null</code> if no candidate matches the step
+     * @param match the groups captured when matching the step, or <code>null</code> if not captured
+     */
+    public void put(String stepAsString, StepType previousNonAndStepType, StepCandidate candidate,
+            CapturedMatch match) {
+        if (maxSize <= 0) {
+            return;
+        }
+        synchronized (candidates) {
+            candidates.put(new Key(stepAsString, previousNonAndStepType), new Resolution(candidate, match));
+        }
+    }
+
+    public int size() {
+        synchronized (candidates) {
+            return candidates.size();
+        }
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * The resolution of a textual step: the matching candidate, if any, and the groups it captured
+     */
+    public static final class Resolution {
+        private final StepCandidate candidate;
+        private final CapturedMatch match;
+
+        private Resolution(StepCandidate candidate, CapturedMatch match) {
+            this.candidate = candidate;
+            this.match = match;
+        }
+
+        public boolean isMatched() {
+            return candidate != null;
+        }
+
+        public StepCandidate getCandidate() {
+            return candidate;
+        }
+
+        public CapturedMatch getMatch() {
+            return match;
+        }
+    }
+
+    private static final class Key {
+        private final String stepAsString;
+        private final StepType previousNonAndStepType;
+
+        private Key(String stepAsString, StepType previousNonAndStepType) {
+            this.stepAsString = stepAsString;
+            this.previousNonAndStepType = previousNonAndStepType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return stepAsString.equals(that.stepAsString) && previousNonAndStepType == that.previousNonAndStepType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(stepAsString, previousNonAndStepType);
+        }
+    }
+}
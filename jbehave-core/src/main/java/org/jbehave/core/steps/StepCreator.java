@@ -82,7 +82,7 @@ public class StepCreator {
     private final StepsContext stepsContext;
     private final boolean dryRun;
     private StepMonitor stepMonitor;
-    private Paranamer paranamer = new NullParanamer();
+    private volatile Paranamer paranamer = new NullParanamer();
 
     public StepCreator(Class<?> stepsType, InjectableStepsFactory stepsFactory, StepsContext stepsContext,
             ParameterConverters parameterConverters, ExpressionResolver expressionResolver,
@@ -124,14 +124,46 @@ public class StepCreator {
 
     public Map<String, String> matchedParameters(final Method method, final String stepWithoutStartingWord,
             final Map<String, String> namedParameters) {
+        return matchedParameters(method, stepWithoutStartingWord, namedParameters, null);
+    }
+
+    /**
+     * Returns the parameters matched in the step, reusing the groups captured when matching the step.
+     *
+     * @param method the Method
+     * @param stepWithoutStartingWord the textual step without starting word
+     * @param namedParameters the named parameters
+     * @param capturedMatch the match captured for the step, or <code>null</code> to match the step again
+     * @return The Map of the matched parameters, empty if the step does not match
+     */
+    public Map<String, String> matchedParameters(final Method method, final String stepWithoutStartingWord,
+            final Map<String, String> namedParameters, final CapturedMatch capturedMatch) {
+        return matchedParameters(method, stepWithoutStartingWord, namedParameters, capturedMatch, null);
+    }
+
+    /**
+     * Returns the parameters matched in the step as {@link #matchedParameters(Method, String, Map, CapturedMatch)}
+     * does, notifying the given step monitor rather than the monitor of the creator.
+     *
+     * @param method the Method
+     * @param stepWithoutStartingWord the textual step without starting word
+     * @param namedParameters the named parameters
+     * @param capturedMatch the match captured for the step, or <code>null</code> to match the step again
+     * @param stepMonitor the StepMonitor, or <code>null</code> for the monitor of the creator
+     * @return The Map of the matched parameters, empty if the step does not match
+     */
+    public Map<String, String> matchedParameters(final Method method, final String stepWithoutStartingWord,
+            final Map<String, String> namedParameters, final CapturedMatch capturedMatch,
+            final StepMonitor stepMonitor) {
         Map<String, String> matchedParameters = new HashMap<>();
-        Matcher matcher = stepMatcher.matcher(stepWithoutStartingWord);
-        if (matcher.find()) {
+        CapturedMatch match = capturedMatchFor(stepWithoutStartingWord, capturedMatch);
+        if (match.isMatched()) {
             // we've found a match, populate map
             ParameterName[] parameterNames = parameterNames(method);
             Type[] types = parameterTypes(method, parameterNames);
 
-            String[] values = parameterValuesForStep(matcher, namedParameters, types, parameterNames, false);
+            String[] values = parameterValuesForStep(match, namedParameters, types, parameterNames, false,
+                    monitor(stepMonitor));
             for (int i = 0; i < parameterNames.length; i++) {
                 String name = parameterNames[i].name;
                 if (name == null) {
@@ -295,17 +327,72 @@ public class StepCreator {
     public Step createParametrisedStep(final Method method, final String stepAsString,
             final String stepWithoutStartingWord, final Map<String, String> namedParameters,
             final List<Step> composedSteps) {
-        return new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters, composedSteps);
+        return createParametrisedStep(method, stepAsString, stepWithoutStartingWord, namedParameters, composedSteps,
+                null);
+    }
+
+    public Step createParametrisedStep(final Method method, final String stepAsString,
+            final String stepWithoutStartingWord, final Map<String, String> namedParameters,
+            final List<Step> composedSteps, final CapturedMatch capturedMatch) {
+        return createParametrisedStep(method, stepAsString, stepWithoutStartingWord, namedParameters, composedSteps,
+                capturedMatch, null);
+    }
+
+    /**
+     * Creates the parametrised step with the monitor of its collection, which notifies the parametrisation and the
+     * performing of the step rather than the monitor of the creator, as the creator is shared.
+     *
+     * @param method the Method
+     * @param stepAsString the textual step
+     * @param stepWithoutStartingWord the textual step without starting word
+     * @param namedParameters the named parameters
+     * @param composedSteps the composed steps
+     * @param capturedMatch the match captured for the step, or <code>null</code> to match the step again
+     * @param stepMonitor the StepMonitor, or <code>null</code> for the monitor of the creator
+     * @return The parametrised step
+     */
+    public Step createParametrisedStep(final Method method, final String stepAsString,
+            final String stepWithoutStartingWord, final Map<String, String> namedParameters,
+            final List<Step> composedSteps, final CapturedMatch capturedMatch, final StepMonitor stepMonitor) {
+        return new ParametrisedStep(stepAsString, method, stepWithoutStartingWord, namedParameters, composedSteps,
+                capturedMatch, stepMonitor);
     }
 
     public Step createParametrisedStepUponOutcome(final Method method, final String stepAsString,
             final String stepWithoutStartingWord, final Map<String, String> namedParameters,
             final List<Step> composedSteps, Outcome outcome) {
+        return createParametrisedStepUponOutcome(method, stepAsString, stepWithoutStartingWord, namedParameters,
+                composedSteps, outcome, null);
+    }
+
+    public Step createParametrisedStepUponOutcome(final Method method, final String stepAsString,
+            final String stepWithoutStartingWord, final Map<String, String> namedParameters,
+            final List<Step> composedSteps, Outcome outcome, final CapturedMatch capturedMatch) {
+        return createParametrisedStepUponOutcome(method, stepAsString, stepWithoutStartingWord, namedParameters,
+                composedSteps, outcome, capturedMatch, null);
+    }
+
+    public Step createParametrisedStepUponOutcome(final Method method, final String stepAsString,
+            final String stepWithoutStartingWord, final Map<String, String> namedParameters,
+            final List<Step> composedSteps, Outcome outcome, final CapturedMatch capturedMatch,
+            final StepMonitor stepMonitor) {
         Step parametrisedStep = createParametrisedStep(method, stepAsString, stepWithoutStartingWord, namedParameters,
-                composedSteps);
+                composedSteps, capturedMatch, stepMonitor);
         return wrapStepUponOutcome(outcome, parametrisedStep);
     }
 
+    private StepMonitor monitor(StepMonitor stepMonitor) {
+        return stepMonitor != null ? stepMonitor : this.stepMonitor;
+    }
+
+    private CapturedMatch capturedMatchFor(String stepWithoutStartingWord, CapturedMatch capturedMatch) {
+        if (capturedMatch != null && capturedMatch.isMatched()
+                && stepWithoutStartingWord.equals(capturedMatch.getStepWithoutStartingWord())) {
+            return capturedMatch;
+        }
+        return CapturedMatch.find(stepMatcher, stepWithoutStartingWord);
+    }
+
     private Step wrapStepUponOutcome(Outcome outcome, Step step) {
         switch (outcome) {
             case ANY:
@@ -398,18 +485,18 @@ public class StepCreator {
         return type instanceof Class && ExamplesTable.class.isAssignableFrom((Class<?>) type);
     }
 
-    private String[] parameterValuesForStep(Matcher matcher, Map<String, String> namedParameters, Type[] types,
-            ParameterName[] names, boolean overrideWithTableParameters) {
+    private String[] parameterValuesForStep(CapturedMatch match, Map<String, String> namedParameters, Type[] types,
+            ParameterName[] names, boolean overrideWithTableParameters, StepMonitor stepMonitor) {
         final String[] parameters = new String[types.length];
         for (int position = 0; position < types.length; position++) {
-            parameters[position] = parameterForPosition(matcher, position, names, namedParameters,
-                    overrideWithTableParameters);
+            parameters[position] = parameterForPosition(match, position, names, namedParameters,
+                    overrideWithTableParameters, stepMonitor);
         }
         return parameters;
     }
 
-    private String parameterForPosition(Matcher matcher, int position, ParameterName[] names,
-            Map<String, String> namedParameters, boolean overrideWithTableParameters) {
+    private String parameterForPosition(CapturedMatch match, int position, ParameterName[] names,
+            Map<String, String> namedParameters, boolean overrideWithTableParameters, StepMonitor stepMonitor) {
         int namePosition = parameterPosition(names, position);
         String parameter = null;
 
@@ -421,22 +508,24 @@ public class StepCreator {
             List<String> delimitedNames = Collections.emptyList();
 
             if (isGroupName(name)) {
-                parameter = matchedParameter(matcher, name);
+                parameter = matchedParameter(match, name);
                 delimitedNames = delimitedNameFor(parameter);
 
                 if (delimitedNames.isEmpty()) {
-                    monitorUsingNameForParameter(name, position, annotated);
+                    monitorUsingNameForParameter(name, position, annotated, stepMonitor);
                 }
             }
 
             if (!delimitedNames.isEmpty()) {
-                parameter = replaceAllDelimitedNames(delimitedNames, position, annotated, parameter, namedParameters);
+                parameter = replaceAllDelimitedNames(delimitedNames, position, annotated, parameter, namedParameters,
+                        stepMonitor);
                 delimitedNames = delimitedNameFor(parameter);
-                parameter = replaceAllDelimitedNames(delimitedNames, position, annotated, parameter, namedParameters);
+                parameter = replaceAllDelimitedNames(delimitedNames, position, annotated, parameter, namedParameters,
+                        stepMonitor);
             } else if (overrideWithTableParameters && namedParameters.containsKey(name)) {
                 parameter = namedParameters.get(name);
                 if (parameter != null) {
-                    monitorUsingTableNameForParameter(name, position, annotated);
+                    monitorUsingTableNameForParameter(name, position, annotated, stepMonitor);
                 }
             }
             if (fromContext && parameter == null) {
@@ -450,7 +539,7 @@ public class StepCreator {
             // This allows parameters to be in a different order.
             position = position - numberOfPreviousFromContext(names, position);
             stepMonitor.usingNaturalOrderForParameter(position);
-            parameter = matchedParameter(matcher, position);
+            parameter = matchedParameter(match, position);
 
             String previousParameterValue;
             do {
@@ -468,10 +557,11 @@ public class StepCreator {
     }
 
     private String replaceAllDelimitedNames(List<String> delimitedNames, int position, boolean annotated,
-                                            String parameter, Map<String, String> namedParameters) {
+                                            String parameter, Map<String, String> namedParameters,
+                                            StepMonitor stepMonitor) {
         String parameterWithDelimitedNames = parameter;
         for (String delimitedName : delimitedNames) {
-            monitorUsingTableNameForParameter(delimitedName, position, annotated);
+            monitorUsingTableNameForParameter(delimitedName, position, annotated, stepMonitor);
             parameterWithDelimitedNames = replaceAllDelimitedNames(parameterWithDelimitedNames, delimitedName,
                     namedParameters);
         }
@@ -498,7 +588,8 @@ public class StepCreator {
         return number;
     }
 
-    private void monitorUsingTableNameForParameter(String name, int position, boolean usingAnnotationNames) {
+    private void monitorUsingTableNameForParameter(String name, int position, boolean usingAnnotationNames,
+            StepMonitor stepMonitor) {
         if (usingAnnotationNames) {
             stepMonitor.usingTableAnnotatedNameForParameter(name, position);
         } else {
@@ -506,7 +597,8 @@ public class StepCreator {
         }
     }
 
-    private void monitorUsingNameForParameter(String name, int position, boolean usingAnnotationNames) {
+    private void monitorUsingNameForParameter(String name, int position, boolean usingAnnotationNames,
+            StepMonitor stepMonitor) {
         if (usingAnnotationNames) {
             stepMonitor.usingAnnotatedNameForParameter(name, position);
         } else {
@@ -525,22 +617,22 @@ public class StepCreator {
         return delimitedNames;
     }
 
-    String matchedParameter(Matcher matcher, String name) {
+    String matchedParameter(CapturedMatch match, String name) {
         String[] parameterNames = stepMatcher.parameterNames();
         for (int i = 0; i < parameterNames.length; i++) {
             String parameterName = parameterNames[i];
             if (name.equals(parameterName)) {
-                return matchedParameter(matcher, i);
+                return matchedParameter(match, i);
             }
         }
         throw new ParameterNotFound(name, parameterNames);
     }
 
-    private String matchedParameter(Matcher matcher, int position) {
+    private String matchedParameter(CapturedMatch match, int position) {
         String[] parameterNames = stepMatcher.parameterNames();
         int matchedPosition = position + 1;
         if (matchedPosition <= parameterNames.length) {
-            return matcher.group(matchedPosition);
+            return match.group(matchedPosition);
         }
         throw new ParameterNotFound(position, parameterNames);
     }
@@ -896,14 +988,29 @@ public class StepCreator {
         private final String stepWithoutStartingWord;
         private final Map<String, String> namedParameters;
         private final List<Step> composedSteps;
+        private final StepMonitor monitor;
+        private CapturedMatch capturedMatch;
 
         public ParametrisedStep(String stepAsString, Method method, String stepWithoutStartingWord,
                 Map<String, String> namedParameters, List<Step> composedSteps) {
+            this(stepAsString, method, stepWithoutStartingWord, namedParameters, composedSteps, null);
+        }
+
+        public ParametrisedStep(String stepAsString, Method method, String stepWithoutStartingWord,
+                Map<String, String> namedParameters, List<Step> composedSteps, CapturedMatch capturedMatch) {
+            this(stepAsString, method, stepWithoutStartingWord, namedParameters, composedSteps, capturedMatch, null);
+        }
+
+        public ParametrisedStep(String stepAsString, Method method, String stepWithoutStartingWord,
+                Map<String, String> namedParameters, List<Step> composedSteps, CapturedMatch capturedMatch,
+                StepMonitor monitor) {
             super(StepExecutionType.EXECUTABLE, stepAsString);
             this.method = method;
             this.stepWithoutStartingWord = stepWithoutStartingWord;
             this.namedParameters = namedParameters;
             this.composedSteps = composedSteps;
+            this.capturedMatch = capturedMatch;
+            this.monitor = monitor;
         }
 
         @Override
@@ -917,7 +1024,7 @@ public class StepCreator {
             Timer timer = new Timer().start();
             try {
                 Object[] convertedParameters = parametriseStep();
-                stepMonitor.beforePerforming(parametrisedStep, dryRun, method);
+                monitor(monitor).beforePerforming(parametrisedStep, dryRun, method);
                 if (!dryRun && method != null) {
                     Object outputObject = method.invoke(stepsInstance(), convertedParameters);
                     storeOutput(outputObject, method);
@@ -944,7 +1051,7 @@ public class StepCreator {
                 return failed(stepAsString, new UUIDExceptionWrapper(stepAsString, t)).withParameterValues(
                         parametrisedStep).setTimings(timer.stop());
             } finally {
-                stepMonitor.afterPerforming(parametrisedStep, dryRun, method);
+                monitor(monitor).afterPerforming(parametrisedStep, dryRun, method);
             }
         }
 
@@ -975,11 +1082,12 @@ public class StepCreator {
         }
 
         private Object[] parametriseStep() {
-            Matcher matcher = stepMatcher.matcher(stepWithoutStartingWord);
-            matcher.find();
+            // the match is captured once and reused when the step is parametrised again
+            capturedMatch = capturedMatchFor(stepWithoutStartingWord, capturedMatch);
             ParameterName[] names = parameterNames(method);
             Type[] types = parameterTypes(method, names);
-            String[] parameterValues = parameterValuesForStep(matcher, namedParameters, types, names, true);
+            String[] parameterValues = parameterValuesForStep(capturedMatch, namedParameters, types, names, true,
+                    monitor(monitor));
             Object[] convertedParameters;
             if (method == null) {
                 convertedParameters = parameterValues;
@@ -1,10 +1,14 @@
 package org.jbehave.core.steps;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -160,99 +164,130 @@ public class StepFinder {
     /**
      * Strategy to priorise candidate steps by <a
      * href="http://en.wikipedia.org/wiki/Levenshtein_distance">Levenshtein Distance</a>
+     * between their scoring pattern, i.e. the pattern without its parameters, and the step without its starting
+     * word. Each candidate is scored once per step, using a banded computation which only keeps two rows of
+     * distances, and the scoring patterns are only derived once per pattern.
      */
     public static class ByLevenshteinDistance implements PrioritisingStrategy {
 
-        private LevenshteinDistance ld = new LevenshteinDistance();
+        private static final Pattern WHITESPACE_SURROUNDED_PARAMETER = Pattern.compile("\\s\\$\\w+\\s");
+        private static final Pattern SPACE_FOLLOWED_PARAMETER = Pattern.compile("\\$\\w + ");
+
+        private final Map<String, String> scoringPatterns = new ConcurrentHashMap<>();
 
         @Override
         public List<StepCandidate> prioritise(final String stepAsText, List<StepCandidate> candidates) {
-            Collections.sort(candidates, new Comparator<StepCandidate>() {
-                @Override
-                public int compare(StepCandidate o1, StepCandidate o2) {
-                    String scoringPattern1 = scoringPattern(o1);
-                    String scoringPattern2 = scoringPattern(o2);
-                    String stepWithoutStartingWord = trimStartingWord(stepAsText);
-                    Integer score1 = 0 - ld.calculate(scoringPattern1, stepWithoutStartingWord);
-                    Integer score2 = 0 - ld.calculate(scoringPattern2, stepWithoutStartingWord);
-                    int result = score2.compareTo(score1);
-                    // default to strategy by priority if no score result
-                    return result != 0 ? result : o2.getPriority().compareTo(o1.getPriority());
-                }
+            String stepWithoutStartingWord = StringUtils.substringAfter(stepAsText, " ");
+            int size = candidates.size();
+            ScoredCandidate[] scoredCandidates = new ScoredCandidate[size];
+            LevenshteinDistance ld = new LevenshteinDistance(stepWithoutStartingWord);
+            for (int i = 0; i < size; i++) {
+                StepCandidate candidate = candidates.get(i);
+                scoredCandidates[i] = new ScoredCandidate(candidate,
+                        ld.calculate(scoringPattern(candidate.getPatternAsString())), candidate.getPriority());
+            }
+            // the sort is stable, as the sort of the candidates
+            Arrays.sort(scoredCandidates, (c1, c2) -> {
+                int result = Integer.compare(c1.distance, c2.distance);
+                // default to strategy by priority if no score result
+                return result != 0 ? result : c2.priority.compareTo(c1.priority);
+            });
+            for (int i = 0; i < size; i++) {
+                candidates.set(i, scoredCandidates[i].candidate);
+            }
+            return candidates;
+        }
 
-                private String scoringPattern(StepCandidate candidate) {
-                    return candidate.getPatternAsString().replaceAll("\\s\\$\\w+\\s", " ").replaceAll("\\$\\w + ", "");
-                }
+        private String scoringPattern(String patternAsString) {
+            return scoringPatterns.computeIfAbsent(patternAsString,
+                    p -> SPACE_FOLLOWED_PARAMETER.matcher(WHITESPACE_SURROUNDED_PARAMETER.matcher(p).replaceAll(" "))
+                            .replaceAll(""));
+        }
 
-                private String trimStartingWord(String stepAsString) {
-                    return StringUtils.substringAfter(stepAsString, " ");
-                }
+        private static final class ScoredCandidate {
+            private final StepCandidate candidate;
+            private final int distance;
+            private final Integer priority;
 
-            });
-            return candidates;
+            private ScoredCandidate(StepCandidate candidate, int distance, Integer priority) {
+                this.candidate = candidate;
+                this.distance = distance;
+                this.priority = priority;
+            }
         }
 
-        private class LevenshteinDistance {
-
-            @SuppressWarnings("checkstyle:LocalVariableName")
-            public int calculate(String s, String t) {
-                int[][] d; // matrix
-                int n; // length of s
-                int m; // length of t
-                int i; // iterates through s
-                int j; // iterates through t
-                char s_i; // ith character of s
-                char t_j; // jth character of t
-                int cost; // cost
-
-                // Step 1
-                n = s.length();
-                m = t.length();
+        /**
+         * Calculates the distances of strings to a given string, within a band of the distances matrix which is
+         * widened until it holds the distance, and using the same two rows for all the strings.
+         */
+        private static final class LevenshteinDistance {
+
+            private final String target;
+            private int[] previous;
+            private int[] current;
+
+            private LevenshteinDistance(String target) {
+                this.target = target;
+                this.previous = new int[target.length() + 1];
+                this.current = new int[target.length() + 1];
+            }
+
+            private int calculate(String source) {
+                int n = source.length();
+                int m = target.length();
                 if (n == 0) {
                     return m;
                 }
                 if (m == 0) {
                     return n;
                 }
-                d = new int[n + 1][m + 1];
-                // Step 2
-                for (i = 0; i <= n; i++) {
-                    d[i][0] = i;
-                }
-                for (j = 0; j <= m; j++) {
-                    d[0][j] = j;
-                }
-                // Step 3
-                for (i = 1; i <= n; i++) {
-                    s_i = s.charAt(i - 1);
-                    // Step 4
-                    for (j = 1; j <= m; j++) {
-                        t_j = t.charAt(j - 1);
-                        // Step 5
-                        if (s_i == t_j) {
-                            cost = 0;
-                        } else {
-                            cost = 1;
-                        }
-                        // Step 6
-                        d[i][j] = minimum(d[i - 1][j] + 1, d[i][j - 1] + 1, d[i - 1][j - 1] + cost);
+                int max = Math.max(n, m);
+                int band = Math.max(1, Math.abs(n - m));
+                while (true) {
+                    int distance = calculate(source, band);
+                    if (distance <= band || band >= max) {
+                        return distance;
                     }
+                    band = Math.min(max, band * 2);
                 }
-                // Step 7
-                return d[n][m];
             }
 
-            private int minimum(int a, int b, int c) {
-                int mi = a;
-                if (b < mi) {
-                    mi = b;
+            /**
+             * Returns the distance if at most the given band, or band + 1 as soon as all the distances of a row
+             * exceed it
+             */
+            private int calculate(String source, int band) {
+                int n = source.length();
+                int m = target.length();
+                int cutoff = band + 1;
+                for (int j = 0; j <= m; j++) {
+                    previous[j] = j <= band ? j : cutoff;
                 }
-                if (c < mi) {
-                    mi = c;
+                for (int i = 1; i <= n; i++) {
+                    int from = Math.max(1, i - band);
+                    int to = Math.min(m, i + band);
+                    current[from - 1] = from == 1 && i <= band ? i : cutoff;
+                    int rowMinimum = current[from - 1];
+                    char sourceChar = source.charAt(i - 1);
+                    for (int j = from; j <= to; j++) {
+                        int cost = sourceChar == target.charAt(j - 1) ? 0 : 1;
+                        int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1),
+                                previous[j - 1] + cost);
+                        current[j] = Math.min(distance, cutoff);
+                        rowMinimum = Math.min(rowMinimum, current[j]);
+                    }
+                    if (to < m) {
+                        current[to + 1] = cutoff;
+                    }
+                    if (rowMinimum >= cutoff) {
+                        return cutoff;
+                    }
+                    int[] swapped = previous;
+                    previous = current;
+                    current = swapped;
                 }
-                return mi;
+                return previous[m];
             }
-
         }
 
     }
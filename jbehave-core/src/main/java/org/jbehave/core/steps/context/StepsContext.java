@@ -9,16 +9,21 @@ import org.jbehave.core.annotations.ToContext;
 
 /**
  * Holds runtime context-related objects.
+ * <p>
+ * The objects are held per thread, in a ThreadLocal scope, rather than per task, as Java 8 has no scoped values: a
+ * task performed on a worker thread, e.g. a story, or a scenario or example performed in parallel, {@link #enterScope()
+ * enters} a scope on its thread and restores the previous one once done, as done by the
+ * <code>RunContext#performInScope</code> of the <code>PerformableTree</code>, also for the story run context. The
+ * scopes are therefore not inherited by the threads started by the steps, nor by virtual threads, whose tasks enter
+ * their own scope.
+ * </p>
  */
 public class StepsContext {
 
     private static final String OBJECT_ALREADY_STORED_MESSAGE = "Object key '%s' has been already stored before.";
     private static final String OBJECT_NOT_STORED_MESSAGE = "Object key '%s' has not been stored";
 
-    private static final ThreadLocal<Map<String, Object>> exampleObjects = new ThreadLocal<>();
-    private static final ThreadLocal<Map<String, Object>> scenarioObjects = new ThreadLocal<>();
-    private static final ThreadLocal<Map<String, Object>> storyObjects = new ThreadLocal<>();
-    private static final ThreadLocal<Set<String>> keysStored = new ThreadLocal<>();
+    private static final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
 
     public void put(String key, Object object, ToContext.RetentionLevel retentionLevel) {
         checkForDuplicate(key);
@@ -34,7 +39,7 @@ public class StepsContext {
     }
 
     private void checkForDuplicate(String key) {
-        Set<String> keys = keysStored.get();
+        Set<String> keys = getKeys();
         if (keys.contains(key)) {
             throw new ObjectAlreadyStoredException(String.format(OBJECT_ALREADY_STORED_MESSAGE, key));
         } else {
@@ -59,61 +64,135 @@ public class StepsContext {
     }
 
     public Object getOrDefault(String key, Object defaultValue) {
-        Set<String> keys = keysStored.get();
+        Set<String> keys = getKeys();
         return keys.contains(key) ? get(key) : defaultValue;
     }
 
-    private Map<String, Object> getExampleObjects() {
-        Map<String, Object> objects = exampleObjects.get();
-        if (objects == null) {
-            objects = new HashMap<>();
-            exampleObjects.set(objects);
+    private Scope scope() {
+        Scope scope = currentScope.get();
+        if (scope == null) {
+            scope = new Scope();
+            currentScope.set(scope);
         }
-        return objects;
+        return scope;
+    }
+
+    private Map<String, Object> getExampleObjects() {
+        return scope().exampleObjects;
     }
 
     private Map<String, Object> getScenarioObjects() {
-        Map<String, Object> objects = scenarioObjects.get();
-        if (objects == null) {
-            objects = new HashMap<>();
-            scenarioObjects.set(objects);
-        }
-        return objects;
+        return scope().scenarioObjects;
     }
 
     private Map<String, Object> getStoryObjects() {
-        Map<String, Object> objects = storyObjects.get();
-        if (objects == null) {
-            objects = new HashMap<>();
-            storyObjects.set(objects);
-        }
-        return objects;
+        return scope().storyObjects;
     }
 
     private Set<String> getKeys() {
-        Set<String> keys = keysStored.get();
-        if (keys == null) {
-            keys = new HashSet<>();
-            keysStored.set(keys);
+        return scope().keysStored;
+    }
+
+    /**
+     * Enters a new scope on the current thread, e.g. for the duration of a story performed as a task on a worker
+     * thread, so that the objects stored by the task do not outlive it.
+     *
+     * @return The scope previously entered on the current thread, to be restored once the task is done, or
+     *         <code>null</code> if none
+     */
+    public Scope enterScope() {
+        Scope previous = currentScope.get();
+        currentScope.set(new Scope());
+        return previous;
+    }
+
+    /**
+     * Restores the scope previously entered on the current thread, removing the objects of the current scope.
+     *
+     * @param previous the Scope returned by {@link #enterScope()}
+     */
+    public void restoreScope(Scope previous) {
+        if (previous != null) {
+            currentScope.set(previous);
+        } else {
+            currentScope.remove();
         }
-        return keys;
     }
 
     public void resetExample() {
         Set<String> keys = getKeys();
         keys.removeAll(getExampleObjects().keySet());
-        exampleObjects.set(new HashMap<String, Object>());
+        scope().exampleObjects = new HashMap<>();
+    }
+
+    /**
+     * Copies the objects stored for the scenario on the current thread.
+     *
+     * @return The scenario objects
+     */
+    public Map<String, Object> copyScenario() {
+        return new HashMap<>(getScenarioObjects());
     }
 
     public void resetScenario() {
         Set<String> keys = getKeys();
         keys.removeAll(getScenarioObjects().keySet());
-        scenarioObjects.set(new HashMap<String, Object>());
+        scope().scenarioObjects = new HashMap<>();
+    }
+
+    /**
+     * Resets the scenario on the current thread with a copy of the given scenario objects, e.g. as copied on the
+     * thread performing a scenario whose examples are performed on other threads.
+     *
+     * @param objects the scenario objects
+     */
+    public void resetScenario(Map<String, Object> objects) {
+        resetScenario();
+        scope().scenarioObjects = new HashMap<>(objects);
+        getKeys().addAll(objects.keySet());
+        resetExample();
+    }
+
+    /**
+     * Copies the objects stored for the story on the current thread.
+     *
+     * @return The story objects
+     */
+    public Map<String, Object> copyStory() {
+        return new HashMap<>(getStoryObjects());
     }
 
     public void resetStory() {
-        storyObjects.set(new HashMap<String, Object>());
-        keysStored.set(new HashSet<String>());
+        Scope scope = scope();
+        scope.storyObjects = new HashMap<>();
+        scope.keysStored = new HashSet<>();
+    }
+
+    /**
+     * Resets the story on the current thread with a copy of the given story objects, e.g. as copied on the thread
+     * performing a story whose scenarios are performed on other threads.
+     *
+     * @param objects the story objects
+     */
+    public void resetStory(Map<String, Object> objects) {
+        Scope scope = scope();
+        scope.storyObjects = new HashMap<>(objects);
+        scope.keysStored = new HashSet<>(objects.keySet());
+        scope.scenarioObjects = new HashMap<>();
+        scope.exampleObjects = new HashMap<>();
+    }
+
+    /**
+     * The objects stored by the steps performed on a thread, for the duration of a scope.
+     */
+    public static final class Scope {
+        private Map<String, Object> exampleObjects = new HashMap<>();
+        private Map<String, Object> scenarioObjects = new HashMap<>();
+        private Map<String, Object> storyObjects = new HashMap<>();
+        private Set<String> keysStored = new HashSet<>();
+
+        private Scope() {
+        }
     }
 
     @SuppressWarnings("serial")
@@ -2,12 +2,15 @@ package org.jbehave.core.configuration;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.HashMap;
 import java.util.Map;
 
 import org.jbehave.core.configuration.Keywords.KeywordNotFound;
+import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
+import org.jbehave.core.steps.StepType;
 import org.junit.jupiter.api.Test;
 
 class KeywordsBehaviour {
@@ -40,4 +43,47 @@ class KeywordsBehaviour {
         assertThrows(KeywordNotFound.class, () -> new Keywords(keywords));
     }
 
+    @Test
+    void shouldResolveStartingWordsAmongstSynonyms() {
+        Map<String, String> map = Keywords.defaultKeywords();
+        map.put(Keywords.GIVEN, "Given that|Given|Assuming");
+        map.put(Keywords.AND, "And|But");
+        Keywords keywords = new Keywords(map);
+        assertThat(keywords.startingWord("Given that a house"), equalTo("Given that"));
+        assertThat(keywords.startingWord("Given a house"), equalTo("Given"));
+        assertThat(keywords.stepTypeFor("Assuming a house"), equalTo(StepType.GIVEN));
+        assertThat(keywords.stepTypeFor("But a house"), equalTo(StepType.AND));
+        assertThat(keywords.stepWithoutStartingWord("Given that a house"), equalTo("a house"));
+        assertThat(keywords.isAndStep("But a house"), is(true));
+        assertThat(keywords.isAndStep("Butter"), is(false));
+        assertThat(keywords.isIgnorableStep("!-- a house"), is(true));
+        assertThrows(StartingWordNotFound.class, () -> keywords.startingWord("Givena house"));
+        assertThrows(StartingWordNotFound.class, () -> keywords.stepTypeFor("Given"));
+    }
+
+    @Test
+    void shouldResolveStartingWordsOfStepTypeBeforeAndWords() {
+        Keywords keywords = new Keywords();
+        assertThat(keywords.startingWord("When a house", StepType.WHEN), equalTo("When"));
+        assertThat(keywords.startingWord("And a house", StepType.WHEN), equalTo("And"));
+        assertThat(keywords.stepWithoutStartingWord("And a house", StepType.THEN), equalTo("a house"));
+        assertThrows(StartingWordNotFound.class, () -> keywords.startingWord("Then a house", StepType.WHEN));
+    }
+
+    @Test
+    void shouldResolveStartingWordsWithOverriddenStepStartsWithWord() {
+        Keywords keywords = new Keywords() {
+            @Override
+            public boolean stepStartsWithWord(String step, String word) {
+                return step.toLowerCase().startsWith(word.toLowerCase() + " ");
+            }
+        };
+        assertThat(keywords.stepTypeFor("given a house"), equalTo(StepType.GIVEN));
+        assertThat(keywords.startingWord("and a house", StepType.WHEN), equalTo("And"));
+        assertThat(keywords.stepWithoutStartingWord("and a house", StepType.THEN), equalTo("a house"));
+        assertThat(keywords.isAndStep("AND a house"), is(true));
+        assertThat(keywords.isIgnorableStep("given a house"), is(false));
+        assertThrows(StartingWordNotFound.class, () -> keywords.stepTypeFor("a house"));
+    }
+
 }
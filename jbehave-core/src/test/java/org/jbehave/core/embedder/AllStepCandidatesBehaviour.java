@@ -15,6 +15,7 @@ import java.util.function.Predicate;
 import org.jbehave.core.annotations.Alias;
 import org.jbehave.core.annotations.Conditional;
 import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.When;
 import org.jbehave.core.condition.ReflectionBasedStepConditionMatcher;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.steps.CandidateSteps;
@@ -45,6 +46,36 @@ class AllStepCandidatesBehaviour {
         assertThrows(DuplicateCandidateFound.class, () -> new AllStepCandidates(matcher, candidates));
     }
 
+    @Test
+    void shouldFailOnDuplicateCandidatesWithDifferentWhitespaces() {
+        List<CandidateSteps> candidates = new ArrayList<>();
+        candidates.add(new DuplicateStepsWithDifferentWhitespaces());
+        assertThrows(DuplicateCandidateFound.class, () -> new AllStepCandidates(matcher, candidates));
+    }
+
+    @Test
+    void shouldFailOnDuplicateCandidatesWithTextGluedToParameters() {
+        List<CandidateSteps> candidates = new ArrayList<>();
+        candidates.add(new DuplicateStepsWithTextGluedToParameters());
+        assertThrows(DuplicateCandidateFound.class, () -> new AllStepCandidates(matcher, candidates));
+    }
+
+    @Test
+    void shouldFailOnDuplicateCandidatesWithDifferentParameterNamesAndWhitespacesAcrossClasses() {
+        List<CandidateSteps> candidates = new ArrayList<>();
+        candidates.add(new GivenStepOne());
+        candidates.add(new GivenStepWithOtherParameterNamesAndWhitespaces());
+        assertThrows(DuplicateCandidateFound.class, () -> new AllStepCandidates(matcher, candidates));
+    }
+
+    @Test
+    void shouldNotFailOnCandidatesWithSamePatternOfDifferentTypes() {
+        List<CandidateSteps> candidates = new ArrayList<>();
+        candidates.add(new GivenStepOne());
+        candidates.add(new WhenStepWithSamePattern());
+        assertThat(new AllStepCandidates(matcher, candidates).getRegularSteps(), hasSize(2));
+    }
+
     @Test
     void shouldFailOnDuplicateCandidatesAcrossSeveralClassesAndParameters() {
         List<CandidateSteps> candidates = new ArrayList<>();
@@ -208,6 +239,46 @@ class AllStepCandidatesBehaviour {
 
     }
 
+    static class DuplicateStepsWithDifferentWhitespaces extends Steps {
+
+        @Given("a given $aaa step")
+        public void given(String value) {
+        }
+
+        @Given("a  given\t$bbb step")
+        public void duplicateGiven(String value) {
+        }
+
+    }
+
+    static class DuplicateStepsWithTextGluedToParameters extends Steps {
+
+        @Given("the $item's price is $amount.")
+        public void given(String item, String amount) {
+        }
+
+        @Given("the $product's price is $price.")
+        public void duplicateGiven(String product, String price) {
+        }
+
+    }
+
+    static class GivenStepWithOtherParameterNamesAndWhitespaces extends Steps {
+
+        @Given("$client  has previously bought\na $item")
+        public void given(String client, String item) {
+        }
+
+    }
+
+    static class WhenStepWithSamePattern extends Steps {
+
+        @When("$customer has previously bought a $product")
+        public void when(String customer, String product) {
+        }
+
+    }
+
     static class GivenStepOne extends Steps {
 
         @Given("$customer has previously bought a $product")
@@ -12,6 +12,7 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doNothing;
@@ -24,8 +25,10 @@ import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -35,6 +38,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.io.FileUtils;
 import org.jbehave.core.Embeddable;
 import org.jbehave.core.InjectableEmbedder;
 import org.jbehave.core.annotations.Configure;
@@ -51,6 +55,7 @@ import org.jbehave.core.embedder.Embedder.ViewGenerationFailed;
 import org.jbehave.core.embedder.PerformableTree.RunContext;
 import org.jbehave.core.failures.BatchFailures;
 import org.jbehave.core.failures.FailingUponPendingStep;
+import org.jbehave.core.io.StoryLoader;
 import org.jbehave.core.io.StoryPathResolver;
 import org.jbehave.core.io.UnderscoredCamelCaseResolver;
 import org.jbehave.core.junit.AnnotatedEmbedderRunner;
@@ -65,6 +70,7 @@ import org.jbehave.core.reporters.PrintStreamStepdocReporter;
 import org.jbehave.core.reporters.ReportsCount;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.reporters.StoryReporterBuilder;
+import org.jbehave.core.reporters.SurefireReporter;
 import org.jbehave.core.reporters.ViewGenerator;
 import org.jbehave.core.steps.CandidateSteps;
 import org.jbehave.core.steps.InjectableStepsFactory;
@@ -815,6 +821,99 @@ class EmbedderBehaviour {
         assertThatReportsViewGenerated(out);
     }
 
+    @Test
+    void shouldMergeReportsAndGenerateReportsView() {
+        // Given
+        PerformableTree performableTree = mock(PerformableTree.class);
+        EmbedderControls embedderControls = new EmbedderControls().doGenerateViewAfterStories(false);
+        OutputStream out = new ByteArrayOutputStream();
+        EmbedderMonitor monitor = new PrintStreamEmbedderMonitor(new PrintStream(out));
+        ViewGenerator viewGenerator = mock(ViewGenerator.class);
+
+        Embedder embedder = embedderWith(performableTree, embedderControls, monitor);
+        embedder.configuration().useViewGenerator(viewGenerator);
+        embedder.configuration().storyReporterBuilder().withRelativeDirectory("merged-reports");
+
+        List<File> outputDirectories = asList(new File("target/shard-0"), new File("target/shard-1"));
+        when(viewGenerator.getReportsCount()).thenReturn(new ReportsCount(2, 0, 1, 2, 0, 0, 1, 0));
+        embedder.mergeReports(outputDirectories);
+
+        // Then
+        File mergedDirectory = embedder.configuration().storyReporterBuilder().outputDirectory();
+        assertThat(mergedDirectory.exists(), is(true));
+        verify(viewGenerator).generateReportsView(eq(mergedDirectory), anyList(), any(Properties.class));
+        assertThat(out.toString(), containsString("Merging reports of '" + outputDirectories + "'"));
+        assertThatReportsViewGenerated(out);
+    }
+
+    @Test
+    void shouldKeepSurefireTestCasesOfStoriesNotRunAgain() throws IOException {
+        // Given
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        when(storyLoader.loadStoryAsText("a.story")).thenReturn("Scenario: a\nGiven a given");
+        when(storyLoader.loadStoryAsText("b.story")).thenReturn("Scenario: b\nGiven a failing given");
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader);
+        configuration.storyReporterBuilder().withRelativeDirectory("rerun-surefire")
+                .withSurefireReporter(new SurefireReporter(EmbedderBehaviour.class));
+        File outputDirectory = configuration.storyReporterBuilder().outputDirectory();
+        FileUtils.deleteDirectory(outputDirectory);
+        FailingSteps steps = new FailingSteps();
+        List<String> storyPaths = asList("a.story", "b.story");
+        rerunFailedStories(configuration, steps, storyPaths);
+
+        // When
+        steps.failing = false;
+        rerunFailedStories(configuration, steps, storyPaths);
+
+        // Then
+        String surefireReport = FileUtils.readFileToString(new File(outputDirectory,
+                "view/" + SurefireReporter.Options.DEFAULT_REPORT_NAME + ".xml"), StandardCharsets.UTF_8);
+        assertThat(surefireReport, containsString("tests=\"2\" errors=\"0\" skipped=\"0\" failures=\"0\""));
+        assertThat(surefireReport, containsString("<testcase name=\"a.a\""));
+        assertThat(surefireReport, containsString("<testcase name=\"b.b\""));
+    }
+
+    @Test
+    void shouldIncludeStreamedStoriesInSurefireReport() throws IOException {
+        // Given
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        when(storyLoader.loadStoryAsText("a.story")).thenReturn("Scenario: a\nGiven a given");
+        when(storyLoader.loadStoryAsText("b.story")).thenReturn("Scenario: b\nGiven a failing given");
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader);
+        configuration.storyReporterBuilder().withRelativeDirectory("streamed-surefire")
+                .withSurefireReporter(new SurefireReporter(EmbedderBehaviour.class));
+        File outputDirectory = configuration.storyReporterBuilder().outputDirectory();
+        FileUtils.deleteDirectory(outputDirectory);
+        Embedder embedder = new Embedder(new NullEmbedderMonitor());
+        embedder.useConfiguration(configuration);
+        embedder.useStepsFactory(new InstanceStepsFactory(configuration, new FailingSteps()));
+        embedder.embedderControls().doStreamStories(true).doIgnoreFailureInStories(true)
+                .doGenerateViewAfterStories(false);
+
+        // When
+        embedder.runStoriesAsPaths(asList("a.story", "b.story"));
+        embedder.generateSurefireReport();
+
+        // Then
+        String surefireReport = FileUtils.readFileToString(new File(outputDirectory,
+                "view/" + SurefireReporter.Options.DEFAULT_REPORT_NAME + ".xml"), StandardCharsets.UTF_8);
+        assertThat(surefireReport, containsString("tests=\"2\" errors=\"0\" skipped=\"0\" failures=\"1\""));
+        assertThat(surefireReport, containsString("<testcase name=\"a.a\""));
+        assertThat(surefireReport, containsString("<testcase name=\"b.b\""));
+        assertThat(surefireReport, containsString("failed given"));
+    }
+
+    private void rerunFailedStories(Configuration configuration, Object steps, List<String> storyPaths) {
+        // a new embedder for each run, as for each build
+        Embedder embedder = new Embedder(new NullEmbedderMonitor());
+        embedder.useConfiguration(configuration);
+        embedder.useStepsFactory(new InstanceStepsFactory(configuration, steps));
+        embedder.embedderControls().doRerunFailedStories(true).doIgnoreFailureInStories(true)
+                .doGenerateViewAfterStories(false);
+        embedder.runStoriesAsPaths(storyPaths);
+        embedder.generateSurefireReport();
+    }
+
     @Test
     void shouldFailWhenGeneratingReportsViewWithFailedSteps() {
         // Given
@@ -1238,6 +1337,22 @@ class EmbedderBehaviour {
         }
     }
 
+    public static class FailingSteps {
+
+        private boolean failing = true;
+
+        @Given("a given")
+        public void given() {
+        }
+
+        @Given("a failing given")
+        public void failingGiven() {
+            if (failing) {
+                throw new AssertionError("failed given");
+            }
+        }
+    }
+
     public static class MySteps extends Steps {
 
         @Given("a given")
@@ -29,6 +29,17 @@ class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeouts(), equalTo(defaultControls.storyTimeouts()));
         assertThat(embedderControls.failOnStoryTimeout(), is(defaultControls.failOnStoryTimeout()));
         assertThat(embedderControls.threads(), equalTo(defaultControls.threads()));
+        assertThat(embedderControls.streamStories(), is(defaultControls.streamStories()));
+        assertThat(embedderControls.buildStoriesInParallel(), is(defaultControls.buildStoriesInParallel()));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(defaultControls.scheduleLongestStoriesFirst()));
+        assertThat(embedderControls.defaultStoryDurationInMillis(),
+                equalTo(defaultControls.defaultStoryDurationInMillis()));
+        assertThat(embedderControls.skipUnchangedStories(), is(defaultControls.skipUnchangedStories()));
+        assertThat(embedderControls.rerunFailedStories(), is(defaultControls.rerunFailedStories()));
+        assertThat(embedderControls.shardIndex(), equalTo(defaultControls.shardIndex()));
+        assertThat(embedderControls.shardCount(), equalTo(defaultControls.shardCount()));
+        assertThat(embedderControls.shardDurations(), equalTo(defaultControls.shardDurations()));
+        assertThat(embedderControls.forks(), equalTo(defaultControls.forks()));
 
         System.setProperty(PropertyBasedEmbedderControls.BATCH, "true");
         System.setProperty(PropertyBasedEmbedderControls.GENERATE_VIEW_AFTER_STORIES, "true");
@@ -42,6 +53,16 @@ class EmbedderControlsBehaviour {
                 "**/shorts/*.story:3,**/longs/*.story:20");
         System.setProperty(PropertyBasedEmbedderControls.FAIL_ON_STORY_TIMEOUT, "true");
         System.setProperty(PropertyBasedEmbedderControls.THREADS, "5");
+        System.setProperty(PropertyBasedEmbedderControls.STREAM_STORIES, "true");
+        System.setProperty(PropertyBasedEmbedderControls.BUILD_STORIES_IN_PARALLEL, "true");
+        System.setProperty(PropertyBasedEmbedderControls.SCHEDULE_LONGEST_STORIES_FIRST, "true");
+        System.setProperty(PropertyBasedEmbedderControls.DEFAULT_STORY_DURATION_IN_MILLIS, "1000");
+        System.setProperty(PropertyBasedEmbedderControls.SKIP_UNCHANGED_STORIES, "true");
+        System.setProperty(PropertyBasedEmbedderControls.RERUN_FAILED_STORIES, "true");
+        System.setProperty(PropertyBasedEmbedderControls.SHARD_INDEX, "2");
+        System.setProperty(PropertyBasedEmbedderControls.SHARD_COUNT, "3");
+        System.setProperty(PropertyBasedEmbedderControls.SHARD_DURATIONS, "shardDurations.props");
+        System.setProperty(PropertyBasedEmbedderControls.FORKS, "4");
 
         assertThat(embedderControls.batch(), is(true));
         assertThat(embedderControls.generateViewAfterStories(), is(true));
@@ -53,6 +74,16 @@ class EmbedderControlsBehaviour {
         assertThat(embedderControls.storyTimeouts(), equalTo("300"));
         assertThat(embedderControls.failOnStoryTimeout(), is(true));
         assertThat(embedderControls.threads(), equalTo(5));
+        assertThat(embedderControls.streamStories(), is(true));
+        assertThat(embedderControls.buildStoriesInParallel(), is(true));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(true));
+        assertThat(embedderControls.defaultStoryDurationInMillis(), equalTo(1000L));
+        assertThat(embedderControls.skipUnchangedStories(), is(true));
+        assertThat(embedderControls.rerunFailedStories(), is(true));
+        assertThat(embedderControls.shardIndex(), equalTo(2));
+        assertThat(embedderControls.shardCount(), equalTo(3));
+        assertThat(embedderControls.shardDurations(), equalTo("shardDurations.props"));
+        assertThat(embedderControls.forks(), equalTo(4));
     }
     
     @Test
@@ -69,6 +100,16 @@ class EmbedderControlsBehaviour {
         assertThat(embedderControls.skip(), equalTo(delegate.skip()));
         assertThat(embedderControls.storyTimeouts(), equalTo(delegate.storyTimeouts()));
         assertThat(embedderControls.threads(), equalTo(delegate.threads()));
+        assertThat(embedderControls.streamStories(), is(delegate.streamStories()));
+        assertThat(embedderControls.buildStoriesInParallel(), is(delegate.buildStoriesInParallel()));
+        assertThat(embedderControls.scheduleLongestStoriesFirst(), is(delegate.scheduleLongestStoriesFirst()));
+        assertThat(embedderControls.defaultStoryDurationInMillis(), equalTo(delegate.defaultStoryDurationInMillis()));
+        assertThat(embedderControls.skipUnchangedStories(), is(delegate.skipUnchangedStories()));
+        assertThat(embedderControls.rerunFailedStories(), is(delegate.rerunFailedStories()));
+        assertThat(embedderControls.shardIndex(), equalTo(delegate.shardIndex()));
+        assertThat(embedderControls.shardCount(), equalTo(delegate.shardCount()));
+        assertThat(embedderControls.shardDurations(), equalTo(delegate.shardDurations()));
+        assertThat(embedderControls.forks(), equalTo(delegate.forks()));
         assertThatNotAllowed(embedderControls, "doBatch", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doGenerateViewAfterStories", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doIgnoreFailureInStories", boolean.class, true);
@@ -79,6 +120,16 @@ class EmbedderControlsBehaviour {
         assertThatNotAllowed(embedderControls, "useStoryTimeouts", String.class, "300");
         assertThatNotAllowed(embedderControls, "doFailOnStoryTimeout", boolean.class, true);
         assertThatNotAllowed(embedderControls, "useThreads", int.class, 1);
+        assertThatNotAllowed(embedderControls, "doStreamStories", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "doBuildStoriesInParallel", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "doScheduleLongestStoriesFirst", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "useDefaultStoryDurationInMillis", long.class, 1000L);
+        assertThatNotAllowed(embedderControls, "doSkipUnchangedStories", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "doRerunFailedStories", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "useShardIndex", int.class, 1);
+        assertThatNotAllowed(embedderControls, "useShardCount", int.class, 2);
+        assertThatNotAllowed(embedderControls, "useShardDurations", String.class, "shardDurations.props");
+        assertThatNotAllowed(embedderControls, "useForks", int.class, 2);
     }
 
     private void assertThatNotAllowed(EmbedderControls unmodifiable, String methodName, Class<?> type, Object value)
@@ -93,6 +93,7 @@ class EmbedderMonitorBehaviour {
         monitor.processingSystemProperties(properties);
         ReportsCount count = mock(ReportsCount.class);
         monitor.reportsViewGenerated(count);
+        monitor.mergingReports(asList(outputDirectory), outputDirectory);
         monitor.reportsViewGenerationFailed(outputDirectory, formats, viewProperties, cause);
         monitor.reportsViewNotGenerated();
         monitor.runningEmbeddable(name);
@@ -110,6 +111,9 @@ class EmbedderMonitorBehaviour {
         monitor.systemPropertySet(name, value);
         int threads = 2;
         monitor.usingThreads(threads);
+        monitor.storiesMakespan(3000, 2000);
+        monitor.storiesUnchanged(storyPaths);
+        monitor.storiesSharded(1, 3, storyPaths);
         
         // Then        
         verify(delegate).annotatedInstanceNotOfType(annotatedInstance, annotatedInstance.getClass());
@@ -125,6 +129,7 @@ class EmbedderMonitorBehaviour {
         verify(delegate).metaExcluded(meta, filter);
         verify(delegate).processingSystemProperties(properties);
         verify(delegate).reportsViewGenerated(count);
+        verify(delegate).mergingReports(asList(outputDirectory), outputDirectory);
         verify(delegate).reportsViewGenerationFailed(outputDirectory, formats, viewProperties, cause);
         verify(delegate).reportsViewNotGenerated();
         verify(delegate).storiesSkipped(storyPaths);
@@ -132,6 +137,9 @@ class EmbedderMonitorBehaviour {
         verify(delegate).storyTimeout(story, storyDuration);
         verify(delegate).systemPropertySet(name, value);
         verify(delegate).usingThreads(threads);
+        verify(delegate).storiesMakespan(3000, 2000);
+        verify(delegate).storiesUnchanged(storyPaths);
+        verify(delegate).storiesSharded(1, 3, storyPaths);
     }
 
 }
@@ -2,6 +2,7 @@ package org.jbehave.core.embedder;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -17,8 +18,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -30,20 +33,32 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import org.jbehave.core.annotations.Composite;
+import org.jbehave.core.annotations.Named;
 import org.jbehave.core.annotations.Scope;
+import org.jbehave.core.annotations.ToContext;
 import org.jbehave.core.annotations.When;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.MatchingStepMonitor.StepMatch;
 import org.jbehave.core.embedder.PerformableTree.ExamplePerformableScenario;
+import org.jbehave.core.embedder.PerformableTree.PerformableScenario;
+import org.jbehave.core.embedder.PerformableTree.PerformableStory;
 import org.jbehave.core.embedder.PerformableTree.RunContext;
 import org.jbehave.core.failures.BatchFailures;
 import org.jbehave.core.failures.IgnoringStepsFailure;
@@ -56,6 +71,7 @@ import org.jbehave.core.model.Lifecycle.ExecutionType;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Narrative;
 import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.StepPattern;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
 import org.jbehave.core.reporters.StoryReporter;
@@ -73,6 +89,7 @@ import org.jbehave.core.steps.StepCollector;
 import org.jbehave.core.steps.StepCollector.Stage;
 import org.jbehave.core.steps.StepCreator.StepExecutionType;
 import org.jbehave.core.steps.StepMonitor;
+import org.jbehave.core.steps.StepType;
 import org.jbehave.core.steps.Timing;
 import org.jbehave.core.steps.context.StepsContext;
 import org.junit.jupiter.api.Test;
@@ -136,6 +153,362 @@ class PerformableTreeBehaviour {
         verifyNoMoreInteractions(stepCollector);
     }
 
+    @Test
+    void shouldAddStoriesMadePerformableInParallelInGivenOrder() {
+        StoryReporterBuilder storyReporterBuilder = mock(StoryReporterBuilder.class);
+        when(storyReporterBuilder.build(anyString())).thenReturn(mock(StoryReporter.class));
+        Configuration configuration = new MostUsefulConfiguration().useStoryReporterBuilder(storyReporterBuilder);
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        List<Story> stories = new ArrayList<>();
+        int expectedTotal = 0;
+        for (int i = 1; i <= 17; i++) {
+            stories.add(new Story("path" + i, asList(new Scenario("scenario " + i, asList("When I add " + i,
+                    "When twice I add " + i)))));
+            expectedTotal += 3 * i;
+        }
+
+        PerformableTree sequentialTree = new PerformableTree();
+        createRunContext(configuration, sequentialTree, mock(BatchFailures.class), stories, new AddingSteps());
+
+        AddingSteps steps = new AddingSteps();
+        PerformableTree parallelTree = new PerformableTree();
+        InstanceStepsFactory stepsFactory = new InstanceStepsFactory(configuration, steps);
+        AllStepCandidates allStepCandidates = new AllStepCandidates(configuration.stepConditionMatcher(),
+                stepsFactory.createCandidateSteps());
+        RunContext runContext = parallelTree.newRunContext(configuration, allStepCandidates,
+                mock(EmbedderMonitor.class), new MetaFilter(), mock(BatchFailures.class));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallelTree.addStories(runContext, stories, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        List<PerformableStory> sequentialStories = sequentialTree.getRoot().getStories();
+        List<PerformableStory> parallelStories = parallelTree.getRoot().getStories();
+        assertThat(parallelStories.size(), equalTo(stories.size()));
+        for (int i = 0; i < stories.size(); i++) {
+            assertThat(parallelStories.get(i).getStory(), equalTo(stories.get(i)));
+            assertThat(parallelStories.get(i).getScenarios().size(),
+                    equalTo(sequentialStories.get(i).getScenarios().size()));
+        }
+        for (Story story : stories) {
+            parallelTree.perform(runContext, story);
+        }
+        assertThat(steps.total.get(), equalTo(expectedTotal));
+    }
+
+    @Test
+    void shouldMatchStepsOfStoriesMadePerformableInParallelWithTheirOwnMonitors() {
+        Map<String, MatchingStepMonitor> monitors = new ConcurrentHashMap<>();
+        StoryReporterBuilder storyReporterBuilder = mock(StoryReporterBuilder.class);
+        when(storyReporterBuilder.build(anyString())).thenReturn(mock(StoryReporter.class));
+        Configuration configuration = new MostUsefulConfiguration().useStoryReporterBuilder(storyReporterBuilder)
+                .useStepCollector(new MarkUnmatchedStepsAsPending() {
+                    @Override
+                    public List<Step> collectScenarioSteps(List<StepCandidate> stepCandidates, Scenario scenario,
+                            Map<String, String> parameters, StepMonitor stepMonitor) {
+                        monitors.put(scenario.getTitle(), (MatchingStepMonitor) stepMonitor);
+                        return super.collectScenarioSteps(stepCandidates, scenario, parameters, stepMonitor);
+                    }
+                });
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        String[] patterns = { "I add $number", "I subtract $number", "I multiply by $number" };
+        List<Story> stories = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            // a single step per story, so that a match notified to the monitor of another story goes amiss
+            String step = "When " + patterns[i % patterns.length].replace("$number", String.valueOf(i));
+            stories.add(new Story("path" + i, asList(new Scenario("scenario " + i, singletonList(step)))));
+        }
+
+        PerformableTree performableTree = new PerformableTree();
+        InstanceStepsFactory stepsFactory = new InstanceStepsFactory(configuration, new CalculatingSteps());
+        AllStepCandidates allStepCandidates = new AllStepCandidates(configuration.stepConditionMatcher(),
+                stepsFactory.createCandidateSteps());
+        RunContext runContext = performableTree.newRunContext(configuration, allStepCandidates,
+                mock(EmbedderMonitor.class), new MetaFilter(), mock(BatchFailures.class));
+        ForkJoinPool pool = new ForkJoinPool(8);
+        try {
+            performableTree.addStories(runContext, stories, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(monitors.size(), equalTo(stories.size()));
+        for (int i = 0; i < stories.size(); i++) {
+            StepPattern pattern = new StepPattern(StepType.WHEN, patterns[i % patterns.length], null);
+            assertThat(monitors.get("scenario " + i).matched(), equalTo(singletonList(new StepMatch(pattern))));
+        }
+    }
+
+    @Test
+    void shouldPerformScenariosInParallelAndReportThemInOrder() {
+        StoryReporter storyReporter = mock(StoryReporter.class);
+        StoryReporterBuilder storyReporterBuilder = mock(StoryReporterBuilder.class);
+        when(storyReporterBuilder.build(anyString())).thenReturn(storyReporter);
+        Configuration configuration = new MostUsefulConfiguration().useStoryReporterBuilder(storyReporterBuilder)
+                .useStoryControls(new StoryControls().doParallelScenarios(true));
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        Scenario scenario1 = new Scenario("scenario 1", asList("When I wait for another thread", "When I add 1"));
+        Scenario scenario2 = new Scenario("scenario 2", asList("When I wait for another thread", "When I add 2"));
+        Story story = new Story(STORY_PATH, asList(scenario1, scenario2));
+        ParallelSteps steps = new ParallelSteps();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = createRunContext(configuration, performableTree, mock(BatchFailures.class),
+                singletonList(story), steps);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            runContext.useScenarioExecutor(executor);
+            performableTree.perform(runContext, story);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(steps.total.get(), equalTo(3));
+        assertThat(steps.threads.size(), equalTo(2));
+        assertThat(runContext.failureOccurred(), is(false));
+        InOrder ordered = inOrder(storyReporter);
+        ordered.verify(storyReporter).beforeStory(story, false);
+        ordered.verify(storyReporter).beforeScenarios();
+        ordered.verify(storyReporter).beforeScenario(scenario1);
+        ordered.verify(storyReporter).successful(startsWith("When I add "));
+        ordered.verify(storyReporter).afterScenario(any(Timing.class));
+        ordered.verify(storyReporter).beforeScenario(scenario2);
+        ordered.verify(storyReporter).successful(startsWith("When I add "));
+        ordered.verify(storyReporter).afterScenario(any(Timing.class));
+        ordered.verify(storyReporter).afterScenarios();
+        ordered.verify(storyReporter).afterStory(false);
+    }
+
+    @Test
+    void shouldInterruptAndWaitForScenariosStillPerformedInParallelIfInterrupted() {
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryControls(new StoryControls().doParallelScenarios(true));
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        List<String> steps = asList("When I wait for another thread", "When I interrupt the caller or block");
+        Story story = new Story(STORY_PATH, asList(new Scenario("scenario 1", steps),
+                new Scenario("scenario 2", steps)));
+        InterruptingSteps interruptingSteps = new InterruptingSteps(Thread.currentThread());
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = createRunContext(configuration, performableTree, mock(BatchFailures.class),
+                singletonList(story), interruptingSteps);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            runContext.useScenarioExecutor(executor);
+            assertThrows(UUIDExceptionWrapper.class, () -> performableTree.perform(runContext, story));
+            // the blocked scenario has ended by the time the interrupted story returns
+            assertThat(interruptingSteps.blockedEnded, is(true));
+            assertThat(interruptingSteps.blockedInterrupted, is(true));
+        } finally {
+            Thread.interrupted();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotPerformScenariosInParallelIfDisabledByStoryMeta() {
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryControls(new StoryControls().doParallelScenarios(true));
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        Properties properties = new Properties();
+        properties.setProperty(PerformableStory.PARALLEL_SCENARIOS, "false");
+        Story story = new Story(STORY_PATH, null, new Meta(properties), null, asList(
+                new Scenario("scenario 1", singletonList("When I add 1")),
+                new Scenario("scenario 2", singletonList("When I add 2"))));
+        ParallelSteps steps = new ParallelSteps();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = createRunContext(configuration, performableTree, mock(BatchFailures.class),
+                singletonList(story), steps);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            runContext.useScenarioExecutor(executor);
+            performableTree.perform(runContext, story);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(steps.total.get(), equalTo(3));
+        assertThat(steps.threads, equalTo(singleton(Thread.currentThread())));
+    }
+
+    @Test
+    void shouldPerformExamplesInParallelAndReportThemInOrder() {
+        StoryReporter storyReporter = mock(StoryReporter.class);
+        StoryReporterBuilder storyReporterBuilder = mock(StoryReporterBuilder.class);
+        when(storyReporterBuilder.build(anyString())).thenReturn(storyReporter);
+        Configuration configuration = new MostUsefulConfiguration().useStoryReporterBuilder(storyReporterBuilder)
+                .useStoryControls(new StoryControls().doParallelExamples(2));
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            rows.add(singletonMap("number", String.valueOf(i)));
+        }
+        Scenario scenario = new Scenario("scenario", Meta.EMPTY, null, ExamplesTable.empty().withRows(rows),
+                asList("When I wait for another thread", "When I add <number>"));
+        Story story = new Story(STORY_PATH, singletonList(scenario));
+        ParallelSteps steps = new ParallelSteps();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = createRunContext(configuration, performableTree, mock(BatchFailures.class),
+                singletonList(story), steps);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            runContext.useScenarioExecutor(executor);
+            performableTree.perform(runContext, story);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(steps.total.get(), equalTo(10));
+        assertThat(steps.threads.size(), equalTo(2));
+        assertThat(runContext.failureOccurred(), is(false));
+        InOrder ordered = inOrder(storyReporter);
+        ordered.verify(storyReporter).beforeScenario(scenario);
+        ordered.verify(storyReporter).beforeExamples(scenario.getSteps(), scenario.getExamplesTable());
+        for (int i = 0; i < rows.size(); i++) {
+            ordered.verify(storyReporter).example(rows.get(i), i);
+            ordered.verify(storyReporter).successful(startsWith("When I add "));
+        }
+        ordered.verify(storyReporter).afterExamples();
+        ordered.verify(storyReporter).afterScenario(any(Timing.class));
+    }
+
+    @Test
+    void shouldNotPerformExamplesInParallelIfLimitedByScenarioMeta() {
+        Configuration configuration = new MostUsefulConfiguration()
+                .useStoryControls(new StoryControls().doParallelExamples(4));
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        Properties properties = new Properties();
+        properties.setProperty(PerformableScenario.PARALLEL_EXAMPLES, "1");
+        Scenario scenario = new Scenario("scenario", new Meta(properties), null, ExamplesTable.empty().withRows(
+                asList(singletonMap("number", "1"), singletonMap("number", "2"))),
+                singletonList("When I add <number>"));
+        Story story = new Story(STORY_PATH, singletonList(scenario));
+        ParallelSteps steps = new ParallelSteps();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = createRunContext(configuration, performableTree, mock(BatchFailures.class),
+                singletonList(story), steps);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            runContext.useScenarioExecutor(executor);
+            performableTree.perform(runContext, story);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(steps.total.get(), equalTo(3));
+        assertThat(steps.threads, equalTo(singleton(Thread.currentThread())));
+    }
+
+    @Test
+    void shouldLoadAndParseGivenStoriesOncePerRun() {
+        String givenStoryPath = "given/path";
+        GivenStories givenStories = new GivenStories(givenStoryPath);
+        Story story = new Story(STORY_PATH, null, null, null, givenStories, asList(
+                new Scenario("scenario 1", Meta.EMPTY, givenStories, null, emptyList()),
+                new Scenario("scenario 2", Meta.EMPTY, givenStories, null, emptyList())));
+        Configuration configuration = new MostUsefulConfiguration();
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        configuration.useStoryLoader(storyLoader);
+        when(storyLoader.loadStoryAsText(givenStoryPath)).thenReturn("Scenario: given scenario title");
+
+        RunContext runContext = createRunContext(configuration, new PerformableTree(), mock(BatchFailures.class),
+                singletonList(story));
+
+        verify(storyLoader, times(1)).loadStoryAsText(givenStoryPath);
+        assertThat(runContext.storyCache().misses(), equalTo(1L));
+        assertThat(runContext.storyCache().hits(), equalTo(2L));
+    }
+
+    @Test
+    void shouldPerformGivenStoryOncePerRunAndReportItAsReused() {
+        String givenStoryPath = "given/path";
+        GivenStories givenStories = new GivenStories(givenStoryPath);
+        Story story = new Story(STORY_PATH, null, null, null, givenStories, asList(
+                new Scenario("scenario 1", Meta.EMPTY, givenStories, null, emptyList()),
+                new Scenario("scenario 2", Meta.EMPTY, givenStories, null, emptyList())));
+        StoryReporter storyReporter = mock(StoryReporter.class);
+        StoryReporterBuilder storyReporterBuilder = mock(StoryReporterBuilder.class);
+        when(storyReporterBuilder.build(anyString())).thenReturn(storyReporter);
+        Configuration configuration = new MostUsefulConfiguration().useStoryReporterBuilder(storyReporterBuilder);
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        configuration.useStoryLoader(storyLoader);
+        when(storyLoader.loadStoryAsText(givenStoryPath)).thenReturn(
+                "Meta: @runOnce run\n\nScenario: given scenario title\nWhen I add 1");
+        ParallelSteps steps = new ParallelSteps();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = createRunContext(configuration, performableTree, mock(BatchFailures.class),
+                singletonList(story), steps);
+        performableTree.perform(runContext, story);
+
+        assertThat(steps.total.get(), equalTo(1));
+        assertThat(runContext.failureOccurred(), is(false));
+        verify(storyReporter, times(1)).beforeStory(any(Story.class), eq(true));
+        verify(storyReporter, times(2)).givenStoryReused(argThat(given -> given.getPath().equals(givenStoryPath)));
+    }
+
+    @Test
+    void shouldPerformGivenStoryOncePerWorkerRegardlessOfTheThreadsPerformingItsScenarios() {
+        String givenStoryPath = "given/path";
+        GivenStories givenStories = new GivenStories(givenStoryPath);
+        List<String> steps = asList("When I wait for another thread", "When I add 10");
+        Story story = new Story(STORY_PATH, null, null, null, null, asList(
+                new Scenario("scenario 1", Meta.EMPTY, givenStories, null, steps),
+                new Scenario("scenario 2", Meta.EMPTY, givenStories, null, steps)));
+        StoryReporter storyReporter = mock(StoryReporter.class);
+        StoryReporterBuilder storyReporterBuilder = mock(StoryReporterBuilder.class);
+        when(storyReporterBuilder.build(anyString())).thenReturn(storyReporter);
+        Configuration configuration = new MostUsefulConfiguration().useStoryReporterBuilder(storyReporterBuilder)
+                .useStoryControls(new StoryControls().doParallelScenarios(true));
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        configuration.useStoryLoader(storyLoader);
+        when(storyLoader.loadStoryAsText(givenStoryPath)).thenReturn(
+                "Meta: @runOnce\n\nScenario: given scenario title\nWhen I add 1");
+        ParallelSteps parallelSteps = new ParallelSteps();
+        PerformableTree performableTree = new PerformableTree();
+        RunContext runContext = createRunContext(configuration, performableTree, mock(BatchFailures.class),
+                singletonList(story), parallelSteps);
+        // a new thread for each task, as with virtual threads
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            runContext.useScenarioExecutor(executor);
+            performableTree.perform(runContext, story);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(parallelSteps.threads.size(), equalTo(2));
+        assertThat(parallelSteps.total.get(), equalTo(21));
+        assertThat(runContext.failureOccurred(), is(false));
+        verify(storyReporter, times(1)).givenStoryReused(argThat(given -> given.getPath().equals(givenStoryPath)));
+    }
+
+    @Test
+    void shouldIdentifyWorkersUniquelyPerThread() throws Exception {
+        RunContext runContext = createRunContext(new MostUsefulConfiguration(), new PerformableTree(),
+                mock(BatchFailures.class), singletonList(EMPTY_STORY));
+        long worker = runContext.worker();
+        assertThat(runContext.worker(), equalTo(worker));
+        Set<Long> workers = ConcurrentHashMap.newKeySet();
+        workers.add(worker);
+        for (int i = 0; i < 100; i++) {
+            Thread thread = new Thread(() -> workers.add(runContext.worker()));
+            thread.start();
+            thread.join();
+        }
+        assertThat(workers.size(), equalTo(101));
+    }
+
+    @Test
+    void shouldClaimGivenStoryPerformedOnceAgainIfNotSuccessful() throws InterruptedException {
+        RunContext runContext = createRunContext(new MostUsefulConfiguration(), new PerformableTree(),
+                mock(BatchFailures.class), singletonList(EMPTY_STORY));
+        assertThat(runContext.claimGivenStoryPerformedOnce("given"), is(true));
+        runContext.givenStoryPerformedOnce("given", false);
+        assertThat(runContext.claimGivenStoryPerformedOnce("given"), is(true));
+        runContext.givenStoryPerformedOnce("given", true);
+        assertThat(runContext.claimGivenStoryPerformedOnce("given"), is(false));
+    }
+
     @Test
     void shouldNotSkipStoryWhenGivenStoryIsFailed() {
         RunContext context = performStoryRun(new StoryControls().doSkipStoryIfGivenStoryFailed(false),
@@ -531,6 +904,42 @@ class PerformableTreeBehaviour {
         assertReturnsNullInAnotherThread(context::reporter);
     }
 
+    @Test
+    void shouldRemoveScopedStoryRunContextAndStepsContextOnceTaskIsPerformed() throws Throwable {
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.useStoryLoader(mock(StoryLoader.class));
+        PerformableTree performableTree = new PerformableTree();
+        RunContext context = createRunContext(configuration, performableTree, mock(BatchFailures.class),
+                singletonList(EMPTY_STORY));
+        StepsContext stepsContext = context.stepsContext();
+        Callable<Void> task = () -> {
+            Object state = context.performInScope(() -> {
+                performableTree.perform(context, EMPTY_STORY);
+                stepsContext.put("key", "value", ToContext.RetentionLevel.STORY);
+                assertThat(stepsContext.get("key"), is("value"));
+                return context.state();
+            });
+            assertThat(state.getClass().getSimpleName(), is("FineSoFar"));
+            assertThat(context.state(), is(nullValue()));
+            assertThat(context.path(), is(nullValue()));
+            assertThat(stepsContext.getOrDefault("key", "default"), is("default"));
+            return null;
+        };
+        try {
+            EXECUTOR.submit(task).get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+
+        context.currentPath(STORY_PATH);
+        context.performInScope(() -> {
+            performableTree.perform(context, EMPTY_STORY);
+            return null;
+        });
+        assertThat(context.path(), is(STORY_PATH));
+        assertThat(context.state().getClass().getSimpleName(), is("FineSoFar"));
+    }
+
     @Test
     void shouldPerformAfterHooksUponStoryExecutionTimeout() {
         String step1 = "When I execute step 1";
@@ -704,6 +1113,87 @@ class PerformableTreeBehaviour {
         }
     }
 
+    public static class AddingSteps {
+
+        private final AtomicInteger total = new AtomicInteger();
+
+        @When("I add $number")
+        public void add(int number) {
+            total.addAndGet(number);
+        }
+
+        @When("twice I add $number")
+        @Composite(steps = { "When I add <number>", "When I add <number>" })
+        public void addTwice(@Named("number") int number) {
+        }
+    }
+
+    public static class CalculatingSteps {
+
+        @When("I add $number")
+        public void add(int number) {
+        }
+
+        @When("I subtract $number")
+        public void subtract(int number) {
+        }
+
+        @When("I multiply by $number")
+        public void multiply(int number) {
+        }
+    }
+
+    public static class ParallelSteps {
+
+        private final CyclicBarrier barrier = new CyclicBarrier(2);
+        private final AtomicInteger total = new AtomicInteger();
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @When("I wait for another thread")
+        public void waitForAnotherThread() throws Exception {
+            barrier.await(10, TimeUnit.SECONDS);
+        }
+
+        @When("I add $number")
+        public void add(int number) {
+            threads.add(Thread.currentThread());
+            total.addAndGet(number);
+        }
+    }
+
+    public static class InterruptingSteps {
+
+        private final CyclicBarrier barrier = new CyclicBarrier(2);
+        private final Thread caller;
+        private volatile boolean blockedInterrupted;
+        private volatile boolean blockedEnded;
+
+        InterruptingSteps(Thread caller) {
+            this.caller = caller;
+        }
+
+        @When("I wait for another thread")
+        public void waitForAnotherThread() throws Exception {
+            barrier.await(10, TimeUnit.SECONDS);
+        }
+
+        @When("I interrupt the caller or block")
+        public void interruptCallerOrBlock() throws InterruptedException {
+            if (Thread.currentThread() == caller) {
+                caller.interrupt();
+                return;
+            }
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                blockedInterrupted = true;
+                throw e;
+            } finally {
+                blockedEnded = true;
+            }
+        }
+    }
+
     private static class DummyParameterConverter extends FromStringParameterConverter<Dummy> {
         @Override
         public Dummy convertValue(String value, Type type) {
@@ -0,0 +1,96 @@
+package org.jbehave.core.embedder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.model.Story;
+import org.junit.jupiter.api.Test;
+
+class StoryCacheBehaviour {
+
+    private static final String GIVEN_STORY_PATH = "given.story";
+    private static final String OTHER_STORY_PATH = "other.story";
+    private static final String THIRD_STORY_PATH = "third.story";
+
+    @Test
+    void shouldLoadAndParseStoryOnceAndCountHitsAndMisses() {
+        StoryLoader storyLoader = storyLoader();
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader);
+        StoryCache cache = new StoryCache();
+
+        Story story = cache.storyOfPath(configuration, GIVEN_STORY_PATH);
+        assertThat(story.getPath(), equalTo(GIVEN_STORY_PATH));
+        assertThat(cache.storyOfPath(configuration, GIVEN_STORY_PATH), sameInstance(story));
+        assertThat(cache.storyOfPath(configuration, GIVEN_STORY_PATH), sameInstance(story));
+        cache.storyOfPath(configuration, OTHER_STORY_PATH);
+
+        verify(storyLoader, times(1)).loadStoryAsText(GIVEN_STORY_PATH);
+        verify(storyLoader, times(1)).loadStoryAsText(OTHER_STORY_PATH);
+        assertThat(cache.size(), equalTo(2));
+        assertThat(cache.hits(), equalTo(2L));
+        assertThat(cache.misses(), equalTo(2L));
+        assertThat(cache.hitRate(), equalTo(0.5));
+    }
+
+    @Test
+    void shouldKeyStoriesByLoader() {
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader());
+        StoryCache cache = new StoryCache();
+        Story story = cache.storyOfPath(configuration, GIVEN_STORY_PATH);
+
+        configuration.useStoryLoader(storyLoader());
+        assertThat(cache.storyOfPath(configuration, GIVEN_STORY_PATH), not(sameInstance(story)));
+        assertThat(cache.misses(), equalTo(2L));
+    }
+
+    @Test
+    void shouldEvictStoriesOnceMaxSizeIsReached() {
+        StoryLoader storyLoader = storyLoader();
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader);
+        StoryCache cache = new StoryCache(1);
+        cache.storyOfPath(configuration, GIVEN_STORY_PATH);
+        cache.storyOfPath(configuration, OTHER_STORY_PATH);
+        assertThat(cache.size(), equalTo(1));
+
+        StoryCache disabled = new StoryCache(0);
+        disabled.storyOfPath(configuration, GIVEN_STORY_PATH);
+        disabled.storyOfPath(configuration, GIVEN_STORY_PATH);
+        assertThat(disabled.size(), equalTo(0));
+        assertThat(disabled.hitRate(), equalTo(0.0));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedStory() {
+        StoryLoader storyLoader = storyLoader();
+        Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader);
+        StoryCache cache = new StoryCache(2);
+        Story given = cache.storyOfPath(configuration, GIVEN_STORY_PATH);
+        Story other = cache.storyOfPath(configuration, OTHER_STORY_PATH);
+        // the given story is used again, so that the other story is the least recently used
+        assertThat(cache.storyOfPath(configuration, GIVEN_STORY_PATH), sameInstance(given));
+        cache.storyOfPath(configuration, THIRD_STORY_PATH);
+        assertThat(cache.size(), equalTo(2));
+
+        assertThat(cache.storyOfPath(configuration, GIVEN_STORY_PATH), sameInstance(given));
+        assertThat(cache.storyOfPath(configuration, OTHER_STORY_PATH), not(sameInstance(other)));
+        verify(storyLoader, times(1)).loadStoryAsText(GIVEN_STORY_PATH);
+        verify(storyLoader, times(2)).loadStoryAsText(OTHER_STORY_PATH);
+    }
+
+    private StoryLoader storyLoader() {
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        when(storyLoader.loadStoryAsText(GIVEN_STORY_PATH)).thenReturn("Scenario: given");
+        when(storyLoader.loadStoryAsText(OTHER_STORY_PATH)).thenReturn("Scenario: other");
+        when(storyLoader.loadStoryAsText(THIRD_STORY_PATH)).thenReturn("Scenario: third");
+        return storyLoader;
+    }
+}
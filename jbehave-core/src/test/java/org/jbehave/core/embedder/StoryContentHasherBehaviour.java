@@ -0,0 +1,126 @@
+package org.jbehave.core.embedder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.When;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.io.StoryResourceNotFound;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.steps.InstanceStepsFactory;
+import org.junit.jupiter.api.Test;
+
+class StoryContentHasherBehaviour {
+
+    private static final String STORY_PATH = "/path/to/story";
+    private static final String GIVEN_STORY_PATH = "/path/to/given.story";
+
+    private final StoryLoader storyLoader = mock(StoryLoader.class);
+    private final Configuration configuration = new MostUsefulConfiguration().useStoryLoader(storyLoader);
+
+    @Test
+    void shouldHashStoryTextAndGivenStories() {
+        storyIs("GivenStories: " + GIVEN_STORY_PATH + "\n\nScenario: a\nWhen I add 1");
+        when(storyLoader.loadStoryAsText(GIVEN_STORY_PATH)).thenReturn("Scenario: given");
+        String key = hash(new MetaFilter());
+        assertThat(key, notNullValue());
+        assertThat(hash(new MetaFilter()), equalTo(key));
+
+        when(storyLoader.loadStoryAsText(GIVEN_STORY_PATH)).thenReturn("Scenario: given changed");
+        String givenStoryChanged = hash(new MetaFilter());
+        assertThat(givenStoryChanged, not(equalTo(key)));
+
+        storyIs("GivenStories: " + GIVEN_STORY_PATH + "\n\nScenario: a\nWhen I add 2");
+        assertThat(hash(new MetaFilter()), not(equalTo(givenStoryChanged)));
+        assertThat(hash(new MetaFilter("+smoke")), not(equalTo(hash(new MetaFilter()))));
+    }
+
+    @Test
+    void shouldHashClassesOfMatchedSteps() {
+        storyIs("Scenario: a\nWhen I add 1");
+        String withoutSteps = hash(new MetaFilter());
+        assertThat(hash(new MetaFilter(), new UnmatchedSteps()), equalTo(withoutSteps));
+        assertThat(hash(new MetaFilter(), new MatchedSteps()), not(equalTo(withoutSteps)));
+    }
+
+    @Test
+    void shouldHashHierarchyOfClassesOfMatchedSteps() {
+        Map<String, Class<?>> classes = new TreeMap<>();
+        StoryContentHasher.collectHierarchy(DerivedSteps.class, classes);
+        assertThat(classes.values(), contains(BaseSteps.class, DerivedSteps.class, HelpingSteps.class));
+
+        storyIs("Scenario: a\nWhen I add 1");
+        String key = hash(new MetaFilter(), new DerivedSteps());
+        assertThat(key, notNullValue());
+        assertThat(key, not(equalTo(hash(new MetaFilter(), new MatchedSteps()))));
+    }
+
+    @Test
+    void shouldNotHashStoryWhichCannotBeLoaded() {
+        when(storyLoader.loadStoryAsText(STORY_PATH))
+                .thenThrow(new StoryResourceNotFound(STORY_PATH, (ClassLoader) null));
+        Story story = new Story(STORY_PATH);
+        StoryContentHasher hasher = new StoryContentHasher(configuration, allStepCandidates(), new StoryCache(),
+                new MetaFilter());
+        assertThat(hasher.hashOf(story), nullValue());
+    }
+
+    private void storyIs(String storyAsText) {
+        when(storyLoader.loadStoryAsText(STORY_PATH)).thenReturn(storyAsText);
+    }
+
+    private String hash(MetaFilter filter, Object... steps) {
+        Story story = configuration.storyParser().parseStory(storyLoader.loadStoryAsText(STORY_PATH), STORY_PATH);
+        return new StoryContentHasher(configuration, allStepCandidates(steps), new StoryCache(), filter)
+                .hashOf(story);
+    }
+
+    private AllStepCandidates allStepCandidates(Object... steps) {
+        return new AllStepCandidates(configuration.stepConditionMatcher(),
+                new InstanceStepsFactory(configuration, steps).createCandidateSteps());
+    }
+
+    public static class MatchedSteps {
+
+        @When("I add $number")
+        public void add(int number) {
+        }
+    }
+
+    public static class UnmatchedSteps {
+
+        @Given("nothing")
+        public void nothing() {
+        }
+    }
+
+    public interface HelpingSteps {
+
+        default int twice(int number) {
+            return 2 * number;
+        }
+    }
+
+    public static class BaseSteps implements HelpingSteps {
+    }
+
+    public static class DerivedSteps extends BaseSteps {
+
+        @When("I add $number")
+        public void add(int number) {
+            twice(number);
+        }
+    }
+}
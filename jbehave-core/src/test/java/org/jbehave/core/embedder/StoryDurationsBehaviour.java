@@ -0,0 +1,111 @@
+package org.jbehave.core.embedder;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import org.jbehave.core.model.Story;
+import org.junit.jupiter.api.Test;
+
+class StoryDurationsBehaviour {
+
+    @Test
+    void shouldOrderStoriesLongestFirstEstimatingUnknownStories() {
+        Properties properties = new Properties();
+        properties.setProperty("short.story", "100");
+        properties.setProperty("medium.story", "400");
+        properties.setProperty("long.story", "900");
+        properties.setProperty("total", "1400");
+        properties.setProperty("threads", "2");
+        properties.setProperty("threadAverage", "700");
+        StoryDurations durations = new StoryDurations(properties);
+        List<Story> stories = asList(new Story("short.story"), new Story("unknown.story"), new Story("long.story"),
+                new Story("medium.story"));
+
+        assertThat(sortedPaths(stories, durations, 1000),
+                equalTo(asList("unknown.story", "long.story", "medium.story", "short.story")));
+        assertThat(sortedPaths(stories, durations, 0),
+                equalTo(asList("long.story", "medium.story", "short.story", "unknown.story")));
+        // the average duration of the known stories
+        assertThat(durations.estimatedDurationInMillis("unknown.story", -1), equalTo(466L));
+        assertThat(sortedPaths(stories, durations, -1),
+                equalTo(asList("long.story", "unknown.story", "medium.story", "short.story")));
+    }
+
+    @Test
+    void shouldReadStoryDurationsFromOutputDirectory() throws IOException {
+        File outputDirectory = new File("target/story-durations");
+        outputDirectory.mkdirs();
+        Properties properties = new Properties();
+        properties.setProperty("a.story", "42");
+        properties.setProperty("b.story", "invalid");
+        try (Writer writer = new FileWriter(new File(outputDirectory, StoryDurations.STORY_DURATIONS))) {
+            properties.store(writer, null);
+        }
+        StoryDurations durations = StoryDurations.read(outputDirectory);
+        assertThat(durations.durationInMillis("a.story"), equalTo(42L));
+        assertThat(durations.durationInMillis("b.story"), equalTo(-1L));
+        assertThat(durations.durationInMillis("c.story"), equalTo(-1L));
+        assertThat(StoryDurations.read(new File(outputDirectory, "inexistent")).durationInMillis("a.story"),
+                equalTo(-1L));
+    }
+
+    @Test
+    void shouldComputeIdealMakespan() {
+        assertThat(StoryDurations.idealMakespanInMillis(asList(100L, 200L, 300L), 2), equalTo(300L));
+        assertThat(StoryDurations.idealMakespanInMillis(asList(900L, 100L, 100L), 2), equalTo(900L));
+        assertThat(StoryDurations.idealMakespanInMillis(asList(100L, 200L, 300L), 1), equalTo(600L));
+    }
+
+    @Test
+    void shouldSplitStoriesIntoShardsBalancedByDuration() {
+        Properties properties = new Properties();
+        properties.setProperty("a.story", "900");
+        properties.setProperty("b.story", "500");
+        properties.setProperty("c.story", "400");
+        properties.setProperty("d.story", "300");
+        properties.setProperty("e.story", "100");
+        StoryDurations durations = new StoryDurations(properties);
+        List<String> paths = asList("e.story", "d.story", "c.story", "b.story", "a.story");
+
+        assertThat(durations.shard(paths, 0, 2, 0), equalTo(asList("d.story", "a.story")));
+        assertThat(durations.shard(paths, 1, 2, 0), equalTo(asList("e.story", "c.story", "b.story")));
+        // the split does not depend on the order of the paths
+        List<String> otherOrder = asList("c.story", "a.story", "e.story", "b.story", "d.story");
+        assertThat(durations.shard(otherOrder, 0, 2, 0), equalTo(asList("a.story", "d.story")));
+        // the unknown stories are estimated by the default duration
+        List<String> withUnknown = asList("a.story", "b.story", "unknown.story");
+        assertThat(durations.shard(withUnknown, 0, 2, 1000), equalTo(asList("unknown.story")));
+        assertThat(durations.shard(withUnknown, 1, 2, 1000), equalTo(asList("a.story", "b.story")));
+        assertThat(durations.shard(paths, 0, 1, 0), equalTo(paths));
+        // without any known duration, the stories are split by their count
+        StoryDurations noDurations = new StoryDurations(new Properties());
+        assertThat(noDurations.shard(otherOrder, 0, 2, -1), equalTo(asList("c.story", "a.story", "e.story")));
+        assertThat(noDurations.shard(otherOrder, 1, 2, -1), equalTo(asList("b.story", "d.story")));
+    }
+
+    @Test
+    void shouldNotSplitStoriesIntoInvalidShard() {
+        StoryDurations durations = new StoryDurations(new Properties());
+        List<String> paths = asList("a.story");
+        assertThrows(IllegalArgumentException.class, () -> durations.shard(paths, 2, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> durations.shard(paths, -1, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> durations.shard(paths, 0, 0, 0));
+    }
+
+    private List<String> sortedPaths(List<Story> stories, StoryDurations durations, long defaultDurationInMillis) {
+        return stories.stream()
+                .sorted(durations.longestFirst(defaultDurationInMillis))
+                .map(Story::getPath)
+                .collect(Collectors.toList());
+    }
+}
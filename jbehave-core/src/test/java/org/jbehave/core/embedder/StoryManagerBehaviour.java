@@ -1,19 +1,39 @@
 package org.jbehave.core.embedder;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.codehaus.plexus.util.FileUtils;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.PerformableTree.PerformableScenario;
+import org.jbehave.core.embedder.PerformableTree.PerformableStory;
+import org.jbehave.core.embedder.PerformableTree.Status;
 import org.jbehave.core.embedder.StoryManager.RunningStory;
+import org.jbehave.core.embedder.StoryManager.StoryOutcome;
+import org.jbehave.core.embedder.executors.DirectExecutorService;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
 import org.jbehave.core.steps.InjectableStepsFactory;
 import org.junit.jupiter.api.Test;
 
@@ -39,4 +59,253 @@ class StoryManagerBehaviour {
         assertThat(outputDirectory.exists(), is(true));
     }
 
+    @Test
+    void shouldStreamStoriesByMakingThemPerformableWhenRunAndReleasingThemOnceRun() {
+        Configuration configuration = new MostUsefulConfiguration();
+        embedderControls.doStreamStories(true);
+        ExecutorService streamingExecutorService = Executors.newFixedThreadPool(2);
+        try {
+            StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls, embedderMonitor,
+                    streamingExecutorService, performableTree);
+            List<Story> stories = asList(
+                    new Story("/path/to/one.story", singletonList(new Scenario("one", singletonList("Given one")))),
+                    new Story("/path/to/two.story", singletonList(new Scenario("two", singletonList("Given two")))));
+            BatchFailures failures = new BatchFailures();
+            manager.runStories(stories, new MetaFilter(), failures);
+            List<StoryOutcome> outcomes = manager.outcomes();
+            assertThat(outcomes.size(), is(2));
+            for (StoryOutcome outcome : outcomes) {
+                assertThat(outcome.isDone(), is(true));
+                assertThat(outcome.isFailed(), is(false));
+            }
+            assertThat(failures.isEmpty(), is(true));
+            // only the results of the stories are kept
+            List<PerformableStory> performableStories = manager.performableRoot().getStories();
+            assertThat(performableStories.size(), is(2));
+            for (PerformableStory performableStory : performableStories) {
+                PerformableScenario scenario = performableStory.getScenarios().get(0);
+                assertThat(scenario.getStatus(), is(Status.PENDING));
+                assertThat(scenario.isPerformable(), is(false));
+            }
+        } finally {
+            streamingExecutorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldScheduleLongestStoriesFirstAndReportMakespan() throws IOException {
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.storyReporterBuilder().withRelativeDirectory("longest-first");
+        File outputDirectory = configuration.storyReporterBuilder().outputDirectory();
+        outputDirectory.mkdirs();
+        Properties durations = new Properties();
+        durations.setProperty("/path/to/short.story", "10");
+        durations.setProperty("/path/to/long.story", "1000");
+        try (Writer writer = new FileWriter(new File(outputDirectory, StoryDurations.STORY_DURATIONS))) {
+            durations.store(writer, null);
+        }
+        embedderControls.doScheduleLongestStoriesFirst(true).useDefaultStoryDurationInMillis(500);
+        List<String> runningStories = new ArrayList<>();
+        List<Long> makespans = new ArrayList<>();
+        EmbedderMonitor monitor = new NullEmbedderMonitor() {
+            @Override
+            public void runningStory(String path) {
+                runningStories.add(path);
+                if (path.equals("/path/to/long.story")) {
+                    sleep(100);
+                }
+            }
+
+            @Override
+            public void storiesMakespan(long makespanInMillis, long idealMakespanInMillis) {
+                makespans.add(makespanInMillis);
+                makespans.add(idealMakespanInMillis);
+            }
+        };
+        ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+        try {
+            StoryManager manager = new StoryManager(configuration, stepsFactory, embedderControls, monitor,
+                    singleThreadExecutor, performableTree);
+            List<Story> stories = asList(new Story("/path/to/short.story"), new Story("/path/to/unknown.story"),
+                    new Story("/path/to/long.story"));
+            manager.runStories(stories, new MetaFilter(), new BatchFailures());
+        } finally {
+            singleThreadExecutor.shutdownNow();
+        }
+        assertThat(runningStories, equalTo(asList("/path/to/long.story", "/path/to/unknown.story",
+                "/path/to/short.story")));
+        assertThat(makespans.size(), is(2));
+        // run by a single thread, the stories cannot be run faster than all their durations one after the other
+        StoryDurations storyDurations = StoryDurations.read(outputDirectory);
+        long idealMakespan = storyDurations.durationInMillis("/path/to/long.story")
+                + storyDurations.durationInMillis("/path/to/unknown.story")
+                + storyDurations.durationInMillis("/path/to/short.story");
+        assertThat(idealMakespan >= 100, is(true));
+        assertThat(makespans.get(1), equalTo(idealMakespan));
+        assertThat(makespans.get(0) >= makespans.get(1), is(true));
+    }
+
+    @Test
+    void shouldMeasureDurationsOfStoriesUntilTheyEndedRatherThanUntilTheyAreHandled() throws IOException {
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.storyReporterBuilder().withRelativeDirectory("durations");
+        EmbedderMonitor monitor = new NullEmbedderMonitor() {
+            @Override
+            public void runningStory(String path) {
+                if (path.equals("/path/to/slow.story")) {
+                    sleep(300);
+                }
+            }
+        };
+        // the stories are run as submitted, all before the first one is handled
+        ExecutorService directExecutor = new DirectExecutorService().create(embedderControls);
+        try {
+            new StoryManager(configuration, stepsFactory, embedderControls, monitor, directExecutor,
+                    new PerformableTree()).runStories(asList(new Story("/path/to/fast.story"),
+                            new Story("/path/to/slow.story")), new MetaFilter(), new BatchFailures());
+        } finally {
+            directExecutor.shutdownNow();
+        }
+        StoryDurations durations = StoryDurations.read(configuration.storyReporterBuilder().outputDirectory());
+        assertThat(durations.durationInMillis("/path/to/fast.story") < 300, is(true));
+        assertThat(durations.durationInMillis("/path/to/slow.story") >= 300, is(true));
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void shouldSkipStoriesUnchangedSinceTheirLastSuccessfulRun() {
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.storyReporterBuilder().withRelativeDirectory("skip-unchanged");
+        new File(configuration.storyReporterBuilder().outputDirectory(), StoryResultCache.STORY_RESULTS).delete();
+        StoryLoader storyLoader = mock(StoryLoader.class);
+        when(storyLoader.loadStoryAsText("/path/to/a.story")).thenReturn("Scenario: a");
+        when(storyLoader.loadStoryAsText("/path/to/b.story")).thenReturn("Scenario: b");
+        configuration.useStoryLoader(storyLoader);
+        embedderControls.doSkipUnchangedStories(true);
+        List<Story> stories = asList(new Story("/path/to/a.story"), new Story("/path/to/b.story"));
+
+        List<String> unchangedStories = new ArrayList<>();
+        assertThat(runStories(configuration, stories, unchangedStories),
+                equalTo(asList("/path/to/a.story", "/path/to/b.story")));
+        assertThat(unchangedStories, empty());
+
+        assertThat(runStories(configuration, stories, unchangedStories), empty());
+        assertThat(unchangedStories, equalTo(asList("/path/to/a.story", "/path/to/b.story")));
+
+        unchangedStories.clear();
+        when(storyLoader.loadStoryAsText("/path/to/b.story")).thenReturn("Scenario: b changed");
+        assertThat(runStories(configuration, stories, unchangedStories), equalTo(asList("/path/to/b.story")));
+        assertThat(unchangedStories, equalTo(asList("/path/to/a.story")));
+    }
+
+    @Test
+    void shouldRerunOnlyStoriesWhichFailedOrWerePending() throws IOException {
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.storyReporterBuilder().withRelativeDirectory("rerun-failed");
+        File outputDirectory = configuration.storyReporterBuilder().outputDirectory();
+        StoryStatuses previousStatuses = new StoryStatuses(new Properties());
+        previousStatuses.statusIs("/path/to/a.story", Status.SUCCESSFUL);
+        previousStatuses.statusIs("/path/to/b.story", Status.FAILED);
+        previousStatuses.statusIs("/path/to/c.story", Status.PENDING);
+        previousStatuses.write(outputDirectory);
+        embedderControls.doRerunFailedStories(true);
+        List<Story> stories = asList(new Story("/path/to/a.story"), new Story("/path/to/b.story"),
+                new Story("/path/to/c.story"), new Story("/path/to/d.story"));
+
+        List<String> skippedStories = new ArrayList<>();
+        assertThat(runStories(configuration, stories, skippedStories),
+                equalTo(asList("/path/to/b.story", "/path/to/c.story", "/path/to/d.story")));
+        assertThat(skippedStories, equalTo(asList("/path/to/a.story")));
+        StoryStatuses storyStatuses = StoryStatuses.read(outputDirectory);
+        assertThat(storyStatuses.status("/path/to/a.story"), equalTo(Status.SUCCESSFUL));
+        assertThat(storyStatuses.status("/path/to/b.story"), equalTo(Status.SUCCESSFUL));
+        assertThat(storyStatuses.status("/path/to/c.story"), equalTo(Status.SUCCESSFUL));
+        assertThat(storyStatuses.status("/path/to/d.story"), equalTo(Status.SUCCESSFUL));
+
+        skippedStories.clear();
+        assertThat(runStories(configuration, stories, skippedStories), empty());
+        assertThat(skippedStories, equalTo(asList("/path/to/a.story", "/path/to/b.story", "/path/to/c.story",
+                "/path/to/d.story")));
+    }
+
+    @Test
+    void shouldRunOnlyStoriesOfShard() throws IOException {
+        Configuration configuration = new MostUsefulConfiguration();
+        configuration.storyReporterBuilder().withRelativeDirectory("shards");
+        Properties durations = new Properties();
+        durations.setProperty("/path/to/a.story", "900");
+        durations.setProperty("/path/to/b.story", "500");
+        durations.setProperty("/path/to/c.story", "400");
+        List<Story> stories = asList(new Story("/path/to/a.story"), new Story("/path/to/b.story"),
+                new Story("/path/to/c.story"));
+        File shardDurations = new File(configuration.storyReporterBuilder().outputDirectory().getParentFile(),
+                "shardDurations.props");
+        writeStoryDurations(shardDurations, durations);
+        embedderControls.useShardCount(2).useShardDurations(shardDurations.getPath());
+
+        // the shards read the same pinned durations, whatever durations the runs write
+        embedderControls.useShardIndex(0);
+        assertThat(runStories(configuration, stories, new ArrayList<>()), equalTo(asList("/path/to/a.story")));
+        Properties rewrittenDurations = new Properties();
+        rewrittenDurations.setProperty("/path/to/a.story", "100");
+        writeStoryDurations(new File(configuration.storyReporterBuilder().outputDirectory(),
+                StoryDurations.STORY_DURATIONS), rewrittenDurations);
+        embedderControls.useShardIndex(1);
+        assertThat(runStories(configuration, stories, new ArrayList<>()),
+                equalTo(asList("/path/to/b.story", "/path/to/c.story")));
+    }
+
+    @Test
+    void shouldFailToRunShardIfShardDurationsCannotBeRead() {
+        Configuration configuration = new MostUsefulConfiguration();
+        List<Story> stories = asList(new Story("/path/to/a.story"), new Story("/path/to/b.story"));
+        embedderControls.useShardCount(2).useShardIndex(0).useShardDurations("target/missing/shardDurations.props");
+
+        assertThrows(StoryDurations.ShardDurationsNotReadable.class,
+                () -> runStories(configuration, stories, new ArrayList<>()));
+    }
+
+    private void writeStoryDurations(File file, Properties durations) throws IOException {
+        file.getParentFile().mkdirs();
+        try (Writer writer = new FileWriter(file)) {
+            durations.store(writer, null);
+        }
+    }
+
+    private List<String> runStories(Configuration configuration, List<Story> stories,
+            List<String> notRunStories) {
+        List<String> runningStories = new ArrayList<>();
+        EmbedderMonitor monitor = new NullEmbedderMonitor() {
+            @Override
+            public void runningStory(String path) {
+                runningStories.add(path);
+            }
+
+            @Override
+            public void storiesUnchanged(List<String> storyPaths) {
+                notRunStories.addAll(storyPaths);
+            }
+
+            @Override
+            public void storiesSkipped(List<String> storyPaths) {
+                notRunStories.addAll(storyPaths);
+            }
+        };
+        ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+        try {
+            new StoryManager(configuration, stepsFactory, embedderControls, monitor, singleThreadExecutor,
+                    new PerformableTree()).runStories(stories, new MetaFilter(), new BatchFailures());
+        } finally {
+            singleThreadExecutor.shutdownNow();
+        }
+        return runningStories;
+    }
+
 }
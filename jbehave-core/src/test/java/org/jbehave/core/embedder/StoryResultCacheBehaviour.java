@@ -0,0 +1,42 @@
+package org.jbehave.core.embedder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+class StoryResultCacheBehaviour {
+
+    @Test
+    void shouldKeepKeysOfSuccessfulStoriesOnly() {
+        StoryResultCache cache = new StoryResultCache(new Properties());
+        cache.storyPerformed("a.story", "key", true);
+        cache.storyPerformed("b.story", "key", false);
+        cache.storyPerformed("c.story", null, true);
+
+        assertThat(cache.isUnchanged("a.story", "key"), is(true));
+        assertThat(cache.isUnchanged("a.story", "other"), is(false));
+        assertThat(cache.isUnchanged("a.story", null), is(false));
+        assertThat(cache.isUnchanged("b.story", "key"), is(false));
+        assertThat(cache.isUnchanged("c.story", null), is(false));
+
+        cache.storyPerformed("a.story", "key", false);
+        assertThat(cache.isUnchanged("a.story", "key"), is(false));
+    }
+
+    @Test
+    void shouldWriteAndReadStoryResultsInOutputDirectory() throws IOException {
+        File outputDirectory = new File("target/story-results");
+        StoryResultCache cache = new StoryResultCache(new Properties());
+        cache.storyPerformed("a.story", "key", true);
+        cache.write(outputDirectory);
+
+        assertThat(StoryResultCache.read(outputDirectory).isUnchanged("a.story", "key"), is(true));
+        assertThat(StoryResultCache.read(new File(outputDirectory, "inexistent")).isUnchanged("a.story", "key"),
+                is(false));
+    }
+}
@@ -0,0 +1,46 @@
+package org.jbehave.core.embedder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Properties;
+
+import org.jbehave.core.embedder.PerformableTree.Status;
+import org.junit.jupiter.api.Test;
+
+class StoryStatusesBehaviour {
+
+    @Test
+    void shouldTellStoriesWhichFailedOrWerePending() {
+        Properties properties = new Properties();
+        properties.setProperty("e.story", "UNKNOWN");
+        StoryStatuses statuses = new StoryStatuses(properties);
+        statuses.statusIs("a.story", Status.SUCCESSFUL);
+        statuses.statusIs("b.story", Status.FAILED);
+        statuses.statusIs("c.story", Status.PENDING);
+        statuses.statusIs("d.story", Status.NOT_PERFORMED);
+
+        assertThat(statuses.isFailedOrPending("a.story"), is(false));
+        assertThat(statuses.isFailedOrPending("b.story"), is(true));
+        assertThat(statuses.isFailedOrPending("c.story"), is(true));
+        assertThat(statuses.isFailedOrPending("d.story"), is(true));
+        assertThat(statuses.status("e.story"), nullValue());
+        assertThat(statuses.status("f.story"), nullValue());
+        assertThat(statuses.isFailedOrPending("f.story"), is(false));
+    }
+
+    @Test
+    void shouldWriteAndReadStoryStatusesInOutputDirectory() throws IOException {
+        File outputDirectory = new File("target/story-statuses");
+        StoryStatuses statuses = new StoryStatuses(new Properties());
+        statuses.statusIs("a.story", Status.FAILED);
+        statuses.write(outputDirectory);
+
+        assertThat(StoryStatuses.read(outputDirectory).status("a.story"), equalTo(Status.FAILED));
+        assertThat(StoryStatuses.read(new File(outputDirectory, "inexistent")).isEmpty(), is(true));
+    }
+}
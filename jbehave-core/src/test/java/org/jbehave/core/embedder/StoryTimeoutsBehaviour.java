@@ -3,6 +3,8 @@ package org.jbehave.core.embedder;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.jbehave.core.embedder.StoryTimeouts.TimeoutParser;
@@ -81,6 +83,34 @@ class StoryTimeoutsBehaviour {
         assertThat(timeouts().withParsers(timeoutParser).getTimeoutInSecs(story), is(1L));
     }
 
+    @Test
+    void shouldParseTimeoutsOnceUntilTheyChange() {
+        TimeoutParser timeoutParser = mock(TimeoutParser.class);
+        when(timeoutParser.isValid(Mockito.anyString())).thenReturn(true);
+        when(timeoutParser.asSeconds("50")).thenReturn(50L);
+        when(timeoutParser.asSeconds("60")).thenReturn(60L);
+        StoryTimeouts timeouts = timeouts().withParsers(timeoutParser);
+        embedderControls.useStoryTimeouts("**/*short*:50");
+        for (int i = 0; i < 3; i++) {
+            when(story.getPath()).thenReturn("/path/to/a_short_" + i + ".story");
+            assertThat(timeouts.getTimeoutInSecs(story), is(50L));
+        }
+        verify(timeoutParser, times(1)).asSeconds("50");
+        embedderControls.useStoryTimeouts("**/*short*:60");
+        assertThat(timeouts.getTimeoutInSecs(story), is(60L));
+    }
+
+    @Test
+    void shouldUseFirstTimeoutWhosePathMatchesInTheGivenOrder() {
+        embedderControls.useStoryTimeouts("**/*short*:50,**/a_*:100,200");
+        when(story.getPath()).thenReturn("/path/to/a_short_and_sweet.story");
+        assertThat(timeouts().getTimeoutInSecs(story), is(50L));
+        when(story.getPath()).thenReturn("/path/to/a_long_and_winding.story");
+        assertThat(timeouts().getTimeoutInSecs(story), is(100L));
+        when(story.getPath()).thenReturn("/path/to/the_end.story");
+        assertThat(timeouts().getTimeoutInSecs(story), is(200L));
+    }
+
     private StoryTimeouts timeouts() {
         return new StoryTimeouts(embedderControls, embedderMonitor);
     }
@@ -1,6 +1,7 @@
 package org.jbehave.core.embedder.executors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 
 import java.util.concurrent.ExecutorService;
@@ -14,6 +15,17 @@ class ExecutorsBehaviour {
     void shouldCreateExecutors() {
         assertThat(new FixedThreadExecutors().create(new EmbedderControls()), instanceOf(ExecutorService.class));
         assertThat(new DirectExecutorService().create(new EmbedderControls()), instanceOf(ExecutorService.class));
+        assertThat(new VirtualThreadExecutors().create(new EmbedderControls()), instanceOf(ExecutorService.class));
+    }
+
+    @Test
+    void shouldRunTasksWithVirtualThreadExecutorsWhetherVirtualThreadsAreAvailableOrNot() throws Exception {
+        ExecutorService executorService = new VirtualThreadExecutors().create(new EmbedderControls());
+        try {
+            assertThat(executorService.submit(() -> "done").get(), equalTo("done"));
+        } finally {
+            executorService.shutdown();
+        }
     }
   
 }
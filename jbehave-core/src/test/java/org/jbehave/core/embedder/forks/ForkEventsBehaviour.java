@@ -0,0 +1,33 @@
+package org.jbehave.core.embedder.forks;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class ForkEventsBehaviour {
+
+    @Test
+    void shouldWriteEventsAsSingleLinesAndReadThemBack() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream events = new PrintStream(output, true, "UTF-8");
+        String trace = "java.lang.AssertionError: expected\ttab\r\n\tat C:\\path\\Steps.java";
+
+        // When
+        ForkEvents.write(events, ForkEvents.STORY_FAILED, "/path/to/a.story", trace);
+        ForkEvents.write(events, ForkEvents.DONE);
+
+        // Then
+        String[] lines = new String(output.toByteArray(), StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertThat(lines.length, equalTo(2));
+        assertThat(ForkEvents.read(lines[0]), equalTo(asList(ForkEvents.STORY_FAILED, "/path/to/a.story", trace)));
+        assertThat(ForkEvents.read(lines[1]), equalTo(asList(ForkEvents.DONE)));
+    }
+
+}
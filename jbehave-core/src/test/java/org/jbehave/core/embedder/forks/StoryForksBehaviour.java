@@ -0,0 +1,198 @@
+package org.jbehave.core.embedder.forks;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.embedder.Embedder;
+import org.jbehave.core.embedder.NullEmbedderMonitor;
+import org.jbehave.core.embedder.PropertyBasedEmbedderControls;
+import org.jbehave.core.embedder.StoryDurations;
+import org.jbehave.core.embedder.forks.StoryForks.ForkFailed;
+import org.jbehave.core.failures.BatchFailures;
+import org.jbehave.core.io.StoryLoader;
+import org.jbehave.core.reporters.Format;
+import org.jbehave.core.reporters.SurefireReporter;
+import org.jbehave.core.steps.InstanceStepsFactory;
+import org.junit.jupiter.api.Test;
+
+class StoryForksBehaviour {
+
+    private static final String RELATIVE_DIRECTORY = "story-forks";
+    private static final String FORWARDED_PROPERTY = "story.forks.forwarded";
+
+    @Test
+    void shouldRunStoriesInForksAndMergeTheirReports() throws IOException {
+        // Given
+        List<String> runningStories = new ArrayList<>();
+        Map<String, Throwable> failures = new HashMap<>();
+        ForkedEmbedder embedder = new ForkedEmbedder();
+        embedder.useEmbedderMonitor(new NullEmbedderMonitor() {
+            @Override
+            public void runningStory(String path) {
+                runningStories.add(path);
+            }
+
+            @Override
+            public void batchFailed(BatchFailures batchFailures) {
+                failures.putAll(batchFailures);
+            }
+        });
+        embedder.embedderControls().useForks(2).doIgnoreFailureInStories(true).doGenerateViewAfterStories(false);
+        File outputDirectory = embedder.configuration().storyReporterBuilder().outputDirectory();
+        FileUtils.deleteDirectory(outputDirectory);
+        FileUtils.writeStringToFile(new File(outputDirectory, StoryDurations.STORY_DURATIONS), "d.story=100",
+                StandardCharsets.ISO_8859_1);
+
+        // When
+        embedder.runStoriesAsPaths(asList("a.story", "b.story", "c.story"));
+
+        // Then
+        assertThat(runningStories, containsInAnyOrder("a.story", "b.story", "c.story"));
+        assertThat(failures.size(), equalTo(1));
+        Map.Entry<String, Throwable> failure = failures.entrySet().iterator().next();
+        assertThat(failure.getKey(), startsWith("c.story"));
+        assertThat(failure.getValue().getMessage(), containsString("Failed in fork-"));
+        assertThat(failure.getValue().getMessage(), containsString("failed step"));
+        for (String story : asList("a", "b", "c")) {
+            assertThat(new File(outputDirectory, story + ".stats").exists(), is(true));
+        }
+        assertThat(StoryDurations.read(outputDirectory).durationInMillis("threads"), equalTo(2L));
+        assertThat(StoryDurations.read(outputDirectory).durationInMillis("d.story"), equalTo(100L));
+        String surefireReport = FileUtils.readFileToString(new File(outputDirectory,
+                "view/" + SurefireReporter.Options.DEFAULT_REPORT_NAME + ".xml"), StandardCharsets.UTF_8);
+        assertThat(surefireReport, containsString("tests=\"3\""));
+        assertThat(surefireReport, containsString("failures=\"1\""));
+    }
+
+    @Test
+    void shouldForwardSystemPropertiesAndControlsToForks() throws IOException {
+        // Given
+        Map<String, Throwable> failures = new HashMap<>();
+        ForkedEmbedder embedder = new ForkedEmbedder();
+        embedder.useEmbedderMonitor(failuresMonitor(failures));
+        Properties systemProperties = new Properties();
+        systemProperties.setProperty(FORWARDED_PROPERTY, "forwarded");
+        embedder.useSystemProperties(systemProperties);
+        embedder.embedderControls().useForks(1).doScheduleLongestStoriesFirst(true).doIgnoreFailureInStories(false)
+                .doGenerateViewAfterStories(false);
+        File outputDirectory = embedder.configuration().storyReporterBuilder().outputDirectory();
+        FileUtils.deleteDirectory(outputDirectory);
+
+        // When
+        try {
+            embedder.runStoriesAsPaths(asList("forwarded.story"));
+        } finally {
+            System.clearProperty(FORWARDED_PROPERTY);
+        }
+
+        // Then
+        assertThat(failures.isEmpty(), is(true));
+        String surefireReport = FileUtils.readFileToString(new File(outputDirectory,
+                "view/" + SurefireReporter.Options.DEFAULT_REPORT_NAME + ".xml"), StandardCharsets.UTF_8);
+        assertThat(surefireReport, containsString("tests=\"1\""));
+        assertThat(surefireReport, containsString("failures=\"0\""));
+    }
+
+    @Test
+    void shouldFailForkWhichDoesNotRunAllItsStories() {
+        // Given
+        Map<String, Throwable> failures = new HashMap<>();
+        ForkedEmbedder embedder = new ForkedEmbedder();
+        embedder.useEmbedderMonitor(failuresMonitor(failures));
+        embedder.useForkedEmbedderClass(FailingForkedEmbedder.class.getName());
+        embedder.embedderControls().useForks(1).doIgnoreFailureInStories(true).doGenerateViewAfterStories(false);
+
+        // When
+        embedder.runStoriesAsPaths(asList("a.story"));
+
+        // Then
+        assertThat(failures.get("fork-0"), instanceOf(ForkFailed.class));
+        assertThat(failures.get("fork-0").getMessage(), containsString("exited with value 1"));
+    }
+
+    private NullEmbedderMonitor failuresMonitor(Map<String, Throwable> failures) {
+        return new NullEmbedderMonitor() {
+            @Override
+            public void storyFailed(String path, Throwable cause) {
+                failures.put(path, cause);
+            }
+
+            @Override
+            public void batchFailed(BatchFailures batchFailures) {
+                failures.putAll(batchFailures);
+            }
+        };
+    }
+
+    public static class ForkedEmbedder extends Embedder {
+
+        public ForkedEmbedder() {
+            Configuration configuration = new MostUsefulConfiguration().useStoryLoader(new StoriesLoader());
+            configuration.storyReporterBuilder().withRelativeDirectory(RELATIVE_DIRECTORY)
+                    .withFormats(Format.STATS).withSurefireReporter(new SurefireReporter(ForkedEmbedder.class));
+            useConfiguration(configuration);
+            useStepsFactory(new InstanceStepsFactory(configuration, new ForkedSteps()));
+        }
+    }
+
+    public static class FailingForkedEmbedder extends ForkedEmbedder {
+
+        @Override
+        public void runStoriesAsPaths(List<String> storyPaths) {
+            throw new IllegalStateException("stories not run");
+        }
+    }
+
+    public static class ForkedSteps {
+
+        @Given("a passing step")
+        public void passingStep() {
+        }
+
+        @Given("a failing step")
+        public void failingStep() {
+            throw new AssertionError("failed step");
+        }
+
+        @Given("the forwarded properties")
+        public void forwardedProperties() {
+            assertThat(System.getProperty(FORWARDED_PROPERTY), equalTo("forwarded"));
+            assertThat(System.getProperty(PropertyBasedEmbedderControls.SCHEDULE_LONGEST_STORIES_FIRST),
+                    equalTo("true"));
+        }
+    }
+
+    private static class StoriesLoader implements StoryLoader {
+
+        @Override
+        public String loadStoryAsText(String storyPath) {
+            String step = storyPath.equals("c.story") ? "a failing step"
+                    : storyPath.equals("forwarded.story") ? "the forwarded properties" : "a passing step";
+            return "Scenario: " + storyPath + "\nGiven " + step;
+        }
+
+        @Override
+        public String loadResourceAsText(String resourcePath) {
+            return loadStoryAsText(resourcePath);
+        }
+    }
+}
@@ -23,6 +23,23 @@ class StoryDurationBehaviour {
         assertThat(duration.update().timedOut(), is(false));
     }
 
+    @Test
+    void shouldComputeTimeLeftUntilTimeout() {
+        long startedAtMillis = System.currentTimeMillis() - 1500;
+        StoryDuration duration = new StoryDuration(startedAtMillis, 40);
+        assertThat(duration.millisUntilTimedOut() > 39000 && duration.millisUntilTimedOut() <= 39500, is(true));
+        assertThat(duration.millisUntilCancelTimedOut() > 41000 && duration.millisUntilCancelTimedOut() <= 41500,
+                is(true));
+        StoryDuration timedOut = new StoryDuration(startedAtMillis - 60000, 40);
+        assertThat(timedOut.millisUntilTimedOut(), is(0L));
+        assertThat(timedOut.millisUntilCancelTimedOut(), is(0L));
+    }
+
+    @Test
+    void shouldCancelImmediatelyStoriesWithShortTimeouts() {
+        assertThat(new StoryDuration(10).millisUntilCancelTimedOut(), is(0L));
+    }
+
     private void sleep(int secs) throws InterruptedException {
         TimeUnit.SECONDS.sleep(secs);
     }
@@ -0,0 +1,89 @@
+package org.jbehave.core.parsers;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.jbehave.core.steps.StepType;
+import org.junit.jupiter.api.Test;
+
+class StepPatternsAutomatonBehaviour {
+
+    private final StepPatternParser parser = new RegexPrefixCapturingPatternParser();
+
+    private final List<StepMatcher> stepMatchers = asList(
+            parser.parseStep(StepType.GIVEN, "a house with $doors doors and $windows windows"),
+            parser.parseStep(StepType.GIVEN, "$customer has previously bought a $product"),
+            parser.parseStep(StepType.GIVEN, "$number houses"),
+            parser.parseStep(StepType.GIVEN, "my house"),
+            parser.parseStep(StepType.GIVEN, "I toggle the cell at ( $column , $row )"),
+            parser.parseStep(StepType.GIVEN, "$anything"));
+
+    private final StepPatternsAutomaton automaton = new StepPatternsAutomaton(stepMatchers);
+
+    @Test
+    void shouldReturnOnlyStepMatchersWhoseSegmentsAreFoundInStep() {
+        assertThat(automaton.candidatesFor("a house with 3 doors and 4 windows"), equalTo(asList(0, 5)));
+        assertThat(automaton.candidatesFor("Fred has previously bought a pizza"), equalTo(asList(1, 5)));
+        assertThat(automaton.candidatesFor("5 houses"), equalTo(asList(2, 5)));
+        assertThat(automaton.candidatesFor("my house"), equalTo(asList(3, 5)));
+        assertThat(automaton.candidatesFor("I toggle the cell at ( 3 , 4 )"), equalTo(asList(4, 5)));
+    }
+
+    @Test
+    void shouldFilterOutStepMatchersWhoseInnerSegmentsAreMissing() {
+        assertThat(automaton.candidatesFor("a house with 3 doors"), equalTo(asList(5)));
+        assertThat(automaton.candidatesFor("Fred has bought a pizza"), equalTo(asList(5)));
+    }
+
+    @Test
+    void shouldNormaliseWhitespaceInSteps() {
+        assertThat(automaton.candidatesFor("a  house\twith 3\ndoors and 4   windows"), equalTo(asList(0, 5)));
+        assertThat(automaton.candidatesFor("my \t house"), equalTo(asList(3, 5)));
+    }
+
+    @Test
+    void shouldAlwaysReturnStepMatchersWithoutDerivableSegments() {
+        StepMatcher custom = new RegexStepMatcher(StepType.GIVEN, "a (big|small) house",
+                Pattern.compile("a (big|small) house"), new String[0]);
+        StepMatcher caseInsensitive = new RegexStepMatcher(StepType.GIVEN, "my house",
+                Pattern.compile("my house", Pattern.CASE_INSENSITIVE), new String[0]);
+        StepPatternsAutomaton automaton = new StepPatternsAutomaton(asList(custom, caseInsensitive,
+                parser.parseStep(StepType.GIVEN, "my house")));
+        assertThat(automaton.candidatesFor("MY HOUSE"), equalTo(asList(0, 1)));
+        assertThat(automaton.candidatesFor("no house"), equalTo(asList(0, 1)));
+    }
+
+    @Test
+    void shouldOnlyUseLiteralsPrecedingUnsupportedConstructs() {
+        StepMatcher optional = new RegexStepMatcher(StepType.GIVEN, "a house",
+                Pattern.compile("a\\s+(.*)\\s+houses?\\s+with\\s+\\d+\\s+doors"), new String[0]);
+        StepPatternsAutomaton automaton = new StepPatternsAutomaton(asList(optional));
+        assertThat(automaton.candidatesFor("a big house with 3 doors"), equalTo(asList(0)));
+        assertThat(automaton.candidatesFor("a big house"), equalTo(asList(0)));
+        assertThat(automaton.candidatesFor("a big flat"), empty());
+    }
+
+    @Test
+    void shouldNeverFilterOutMatchingStepMatchers() {
+        List<String> steps = asList("a house with 3 doors and 4 windows", "a house with doors and windows",
+                "Fred has previously bought a pizza", "has previously bought a ", "5 houses", " houses", "my house",
+                "I toggle the cell at ( 3 , 4 )", "I toggle the cell at ( , )", "");
+        for (String step : steps) {
+            List<Integer> candidates = automaton.candidatesFor(step);
+            List<Integer> matching = stepMatchers.stream()
+                    .filter(stepMatcher -> stepMatcher.matcher(step).matches())
+                    .map(stepMatchers::indexOf)
+                    .collect(Collectors.toList());
+            for (Integer position : matching) {
+                assertThat(step, candidates, hasItem(position));
+            }
+        }
+    }
+}
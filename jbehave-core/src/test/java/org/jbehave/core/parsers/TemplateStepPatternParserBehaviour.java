@@ -0,0 +1,87 @@
+package org.jbehave.core.parsers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.regex.Matcher;
+
+import org.jbehave.core.steps.CapturedMatch;
+import org.jbehave.core.steps.StepType;
+import org.junit.jupiter.api.Test;
+
+class TemplateStepPatternParserBehaviour {
+
+    private final StepPatternParser parser = new TemplateStepPatternParser();
+
+    @Test
+    void shouldCreateTemplateStepMatchersForPatternsWithLiteralsAndParameters() {
+        assertThat(parser.parseStep(StepType.GIVEN, "a house with $doors doors"),
+                instanceOf(TemplateStepMatcher.class));
+        assertThat(parser.parseStep(StepType.GIVEN, "a hotel with $number * (or more)"),
+                instanceOf(TemplateStepMatcher.class));
+        assertThat(parser.parseStep(StepType.GIVEN, "my house"), instanceOf(TemplateStepMatcher.class));
+    }
+
+    @Test
+    void shouldFallBackToRegexStepMatchersForPatternsNeedingRegex() {
+        StepMatcher stepMatcher = parser.parseStep(StepType.GIVEN, "a big|small house");
+        assertThat(stepMatcher, not(instanceOf(TemplateStepMatcher.class)));
+        assertThat(stepMatcher.match("a big"), notNullValue());
+        assertThat(stepMatcher.match("small house"), notNullValue());
+    }
+
+    @Test
+    void shouldCaptureSameParameterValuesAsRegex() {
+        assertSameMatchAsRegex("a house with $doors doors and $windows windows", "a house with 3 doors and 4 windows");
+        assertSameMatchAsRegex("$number houses", "5 houses");
+        assertSameMatchAsRegex("my house", "my house");
+        assertSameMatchAsRegex("I toggle the cell at ( $column , $row )", "I toggle the cell at ( 3 , 4 )");
+        assertSameMatchAsRegex("$name should ask, \"Why?\"", "Fred should ask, \"Why?\"");
+        assertSameMatchAsRegex("$thousands x 10^3", "2 x 10^3");
+        assertSameMatchAsRegex("a hotel with $number *", "a hotel with 5 *");
+        assertSameMatchAsRegex("$a and $b", "1 and 2 and 3 and 4");
+        assertSameMatchAsRegex("$a and $b and $c", "1 and 2 and 3 and 4");
+        assertSameMatchAsRegex("$a $b", "1  2 3");
+        assertSameMatchAsRegex("the grid should look like $grid", "the grid should look like\n.....\n..X..\n");
+    }
+
+    @Test
+    void shouldCaptureSameParameterValuesAsRegexWithWhitespaceSequences() {
+        assertSameMatchAsRegex("a $x b", "a  x  b");
+        assertSameMatchAsRegex("a $x b", "a \t x \n b");
+        assertSameMatchAsRegex("a $x b", "a b b");
+        assertSameMatchAsRegex("a $x", "a   ");
+        assertSameMatchAsRegex("$x b", "  b");
+        assertSameMatchAsRegex("my    house", "my \t house");
+    }
+
+    @Test
+    void shouldNotMatchStepsNotMatchedByRegex() {
+        assertSameMatchAsRegex("a house with $doors doors", "a house with 3 doors and 4 windows");
+        assertSameMatchAsRegex("a house with $doors doors", "a house with 3doors");
+        assertSameMatchAsRegex("my house", "my  house ");
+        assertSameMatchAsRegex("my house", "myhouse");
+        assertSameMatchAsRegex("$a and $b", "1 and");
+        assertSameMatchAsRegex("a $x b", "a b");
+    }
+
+    private void assertSameMatchAsRegex(String pattern, String step) {
+        StepMatcher stepMatcher = parser.parseStep(StepType.GIVEN, pattern);
+        assertThat(stepMatcher, instanceOf(TemplateStepMatcher.class));
+        Matcher matcher = stepMatcher.matcher(step);
+        CapturedMatch match = stepMatcher.match(step);
+        if (!matcher.matches()) {
+            assertThat(match, is(nullValue()));
+            return;
+        }
+        assertThat(match, is(notNullValue()));
+        for (int group = 1; group <= matcher.groupCount(); group++) {
+            assertThat(match.group(group), equalTo(matcher.group(group)));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.jbehave.core.reporters;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.SchemaFactory;
+
+import org.apache.commons.io.FileUtils;
+import org.jbehave.core.embedder.StoryDurations;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+
+class ReportsMergerBehaviour {
+
+    private final File directory = new File("target/reports-merger");
+
+    @Test
+    void shouldMergeReportsOfOutputDirectories() throws IOException, SAXException {
+        // Given
+        FileUtils.deleteDirectory(directory);
+        File shard0 = new File(directory, "shard-0");
+        write(shard0, "a.html", "<div>a</div>");
+        write(shard0, "a.stats", "scenarios=1");
+        write(shard0, "BeforeStories.stats", "scenarios=0");
+        write(shard0, StoryDurations.STORY_DURATIONS, "a.story=300\ntotal=300\nthreads=2\nthreadAverage=150");
+        write(shard0, "view/style/jbehave-core.css", "body {}");
+        write(shard0, "view/index.html", "<html>shard 0</html>");
+        write(shard0, "view/jbehave-surefire.xml", testsuite(2, 1, 1.5,
+                "<testcase name=\"a1\" classname=\"A\" time=\"1\"></testcase>"
+                + "<testcase name=\"a2\" classname=\"A\" time=\"0.5\"><failure message=\"m\" type=\"t\">trace"
+                + "</failure></testcase>"));
+        File shard1 = new File(directory, "shard-1");
+        write(shard1, "b.html", "<div>b</div>");
+        write(shard1, "b.stats", "scenarios=2");
+        write(shard1, StoryDurations.STORY_DURATIONS, "b.story=500\ntotal=500\nthreads=1\nthreadAverage=500");
+        write(shard1, "view/jbehave-surefire.xml", testsuite(1, 0, 0.25,
+                "<testcase name=\"b1\" classname=\"B\" time=\"0.25\"></testcase>"));
+        File merged = new File(directory, "merged");
+
+        // When
+        new ReportsMerger().merge(asList(shard0, shard1, new File(directory, "inexistent")), merged);
+
+        // Then
+        assertThat(read(merged, "a.html"), equalTo("<div>a</div>"));
+        assertThat(read(merged, "a.stats"), equalTo("scenarios=1"));
+        assertThat(read(merged, "b.html"), equalTo("<div>b</div>"));
+        assertThat(read(merged, "b.stats"), equalTo("scenarios=2"));
+        assertThat(read(merged, "BeforeStories.stats"), equalTo("scenarios=0"));
+        assertThat(read(merged, "view/style/jbehave-core.css"), equalTo("body {}"));
+        assertThat(new File(merged, "view/index.html").exists(), is(false));
+        Properties durations = new Properties();
+        try (Reader reader = Files.newBufferedReader(new File(merged, StoryDurations.STORY_DURATIONS).toPath())) {
+            durations.load(reader);
+        }
+        assertThat(durations.getProperty("a.story"), equalTo("300"));
+        assertThat(durations.getProperty("b.story"), equalTo("500"));
+        assertThat(durations.getProperty("total"), equalTo("800"));
+        assertThat(durations.getProperty("threads"), equalTo("3"));
+        assertThat(durations.getProperty("threadAverage"), equalTo("266"));
+        File surefire = new File(merged, "view/jbehave-surefire.xml");
+        String surefireReport = read(merged, "view/jbehave-surefire.xml");
+        assertThat(surefireReport, containsString("tests=\"3\""));
+        assertThat(surefireReport, containsString("failures=\"1\""));
+        assertThat(surefireReport, containsString("time=\"1.75\""));
+        assertThat(surefireReport, containsString("name=\"a2\""));
+        assertThat(surefireReport, containsString("<failure message=\"m\" type=\"t\">trace</failure>"));
+        assertThat(surefireReport, containsString("name=\"b1\""));
+        SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
+                .newSchema(new StreamSource(getClass().getClassLoader()
+                        .getResourceAsStream("xsd/surefire-test-report.xsd")))
+                .newValidator().validate(new StreamSource(surefire));
+    }
+
+    @Test
+    void shouldMergeReportsIntoOneOfOutputDirectories() throws IOException {
+        // Given
+        FileUtils.deleteDirectory(directory);
+        File shard0 = new File(directory, "shard-0");
+        write(shard0, "a.stats", "scenarios=1");
+        write(shard0, "view/jbehave-surefire.xml", testsuite(1, 0, 1,
+                "<testcase name=\"a1\" classname=\"A\" time=\"1\"></testcase>"));
+        File shard1 = new File(directory, "shard-1");
+        write(shard1, "b.stats", "scenarios=2");
+        write(shard1, "view/jbehave-surefire.xml", testsuite(1, 0, 1,
+                "<testcase name=\"b1\" classname=\"B\" time=\"1\"></testcase>"));
+
+        // When
+        new ReportsMerger().merge(asList(shard0, shard1), shard0);
+
+        // Then
+        assertThat(read(shard0, "a.stats"), equalTo("scenarios=1"));
+        assertThat(read(shard0, "b.stats"), equalTo("scenarios=2"));
+        assertThat(read(shard0, "view/jbehave-surefire.xml"), containsString("tests=\"2\""));
+    }
+
+    @Test
+    void shouldKeepPropertiesOfStoriesNotRunInMergedDirectory() throws IOException {
+        // Given
+        FileUtils.deleteDirectory(directory);
+        File merged = new File(directory, "merged");
+        write(merged, StoryDurations.STORY_DURATIONS, "a.story=300\nb.story=400\ntotal=700\nthreads=1"
+                + "\nthreadAverage=700");
+        write(merged, "storyStatuses.props", "a.story=SUCCESSFUL\nb.story=FAILED");
+        File fork0 = new File(directory, "fork-0");
+        write(fork0, StoryDurations.STORY_DURATIONS, "b.story=200\ntotal=200\nthreads=1\nthreadAverage=200");
+        write(fork0, "storyStatuses.props", "b.story=SUCCESSFUL");
+
+        // When
+        new ReportsMerger().merge(asList(fork0), merged);
+
+        // Then
+        Properties durations = new Properties();
+        try (Reader reader = Files.newBufferedReader(new File(merged, StoryDurations.STORY_DURATIONS).toPath())) {
+            durations.load(reader);
+        }
+        assertThat(durations.getProperty("a.story"), equalTo("300"));
+        assertThat(durations.getProperty("b.story"), equalTo("200"));
+        assertThat(durations.getProperty("total"), equalTo("200"));
+        assertThat(durations.getProperty("threads"), equalTo("1"));
+        String statuses = read(merged, "storyStatuses.props");
+        assertThat(statuses, containsString("a.story=SUCCESSFUL"));
+        assertThat(statuses, containsString("b.story=SUCCESSFUL"));
+    }
+
+    private String testsuite(int tests, int failures, double time, String testcases) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<testsuite xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" name=\"Stories\""
+                + " time=\"" + time + "\" tests=\"" + tests + "\" errors=\"0\" skipped=\"0\" failures=\"" + failures
+                + "\">\n<properties>\n<property name=\"p\" value=\"v\"/>\n</properties>\n" + testcases
+                + "\n</testsuite>";
+    }
+
+    private void write(File outputDirectory, String name, String content) throws IOException {
+        File file = new File(outputDirectory, name);
+        file.getParentFile().mkdirs();
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write(content);
+        }
+    }
+
+    private String read(File outputDirectory, String name) throws IOException {
+        return FileUtils.readFileToString(new File(outputDirectory, name), StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,9 @@
 package org.jbehave.core.reporters;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 
 import java.io.File;
 import java.io.FileReader;
@@ -9,8 +11,10 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.jbehave.core.embedder.MatchingStepMonitor.StepMatch;
 import org.jbehave.core.embedder.PerformableTree.NormalPerformableScenario;
@@ -71,6 +75,44 @@ class SurefireReporterBehaviour {
         assertThat(output(outputDirectory, outputPath), equalTo(resource(outputPath)));
     }
 
+    @Test
+    void shouldKeepTestCasesOfStoriesNotRunAgainFromPreviousReport() throws Exception {
+
+        // Given
+        String reportName = "surefire-rerun";
+        SurefireReporter.Options options = new SurefireReporter.Options().useReportName(reportName).doIncludeProperties(
+                false);
+        SurefireReporter reporter = new SurefireReporter(this.getClass(), options);
+        File outputDirectory = new File("target");
+        String className = this.getClass().getName();
+        FileUtils.writeStringToFile(new File(outputDirectory, "view/" + reportName + ".xml"),
+                "<testsuite name=\"" + className + "\" time=\"1.5\" tests=\"3\" errors=\"0\" skipped=\"0\""
+                + " failures=\"2\"><properties/>"
+                + "<testcase name=\"an_interesting.title\" classname=\"" + className + "\" time=\"0.5\">"
+                + "<failure message=\"failed\" type=\"java.lang.AssertionError\">at a &lt;step&gt;</failure>"
+                + "</testcase>"
+                + "<testcase name=\"a_skipped.title\" classname=\"" + className + "\" time=\"0.25\">"
+                + "<failure message=\"x &lt; y\" type=\"java.lang.AssertionError\">at a step</failure>"
+                + "</testcase>"
+                + "<testcase name=\"a_removed.title\" classname=\"" + className + "\" time=\"0.75\"/>"
+                + "</testsuite>", StandardCharsets.UTF_8);
+        Story skippedStory = new Story("/path/to/a_skipped.story",
+                Collections.singletonList(new Scenario("title", Collections.emptyList())));
+
+        // When
+        reporter.generate(performableRoot(), Collections.singletonList(skippedStory), outputDirectory);
+
+        // Then
+        String output = output(outputDirectory, reportName + ".xml");
+        assertThat(output, containsString("tests=\"2\" errors=\"0\" skipped=\"1\" failures=\"1\""));
+        assertThat(output, containsString("<testcase name=\"an_interesting.title\" classname=\"" + className
+                + "\" time=\"0\"></testcase>"));
+        assertThat(output, containsString("<testcase name=\"a_skipped.title\" classname=\"" + className
+                + "\" time=\"0.25\"><failure message=\"x &lt; y\" type=\"java.lang.AssertionError\">at a step"
+                + "</failure></testcase>"));
+        assertThat(output, not(containsString("a_removed")));
+    }
+
     private String resource(String name) throws IOException {
         return IOUtils.toString(getClass().getResource(name), StandardCharsets.UTF_8).replaceAll("(?:\\n|\\r)", "");
     }
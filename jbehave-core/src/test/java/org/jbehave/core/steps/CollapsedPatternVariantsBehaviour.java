@@ -0,0 +1,108 @@
+package org.jbehave.core.steps;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Matcher;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
+import org.jbehave.core.parsers.StepMatcher;
+import org.jbehave.core.reporters.StoryReporter;
+import org.junit.jupiter.api.Test;
+
+class CollapsedPatternVariantsBehaviour {
+
+    private final RegexPrefixCapturingPatternParser parser = new RegexPrefixCapturingPatternParser();
+
+    @Test
+    void shouldCollapseVariantsIntoAlternations() {
+        StepMatcher stepMatcher = collapse("the {user|customer} has $n {item|items}");
+        assertThat(stepMatcher.matcher("").pattern().pattern(),
+                equalTo("the(?:\\s+user\\s+|\\s+customer\\s+)has\\s+(.*)(?:\\s+item|\\s+items)"));
+        assertThat(stepMatcher.parameterNames(), equalTo(new String[] { "n" }));
+        assertThat(stepMatcher.pattern().annotated(), equalTo("the {user|customer} has $n {item|items}"));
+    }
+
+    @Test
+    void shouldMatchSameStepsAsVariants() {
+        List<String> steps = asList("the user has 1 item", "the customer has 2 items", "the  customer\thas 3 items",
+                "the client has 2 items", "the user has 2 items", "the result must be 42", "the result be 42",
+                "the result  be 42", "the resultbe 42", "42 + 23", "42 plus 23", "42 is added to 23", "42  23",
+                "a b c", "a c", "a  c", "ac", "b c", " b c", "c", " c");
+        assertSameMatchesAsVariants("the {user|customer} has $n {item|items}", steps);
+        assertSameMatchesAsVariants("the result {must |has to |}be $x", steps);
+        assertSameMatchesAsVariants("$A {+|plus|is added to} $B", steps);
+        assertSameMatchesAsVariants("a {b|} c", steps);
+        assertSameMatchesAsVariants("{a|} b {c|}", steps);
+        assertSameMatchesAsVariants("{a|} b c", steps);
+    }
+
+    @Test
+    void shouldNotCollapseVariantsWhichCannotBeMatchedByAlternations() {
+        assertThat(collapse("no variants"), is(nullValue()));
+        assertThat(collapse("a {$x|none} b"), is(nullValue()));
+        assertThat(collapse("a {b|} {c|} d"), is(nullValue()));
+        assertThat(collapse("{a |}{b|} c"), is(nullValue()));
+        assertThat(collapse("a $n{|s}"), is(nullValue()));
+        assertThat(collapse("a|b {c|d}"), is(nullValue()));
+    }
+
+    @Test
+    void shouldListSingleCandidateForCollapsedVariants() {
+        MostUsefulConfiguration configuration = new MostUsefulConfiguration();
+        configuration.setPatternVariantsCollapsed(true);
+        VariantSteps steps = new VariantSteps();
+        List<StepCandidate> candidates = new Steps(configuration, steps).listCandidates();
+        assertThat(candidates.size(), equalTo(1));
+        StepCandidate candidate = candidates.get(0);
+        assertThat(new Stepdoc(candidate).getPattern(), equalTo("the {user|customer} has $n {item|items}"));
+        assertThat(candidate.matches("Given the customer has 3 items"), is(true));
+        candidate.createMatchedStep("Given the customer has 3 items", new HashMap<>(), Collections.emptyList())
+                .perform(mock(StoryReporter.class), null);
+        assertThat(steps.items, equalTo(3));
+    }
+
+    private StepMatcher collapse(String pattern) {
+        return CollapsedPatternVariants.stepMatcher(parser, StepType.GIVEN, new PatternVariantBuilder(pattern));
+    }
+
+    private void assertSameMatchesAsVariants(String pattern, List<String> steps) {
+        StepMatcher collapsed = collapse(pattern);
+        assertThat(pattern, collapsed, is(notNullValue()));
+        for (String step : steps) {
+            Matcher matcher = collapsed.matcher(step);
+            boolean matches = matcher.matches();
+            Matcher variantMatcher = new PatternVariantBuilder(pattern).allVariants().stream()
+                    .map(variant -> parser.parseStep(StepType.GIVEN, variant).matcher(step))
+                    .filter(Matcher::matches)
+                    .findFirst()
+                    .orElse(null);
+            assertThat(pattern + " / " + step, matches, equalTo(variantMatcher != null));
+            if (matches) {
+                for (int group = 1; group <= matcher.groupCount(); group++) {
+                    assertThat(pattern + " / " + step, matcher.group(group), equalTo(variantMatcher.group(group)));
+                }
+            }
+        }
+    }
+
+    public static class VariantSteps {
+
+        private int items;
+
+        @Given("the {user|customer} has $n {item|items}")
+        public void hasItems(int n) {
+            this.items = n;
+        }
+    }
+}
@@ -4,11 +4,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.jbehave.core.steps.StepCandidateBehaviour.candidateMatchingStep;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
@@ -84,6 +86,56 @@ class CompositeCandidateStepsBehaviour {
         assertThat(steps.added, equalTo("ticket"));
     }
 
+    @Test
+    void shouldCreateComposedStepsFromPlanWithoutMatchingCandidatesAgain() {
+        SimpleSteps steps = new SimpleSteps();
+        List<StepCandidate> candidates = new ArrayList<>();
+        candidates.addAll(steps.listCandidates());
+        candidates.addAll(new SimpleCompositeSteps().listCandidates());
+        StepCandidate candidate = candidateMatchingStep(candidates, "Given $customer has previously bought a $product");
+        candidate.planComposedSteps(candidates);
+        StepMonitor monitor = mock(StepMonitor.class);
+        candidates.forEach(c -> c.useStepMonitor(monitor));
+        List<Step> composedSteps = new ArrayList<>();
+        List<StepCandidate> prioritisedCandidates = new ArrayList<>(candidates);
+        Collections.reverse(prioritisedCandidates);
+        candidate.addComposedSteps(composedSteps, "Given Mr Jones has previously bought a ticket", new HashMap<>(),
+                prioritisedCandidates, null);
+        assertThat(composedSteps.size(), equalTo(2));
+        for (Step step : composedSteps) {
+            step.perform(mock(StoryReporter.class), null);
+        }
+        assertThat(steps.loggedIn, equalTo("Mr Jones"));
+        assertThat(steps.added, equalTo("ticket"));
+        verify(monitor).stepMatchesPattern(eq("Given <customer> is logged in"), eq(true), any(), any(), any());
+        verify(monitor).stepMatchesPattern(eq("When a <product> is added to the cart"), eq(true), any(), any(),
+                any());
+        verify(monitor, never()).stepMatchesPattern(any(), eq(false), any(), any(), any());
+    }
+
+    @Test
+    void shouldNotCreateComposedStepsFromPlanIfCandidateHasBeenReplaced() {
+        SimpleSteps steps = new SimpleSteps();
+        List<StepCandidate> candidates = new ArrayList<>();
+        candidates.addAll(steps.listCandidates());
+        candidates.addAll(new SimpleCompositeSteps().listCandidates());
+        StepCandidate candidate = candidateMatchingStep(candidates, "Given $customer has previously bought a $product");
+        candidate.planComposedSteps(candidates);
+        SimpleSteps otherSteps = new SimpleSteps();
+        StepCandidate replaced = candidateMatchingStep(candidates, "Given <customer> is logged in");
+        candidates.set(candidates.indexOf(replaced),
+                candidateMatchingStep(otherSteps.listCandidates(), "Given <customer> is logged in"));
+        List<Step> composedSteps = new ArrayList<>();
+        candidate.addComposedSteps(composedSteps, "Given Mr Jones has previously bought a ticket", new HashMap<>(),
+                candidates, null);
+        for (Step step : composedSteps) {
+            step.perform(mock(StoryReporter.class), null);
+        }
+        assertThat(otherSteps.loggedIn, equalTo("Mr Jones"));
+        assertThat(steps.loggedIn, nullValue());
+        assertThat(steps.added, equalTo("ticket"));
+    }
+
     static class SimpleSteps extends Steps {
 
         private String loggedIn;
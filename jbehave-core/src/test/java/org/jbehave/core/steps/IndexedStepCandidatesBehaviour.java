@@ -0,0 +1,118 @@
+package org.jbehave.core.steps;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.reporters.StoryReporter;
+import org.jbehave.core.steps.AbstractStepResult.Comment;
+import org.jbehave.core.steps.AbstractStepResult.Ignorable;
+import org.junit.jupiter.api.Test;
+
+class IndexedStepCandidatesBehaviour {
+
+    private final IndexedStepCandidates candidates = new IndexedStepCandidates(
+            new InstanceStepsFactory(new MostUsefulConfiguration(), new IndexedSteps()).createCandidateSteps().get(0)
+                    .listCandidates());
+
+    @Test
+    void shouldReturnOnlyCandidatesWhosePrefixMatchesTheStep() {
+        assertThat(patternsFor("Given a user named Bob", null),
+                equalTo(inListOrder("a user named $name", "a user $description", "$anything")));
+        assertThat(patternsFor("Given an order of 3 items", null),
+                equalTo(inListOrder("an order of $count items", "$anything")));
+        assertThat(patternsFor("When the user logs in", null), equalTo(inListOrder("the user logs in")));
+        assertThat(patternsFor("Then an unknown step", null), empty());
+    }
+
+    @Test
+    void shouldNormaliseWhitespaceInSteps() {
+        assertThat(patternsFor("Given a \t user\nnamed Bob", null),
+                equalTo(inListOrder("a user named $name", "a user $description", "$anything")));
+    }
+
+    @Test
+    void shouldReturnCandidatesOfPreviousStepTypeForAndSteps() {
+        assertThat(patternsFor("And the user logs in", "When the user logs in"),
+                equalTo(inListOrder("the user logs in")));
+        assertThat(patternsFor("And the user logs in", "Given a user named Bob"), equalTo(inListOrder("$anything")));
+        assertThat(patternsFor("And the user logs in", null), empty());
+    }
+
+    @Test
+    void shouldReturnCandidatesForStepsEqualToPattern() {
+        assertThat(patternsFor("Then the total is 5.0 (or more)", null),
+                equalTo(inListOrder("the total is 5.0 (or more)")));
+    }
+
+    @Test
+    void shouldReturnNoCandidateButIgnorableStepForIgnorableStepsAndComments() {
+        assertThat(candidates.candidatesFor("!-- Given a user named Bob", null), empty());
+        StoryReporter storyReporter = mock(StoryReporter.class);
+        assertThat(candidates.ignorableStep("!-- Given a user named Bob").perform(storyReporter, null),
+                instanceOf(Ignorable.class));
+        assertThat(candidates.ignorableStep("!-- a comment").perform(storyReporter, null), instanceOf(Comment.class));
+        assertThat(candidates.ignorableStep("Given a user named Bob"), nullValue());
+        assertThat(new IndexedStepCandidates(new ArrayList<>()).ignorableStep("!-- a comment"), nullValue());
+    }
+
+    @Test
+    void shouldReturnAllCandidatesOnceModified() {
+        candidates.sort(Comparator.comparing(StepCandidate::getPatternAsString));
+        assertThat(candidates.candidatesFor("Then an unknown step", null), hasSize(candidates.size()));
+    }
+
+    private List<String> patternsFor(String stepAsString, String previousNonAndStep) {
+        return candidates.candidatesFor(stepAsString, previousNonAndStep).stream()
+                .map(StepCandidate::getPatternAsString)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> inListOrder(String... patterns) {
+        return candidates.stream()
+                .map(StepCandidate::getPatternAsString)
+                .filter(asList(patterns)::contains)
+                .collect(Collectors.toList());
+    }
+
+    static class IndexedSteps {
+
+        @Given("a user named $name")
+        public void givenUserNamed(String name) {
+        }
+
+        @Given("an order of $count items")
+        public void givenOrder(int count) {
+        }
+
+        @Given("a user $description")
+        public void givenUser(String description) {
+        }
+
+        @Given("$anything")
+        public void givenAnything(String anything) {
+        }
+
+        @When("the user logs in")
+        public void whenUserLogsIn() {
+        }
+
+        @Then("the total is 5.0 (or more)")
+        public void thenTotal() {
+        }
+    }
+}
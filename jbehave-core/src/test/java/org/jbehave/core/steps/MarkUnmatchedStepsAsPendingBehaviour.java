@@ -8,9 +8,14 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.jbehave.core.steps.JBehaveMatchers.step;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -25,9 +30,14 @@ import org.jbehave.core.annotations.AfterScenario.Outcome;
 import org.jbehave.core.annotations.AfterStory;
 import org.jbehave.core.annotations.BeforeScenario;
 import org.jbehave.core.annotations.BeforeStory;
+import org.jbehave.core.annotations.Composite;
+import org.jbehave.core.annotations.Given;
 import org.jbehave.core.annotations.Named;
 import org.jbehave.core.annotations.ScenarioType;
 import org.jbehave.core.annotations.Scope;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.embedder.MatchingStepMonitor;
 import org.jbehave.core.failures.PendingStepFound;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
@@ -58,8 +68,9 @@ class MarkUnmatchedStepsAsPendingBehaviour {
         Step executableStep = mock(Step.class);
 
         String stepAsString = "my step";
-        when(candidate.matches(stepAsString, null)).thenReturn(true);
-        when(candidate.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(executableStep);
+        when(candidate.match(eq(stepAsString), isNull(), any())).thenReturn(matchOf(stepAsString));
+        when(candidate.createMatchedStep(eq(stepAsString), eq(parameters), eq(emptyList()), any(), any()))
+                .thenReturn(executableStep);
 
         // When
         List<Step> executableSteps = stepCollector.collectScenarioSteps(singletonList(candidate),
@@ -80,10 +91,11 @@ class MarkUnmatchedStepsAsPendingBehaviour {
 
         String myStep = "my step";
         when(candidate.matches(myStep)).thenReturn(true);
-        when(candidate.createMatchedStep(myStep, parameters, emptyList())).thenReturn(step);
+        when(candidate.createMatchedStep(eq(myStep), eq(parameters), eq(emptyList()), any(), any())).thenReturn(step);
         String myAndStep = "And my step";
         when(andCandidate.matches(myAndStep)).thenReturn(true);
-        when(andCandidate.createMatchedStep(myAndStep, parameters, emptyList())).thenReturn(andStep);
+        when(andCandidate.createMatchedStep(eq(myAndStep), eq(parameters), eq(emptyList()), any(), any()))
+                .thenReturn(andStep);
 
         // When
         List<Step> executableSteps = stepCollector.collectScenarioSteps(asList(candidate, andCandidate),
@@ -104,18 +116,21 @@ class MarkUnmatchedStepsAsPendingBehaviour {
         Step failureStep = mock(Step.class, "failureStep");
 
         String myAnyStep = "my any step";
-        when(anyCandidate.matches(myAnyStep, null)).thenReturn(true);
-        when(anyCandidate.createMatchedStepUponOutcome(myAnyStep, parameters, emptyList(), Outcome.ANY))
+        when(anyCandidate.match(eq(myAnyStep), isNull(), any())).thenReturn(matchOf(myAnyStep));
+        when(anyCandidate.createMatchedStepUponOutcome(eq(myAnyStep), eq(parameters), eq(emptyList()), eq(Outcome.ANY),
+                any(), any()))
                 .thenReturn(anyStep);
         String mySuccessStep = "my success step";
-        when(successCandidate.matches(mySuccessStep, null)).thenReturn(true);
+        when(successCandidate.match(eq(mySuccessStep), isNull(), any())).thenReturn(matchOf(mySuccessStep));
         when(successCandidate
-                .createMatchedStepUponOutcome(mySuccessStep, parameters, emptyList(), Outcome.SUCCESS))
+                .createMatchedStepUponOutcome(eq(mySuccessStep), eq(parameters), eq(emptyList()), eq(Outcome.SUCCESS),
+                        any(), any()))
                 .thenReturn(successStep);
         String myFailureStep = "my failure step";
-        when(successCandidate.matches(myFailureStep, null)).thenReturn(true);
+        when(successCandidate.match(eq(myFailureStep), isNull(), any())).thenReturn(matchOf(myFailureStep));
         when(successCandidate
-                .createMatchedStepUponOutcome(myFailureStep, parameters, emptyList(), Outcome.FAILURE))
+                .createMatchedStepUponOutcome(eq(myFailureStep), eq(parameters), eq(emptyList()), eq(Outcome.FAILURE),
+                        any(), any()))
                 .thenReturn(failureStep);
 
         Lifecycle lifecycle = new Lifecycle(ExamplesTable.EMPTY, emptyList(),
@@ -146,18 +161,21 @@ class MarkUnmatchedStepsAsPendingBehaviour {
         Step failureStep = mock(Step.class, "failureStep");
 
         String myAnyStep = "my any step";
-        when(anyCandidate.matches(myAnyStep, null)).thenReturn(true);
-        when(anyCandidate.createMatchedStepUponOutcome(myAnyStep, parameters, emptyList(), Outcome.ANY))
+        when(anyCandidate.match(eq(myAnyStep), isNull(), any())).thenReturn(matchOf(myAnyStep));
+        when(anyCandidate.createMatchedStepUponOutcome(eq(myAnyStep), eq(parameters), eq(emptyList()), eq(Outcome.ANY),
+                any(), any()))
                 .thenReturn(anyStep);
         String mySuccessStep = "my success step";
-        when(successCandidate.matches(mySuccessStep, null)).thenReturn(true);
+        when(successCandidate.match(eq(mySuccessStep), isNull(), any())).thenReturn(matchOf(mySuccessStep));
         when(successCandidate
-                .createMatchedStepUponOutcome(mySuccessStep, parameters, emptyList(), Outcome.SUCCESS))
+                .createMatchedStepUponOutcome(eq(mySuccessStep), eq(parameters), eq(emptyList()), eq(Outcome.SUCCESS),
+                        any(), any()))
                 .thenReturn(successStep);
         String myFailureStep = "my failure step";
-        when(successCandidate.matches(myFailureStep, null)).thenReturn(true);
+        when(successCandidate.match(eq(myFailureStep), isNull(), any())).thenReturn(matchOf(myFailureStep));
         when(successCandidate
-                .createMatchedStepUponOutcome(myFailureStep, parameters, emptyList(), Outcome.FAILURE))
+                .createMatchedStepUponOutcome(eq(myFailureStep), eq(parameters), eq(emptyList()), eq(Outcome.FAILURE),
+                        any(), any()))
                 .thenReturn(failureStep);
 
         Scope scope = Scope.STORY;
@@ -190,18 +208,19 @@ class MarkUnmatchedStepsAsPendingBehaviour {
         Step executableComposite = mock(Step.class, "composite");
 
         String compositeAsText = "my composite step";
-        when(compositeCandidate.matches(compositeAsText, null)).thenReturn(true);
+        when(compositeCandidate.match(eq(compositeAsText), isNull(), any())).thenReturn(matchOf(compositeAsText));
         when(compositeCandidate.isComposite()).thenReturn(true);
-        when(compositeCandidate.createMatchedStep(compositeAsText, parameters, emptyList())).thenReturn(
-                executableComposite);
+        when(compositeCandidate.createMatchedStep(eq(compositeAsText), eq(parameters), eq(emptyList()), any(),
+                any())).thenReturn(executableComposite);
 
         // When
         stepCollector.collectScenarioSteps(asList(compositeCandidate, composedCandidate2, composedCandidate1),
                 createScenario(compositeAsText), parameters, stepMonitor);
 
         // Then
-        verify(compositeCandidate, times(1)).addComposedSteps(new ArrayList<>(), compositeAsText, parameters,
-                asList(compositeCandidate, composedCandidate1, composedCandidate2), null);
+        verify(compositeCandidate, times(1)).addComposedSteps(eq(new ArrayList<>()), eq(compositeAsText),
+                eq(parameters), eq(asList(compositeCandidate, composedCandidate1, composedCandidate2)), isNull(),
+                any(), eq(stepMonitor));
     }
 
     @Test
@@ -409,18 +428,22 @@ class MarkUnmatchedStepsAsPendingBehaviour {
 
         // all matching the same step string with different priorities
         String stepAsString = "Given a step";
-        when(candidate1.matches(stepAsString, null)).thenReturn(true);
-        when(candidate2.matches(stepAsString, null)).thenReturn(true);
-        when(candidate3.matches(stepAsString, null)).thenReturn(true);
-        when(candidate4.matches(stepAsString, null)).thenReturn(true);
+        when(candidate1.match(eq(stepAsString), isNull(), any())).thenReturn(matchOf(stepAsString));
+        when(candidate2.match(eq(stepAsString), isNull(), any())).thenReturn(matchOf(stepAsString));
+        when(candidate3.match(eq(stepAsString), isNull(), any())).thenReturn(matchOf(stepAsString));
+        when(candidate4.match(eq(stepAsString), isNull(), any())).thenReturn(matchOf(stepAsString));
         when(candidate1.getPriority()).thenReturn(1);
         when(candidate2.getPriority()).thenReturn(2);
         when(candidate3.getPriority()).thenReturn(3);
         when(candidate4.getPriority()).thenReturn(4);
-        when(candidate1.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step1);
-        when(candidate2.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step2);
-        when(candidate3.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step3);
-        when(candidate4.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step4);
+        when(candidate1.createMatchedStep(eq(stepAsString), eq(parameters), eq(emptyList()), any(), any()))
+                .thenReturn(step1);
+        when(candidate2.createMatchedStep(eq(stepAsString), eq(parameters), eq(emptyList()), any(), any()))
+                .thenReturn(step2);
+        when(candidate3.createMatchedStep(eq(stepAsString), eq(parameters), eq(emptyList()), any(), any()))
+                .thenReturn(step3);
+        when(candidate4.createMatchedStep(eq(stepAsString), eq(parameters), eq(emptyList()), any(), any()))
+                .thenReturn(step4);
 
         // When we collect the list of steps
         List<Step> steps = stepCollector.collectScenarioSteps(asList(candidate1, candidate2, candidate3, candidate4),
@@ -445,18 +468,22 @@ class MarkUnmatchedStepsAsPendingBehaviour {
 
         // all matching the same step string with different priorities
         String stepAsString = "Given a step";
-        when(candidate1.matches(stepAsString, null)).thenReturn(true);
-        when(candidate2.matches(stepAsString, null)).thenReturn(true);
-        when(candidate3.matches(stepAsString, null)).thenReturn(true);
-        when(candidate4.matches(stepAsString, null)).thenReturn(true);
+        when(candidate1.match(eq(stepAsString), isNull(), any())).thenReturn(matchOf(stepAsString));
+        when(candidate2.match(eq(stepAsString), isNull(), any())).thenReturn(matchOf(stepAsString));
+        when(candidate3.match(eq(stepAsString), isNull(), any())).thenReturn(matchOf(stepAsString));
+        when(candidate4.match(eq(stepAsString), isNull(), any())).thenReturn(matchOf(stepAsString));
         when(candidate1.getPatternAsString()).thenReturn("Given I do something");
         when(candidate2.getPatternAsString()).thenReturn("When I do something ");
         when(candidate3.getPatternAsString()).thenReturn("Then I do something");
         when(candidate4.getPatternAsString()).thenReturn("And I do something");
-        when(candidate1.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step1);
-        when(candidate2.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step2);
-        when(candidate3.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step3);
-        when(candidate4.createMatchedStep(stepAsString, parameters, emptyList())).thenReturn(step4);
+        when(candidate1.createMatchedStep(eq(stepAsString), eq(parameters), eq(emptyList()), any(), any()))
+                .thenReturn(step1);
+        when(candidate2.createMatchedStep(eq(stepAsString), eq(parameters), eq(emptyList()), any(), any()))
+                .thenReturn(step2);
+        when(candidate3.createMatchedStep(eq(stepAsString), eq(parameters), eq(emptyList()), any(), any()))
+                .thenReturn(step3);
+        when(candidate4.createMatchedStep(eq(stepAsString), eq(parameters), eq(emptyList()), any(), any()))
+                .thenReturn(step4);
 
         StepCollector stepCollector = new MarkUnmatchedStepsAsPending(new StepFinder(new ByLevenshteinDistance()));
         List<Step> steps = stepCollector.collectScenarioSteps(asList(candidate1, candidate2, candidate3, candidate4),
@@ -466,6 +493,104 @@ class MarkUnmatchedStepsAsPendingBehaviour {
         assertThat(step4, equalTo(steps.get(0)));
     }
 
+    @Test
+    void shouldReuseCandidatesResolvedForRepeatedStepsViaCache() {
+        // Given
+        StepCandidate candidate = mock(StepCandidate.class);
+        Step executableStep = mock(Step.class);
+        StepFinder stepFinder = mock(StepFinder.class);
+        StepMonitor monitor = mock(StepMonitor.class);
+        StepCandidateCache cache = new StepCandidateCache();
+
+        String stepAsString = "Given my step";
+        String unmatchedStepAsString = "Given my unmatched step";
+        when(stepFinder.prioritise(eq(stepAsString), anyList())).thenReturn(singletonList(candidate));
+        when(stepFinder.prioritise(eq(unmatchedStepAsString), anyList())).thenReturn(singletonList(candidate));
+        CapturedMatch match = matchOf(stepAsString);
+        when(candidate.match(eq(stepAsString), any(), eq(monitor))).thenReturn(match);
+        when(candidate.createMatchedStep(stepAsString, parameters, emptyList(), match, monitor))
+                .thenReturn(executableStep);
+
+        // When
+        StepCollector stepCollector = new MarkUnmatchedStepsAsPending(stepFinder);
+        List<StepCandidate> stepCandidates = new IndexedStepCandidates(singletonList(candidate)).withCache(cache);
+        List<Step> executableSteps = stepCollector.collectScenarioSteps(stepCandidates,
+                createScenario(stepAsString, unmatchedStepAsString, stepAsString, unmatchedStepAsString), parameters,
+                monitor);
+
+        // Then
+        assertThat(executableSteps.size(), equalTo(4));
+        assertThat(executableSteps.get(0), equalTo(executableStep));
+        assertThat(executableSteps.get(1), instanceOf(PendingStep.class));
+        assertThat(executableSteps.get(2), equalTo(executableStep));
+        assertThat(executableSteps.get(3), instanceOf(PendingStep.class));
+        verify(stepFinder, times(1)).prioritise(eq(stepAsString), anyList());
+        verify(stepFinder, times(1)).prioritise(eq(unmatchedStepAsString), anyList());
+        verify(candidate, times(1)).match(eq(stepAsString), any(), eq(monitor));
+        verify(candidate, times(1)).reuseMatch(eq(stepAsString), any(), eq(monitor));
+        verify(candidate, times(1)).match(eq(unmatchedStepAsString), any(), eq(monitor));
+        verify(monitor).stepCandidateCacheLookup(stepAsString, false, 0, 1);
+        verify(monitor).stepCandidateCacheLookup(unmatchedStepAsString, false, 0, 2);
+        verify(monitor).stepCandidateCacheLookup(stepAsString, true, 1, 2);
+        verify(monitor).stepCandidateCacheLookup(unmatchedStepAsString, true, 2, 2);
+        assertThat(cache.size(), equalTo(2));
+    }
+
+    @Test
+    void shouldCreateIgnorableStepsAndCommentsWithoutTryingIndexedCandidates() {
+        // Given
+        StepFinder stepFinder = mock(StepFinder.class);
+        List<StepCandidate> stepCandidates = new IndexedStepCandidates(new InstanceStepsFactory(
+                new MostUsefulConfiguration(), new IndexedStepCandidatesBehaviour.IndexedSteps())
+                .createCandidateSteps().get(0).listCandidates());
+
+        // When
+        StepCollector stepCollector = new MarkUnmatchedStepsAsPending(stepFinder);
+        List<Step> executableSteps = stepCollector.collectScenarioSteps(stepCandidates,
+                createScenario("!-- Given a user named Bob", "!-- a comment"), parameters, new SilentStepMonitor());
+
+        // Then
+        assertThat(executableSteps.get(0).perform(mock(StoryReporter.class), null), instanceOf(Ignorable.class));
+        assertThat(executableSteps.get(1).perform(mock(StoryReporter.class), null), instanceOf(Comment.class));
+        verifyNoInteractions(stepFinder);
+    }
+
+    @Test
+    void shouldPrioritiseOnlyIndexedCandidatesWhichCanMatchComposedSteps() {
+        // Given
+        List<Integer> prioritisedSizes = new ArrayList<>();
+        StepFinder stepFinder = new StepFinder(new StepFinder.ByPriorityField() {
+            @Override
+            public List<StepCandidate> prioritise(String stepAsText, List<StepCandidate> candidates) {
+                prioritisedSizes.add(candidates.size());
+                return super.prioritise(stepAsText, candidates);
+            }
+        });
+        CompositeSteps steps = new CompositeSteps();
+        IndexedStepCandidates stepCandidates = new IndexedStepCandidates(new InstanceStepsFactory(
+                new MostUsefulConfiguration(), steps).createCandidateSteps().get(0).listCandidates());
+        StepCollector stepCollector = new MarkUnmatchedStepsAsPending(stepFinder);
+
+        for (boolean planned : asList(false, true)) {
+            if (planned) {
+                stepCandidates.forEach(candidate -> candidate.planComposedSteps(stepCandidates));
+            }
+            prioritisedSizes.clear();
+            steps.performed.clear();
+
+            // When
+            List<Step> executableSteps = stepCollector.collectScenarioSteps(stepCandidates,
+                    createScenario("When I log in as Bob"), parameters, new SilentStepMonitor());
+            for (Step composedStep : executableSteps.get(0).getComposedSteps()) {
+                composedStep.perform(mock(StoryReporter.class), null);
+            }
+
+            // Then
+            assertThat(steps.performed, equalTo(asList("user named Bob", "logs in")));
+            assertThat(prioritisedSizes.stream().allMatch(size -> size < stepCandidates.size()), equalTo(true));
+        }
+    }
+
     @Test
     void afterScenarioStepsShouldBeInReverseOrder() {
         List<CandidateSteps> steps = new ArrayList<>();
@@ -589,6 +714,10 @@ class MarkUnmatchedStepsAsPendingBehaviour {
         verify(storyReporter).beforeStep(step(StepExecutionType.EXECUTABLE, "afterStory"));
     }
 
+    private static CapturedMatch matchOf(String stepAsString) {
+        return CapturedMatch.of(stepAsString, new String[0]);
+    }
+
     private Scenario createScenario(String... stepsAsStrings) {
         return new Scenario(asList(stepsAsStrings));
     }
@@ -670,6 +799,40 @@ class MarkUnmatchedStepsAsPendingBehaviour {
         }
     }
 
+    public static class CompositeSteps {
+        private final List<String> performed = new ArrayList<>();
+
+        @When("I log in as $name")
+        @Composite(steps = { "Given a user named <name>", "When the user logs in" })
+        public void logInAs(@Named("name") String name) {
+            performed.add("log in as " + name);
+        }
+
+        @Given("$anything")
+        public void givenAnything(String anything) {
+            performed.add("anything");
+        }
+
+        @Given(value = "a user $description", priority = 1)
+        public void givenUser(String description) {
+            performed.add("user " + description);
+        }
+
+        @Given(value = "a user named $name", priority = 2)
+        public void givenUserNamed(String name) {
+            performed.add("user named " + name);
+        }
+
+        @When("the user logs in")
+        public void whenUserLogsIn() {
+            performed.add("logs in");
+        }
+
+        @Then("the user is logged in")
+        public void thenUserLoggedIn() {
+        }
+    }
+
     public static class BeforeOrAfterStoryWithParameterAndExceptionSteps extends Steps {
         private String value;
         private UUIDExceptionWrapper exception;
@@ -19,10 +19,13 @@ import static org.jbehave.core.steps.StepType.WHEN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -60,6 +63,7 @@ import org.jbehave.core.model.ExamplesTable;
 import org.jbehave.core.model.OutcomesTable;
 import org.jbehave.core.model.OutcomesTable.OutcomesFailed;
 import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
+import org.jbehave.core.parsers.StepMatcher;
 import org.jbehave.core.parsers.StepPatternParser;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.AbstractStepResult.NotPerformed;
@@ -250,6 +254,29 @@ class StepCandidateBehaviour {
                 "Then I live on the " + PARAMETER_VALUE_START + "1st" + PARAMETER_VALUE_END + " floor");
     }
     
+    @Test
+    void shouldReuseGroupsCapturedWhenMatchingToParametriseMatchedStep() throws Exception {
+        SomeSteps someSteps = new SomeSteps();
+        Method method = SomeSteps.class.getMethod("methodWith", String.class);
+        MostUsefulConfiguration configuration = new MostUsefulConfiguration();
+        InjectableStepsFactory stepsFactory = new InstanceStepsFactory(configuration, someSteps);
+        StepMatcher stepMatcher = spy(new RegexPrefixCapturingPatternParser().parseStep(THEN,
+                "I live on the $nth floor"));
+        StepCreator stepCreator = new StepCreator(SomeSteps.class, stepsFactory, configuration.stepsContext(),
+                configuration.parameterConverters(), configuration.expressionResolver(), new ParameterControls(),
+                stepMatcher, configuration.stepMonitor(), configuration.dryRun());
+        StepCandidate candidate = new StepCandidate("I live on the $nth floor", 0, THEN, method, SomeSteps.class,
+                stepsFactory, keywords, stepMatcher, "$", stepCreator, null, configuration.stepMonitor());
+        String stepAsString = "Then I live on the 1st floor";
+        assertThat(candidate.matches(stepAsString), is(true));
+        Step step = candidate.createMatchedStep(stepAsString, namedParameters, emptyList());
+        step.perform(mock(StoryReporter.class), null);
+        assertThat(step.asString(keywords),
+                equalTo("Then I live on the " + PARAMETER_VALUE_START + "1st" + PARAMETER_VALUE_END + " floor"));
+        assertThat(someSteps.args, equalTo("1st"));
+        verify(stepMatcher, times(1)).matcher(anyString());
+    }
+
     @Test
     void shouldConvertStringParameterValueToUseSystemNewline() throws Exception {
         String windowsNewline = "\r\n";
@@ -0,0 +1,50 @@
+package org.jbehave.core.steps;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+
+class StepCandidateCacheBehaviour {
+
+    @Test
+    void shouldCacheResolutionsOfStepsByPreviousStepType() {
+        StepCandidateCache cache = new StepCandidateCache();
+        StepCandidate candidate = mock(StepCandidate.class);
+        cache.put("Given a step", null, candidate, null);
+        cache.put("And a step", StepType.GIVEN, null, null);
+
+        assertThat(cache.get("Given a step", null).getCandidate(), equalTo(candidate));
+        assertThat(cache.get("And a step", StepType.GIVEN).isMatched(), is(false));
+        assertThat(cache.get("And a step", StepType.WHEN), nullValue());
+        assertThat(cache.hits(), equalTo(2L));
+        assertThat(cache.misses(), equalTo(1L));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedResolutions() {
+        StepCandidateCache cache = new StepCandidateCache(2);
+        cache.put("Given a", null, null, null);
+        cache.put("Given b", null, null, null);
+        cache.get("Given a", null);
+        cache.put("Given c", null, null, null);
+
+        assertThat(cache.size(), equalTo(2));
+        assertThat(cache.get("Given a", null), notNullValue());
+        assertThat(cache.get("Given b", null), nullValue());
+        assertThat(cache.get("Given c", null), notNullValue());
+    }
+
+    @Test
+    void shouldNotCacheIfMaxSizeIsNotPositive() {
+        StepCandidateCache cache = new StepCandidateCache(0);
+        cache.put("Given a", null, null, null);
+
+        assertThat(cache.size(), equalTo(0));
+        assertThat(cache.get("Given a", null), nullValue());
+    }
+}
@@ -139,10 +139,11 @@ class StepCreatorBehaviour {
 
         // When
         when(stepMatcher.parameterNames()).thenReturn(new String[] {});
-        Matcher matcher = Pattern.compile("foo").matcher("bar");
+        when(stepMatcher.matcher("bar")).thenReturn(Pattern.compile("foo").matcher("bar"));
+        CapturedMatch match = CapturedMatch.find(stepMatcher, "bar");
 
         // Then .. fail as expected
-        assertThrows(ParameterNotFound.class, () -> stepCreator.matchedParameter(matcher, "unknown"));
+        assertThrows(ParameterNotFound.class, () -> stepCreator.matchedParameter(match, "unknown"));
     }
 
     static Stream<BiFunction<Step, StoryReporter, StepResult>> executors() {
@@ -1,19 +1,25 @@
 package org.jbehave.core.steps;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.jbehave.core.steps.StepType.GIVEN;
 import static org.jbehave.core.steps.StepType.THEN;
 import static org.jbehave.core.steps.StepType.WHEN;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.jbehave.core.annotations.Given;
 import org.jbehave.core.annotations.Then;
 import org.jbehave.core.annotations.When;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.StepFinder.ByLevenshteinDistance;
 import org.junit.jupiter.api.Test;
 
 class StepFinderBehaviour {
@@ -46,6 +52,63 @@ class StepFinderBehaviour {
                 mySteps);
     }
 
+    @Test
+    void shouldPrioritiseCandidatesByLevenshteinDistanceThenByPriority() {
+        StepCandidate exact = candidate("a house with $doors doors", 0);
+        StepCandidate close = candidate("a house with $doors door", 0);
+        StepCandidate closeWithPriority = candidate("a house with $doors door", 1);
+        StepCandidate far = candidate("a completely different step, much longer than the step itself", 2);
+        StepCandidate empty = candidate("", 3);
+        List<StepCandidate> candidates = new ArrayList<>(asList(far, empty, close, exact, closeWithPriority));
+
+        List<StepCandidate> prioritised = new StepFinder(new ByLevenshteinDistance()).prioritise(
+                "Given a house with doors", candidates);
+
+        assertThat(prioritised, equalTo(asList(exact, closeWithPriority, close, empty, far)));
+    }
+
+    @Test
+    void shouldPrioritiseCandidatesByExactLevenshteinDistances() {
+        String step = "Given the user has bought 3 items in the shop";
+        List<String> patterns = asList("the user has bought $n items in the shop", "the user has $n items",
+                "the customer has bought $n items", "a step with nothing in common", "shop", "x", "",
+                "the user has bought $n items in the shop and left", "hte usre has bougth items ni teh shpo");
+        List<StepCandidate> candidates = new ArrayList<>();
+        for (String pattern : patterns) {
+            candidates.add(candidate(pattern, 0));
+        }
+
+        List<StepCandidate> prioritised = new StepFinder(new ByLevenshteinDistance()).prioritise(step,
+                new ArrayList<>(candidates));
+
+        List<StepCandidate> expected = new ArrayList<>(candidates);
+        expected.sort(Comparator.comparingInt(c -> distance(
+                c.getPatternAsString().replaceAll("\\s\\$\\w+\\s", " "), "the user has bought 3 items in the shop")));
+        assertThat(prioritised, equalTo(expected));
+    }
+
+    private static StepCandidate candidate(String pattern, int priority) {
+        StepCandidate candidate = mock(StepCandidate.class);
+        when(candidate.getPatternAsString()).thenReturn(pattern);
+        when(candidate.getPriority()).thenReturn(priority);
+        return candidate;
+    }
+
+    private static int distance(String s, String t) {
+        int[][] d = new int[s.length() + 1][t.length() + 1];
+        for (int i = 0; i <= s.length(); i++) {
+            for (int j = 0; j <= t.length(); j++) {
+                if (i == 0 || j == 0) {
+                    d[i][j] = i + j;
+                } else {
+                    int cost = s.charAt(i - 1) == t.charAt(j - 1) ? 0 : 1;
+                    d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                }
+            }
+        }
+        return d[s.length()][t.length()];
+    }
+
     private void assertThatStepdocIs(Stepdoc stepdoc, String methodName, String methodSignature, String pattern,
             String startingWord, StepType stepType, Object stepsInstance) {
         assertThat(stepdoc.getMethod().getName(), equalTo(methodName));
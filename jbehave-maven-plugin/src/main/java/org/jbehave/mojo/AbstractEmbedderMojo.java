@@ -142,6 +142,38 @@ public abstract class AbstractEmbedderMojo extends AbstractMojo {
     @Parameter(defaultValue = "1")
     int threads = 1;
 
+    /**
+     * The boolean flag to run again only the stories which failed or were pending in the previous runs
+     */
+    @Parameter(defaultValue = "false")
+    boolean rerunFailedStories = false;
+
+    /**
+     * The index of the shard of stories to run, from 0 to shardCount - 1
+     */
+    @Parameter(defaultValue = "0")
+    int shardIndex = 0;
+
+    /**
+     * The number of shards the stories are split into, balanced by the durations in shardDurations
+     */
+    @Parameter(defaultValue = "1")
+    int shardCount = 1;
+
+    /**
+     * The path of the story durations file the shards are balanced by, which is only read and must be the same for
+     * every shard. If not set, the shards are balanced by the default story duration only.
+     */
+    @Parameter
+    String shardDurations;
+
+    /**
+     * The number of worker JVMs running the stories, 0 to run them in the JVM of the build. The system properties
+     * and the controls are passed to the workers, apart from rerunFailedStories, which is not supported when forking.
+     */
+    @Parameter(defaultValue = "0")
+    int forks = 0;
+
     /**
      * The embedder class
      */
@@ -295,6 +327,7 @@ public abstract class AbstractEmbedderMojo extends AbstractMojo {
         }
 
         embedder.useClassLoader(classLoader);
+        embedder.useForkedEmbedderClass(injectableEmbedderClass != null ? injectableEmbedderClass : embedderClass);
         embedder.useEmbedderControls(embedderControls());
         if (executorsClass != null) {
             ExecutorServiceFactory executorServiceFactory = classLoader.newInstance(ExecutorServiceFactory.class,
@@ -326,10 +359,15 @@ public abstract class AbstractEmbedderMojo extends AbstractMojo {
                 .doGenerateViewAfterStories(generateViewAfterStories).doIgnoreFailureInStories(ignoreFailureInStories)
                 .doIgnoreFailureInView(ignoreFailureInView).doVerboseFailures(verboseFailures)
                 .doVerboseFiltering(verboseFiltering)
-                .doFailOnStoryTimeout(failOnStoryTimeout).useThreads(threads);
+                .doFailOnStoryTimeout(failOnStoryTimeout).useThreads(threads)
+                .doRerunFailedStories(rerunFailedStories).useShardIndex(shardIndex).useShardCount(shardCount)
+                .useForks(forks);
         if (storyTimeouts != null) {
             embedderControls.useStoryTimeouts(storyTimeouts);
         }        
+        if (shardDurations != null) {
+            embedderControls.useShardDurations(shardDurations);
+        }
         return new UnmodifiableEmbedderControls(embedderControls);
     }
 
@@ -440,6 +478,11 @@ public abstract class AbstractEmbedderMojo extends AbstractMojo {
             }
         }
 
+        @Override
+        public void mergingReports(List<File> outputDirectories, File mergedDirectory) {
+            getLog().info("Merging reports of '" + outputDirectories + "' to '" + mergedDirectory + "'");
+        }
+
         @Override
         public void reportsViewFailures(ReportsCount count) {
             getLog().warn("Failures in reports view: " + count.getScenariosFailed() + " scenarios failed");
@@ -507,6 +550,21 @@ public abstract class AbstractEmbedderMojo extends AbstractMojo {
             getLog().info("Using timeout for story " + path + " of " + timeout + " secs.");
         }
 
+        @Override
+        public void storiesMakespan(long makespanInMillis, long idealMakespanInMillis) {
+            getLog().info("Stories run in " + makespanInMillis + " ms, ideally in " + idealMakespanInMillis + " ms");
+        }
+
+        @Override
+        public void storiesUnchanged(List<String> storyPaths) {
+            getLog().info("Skipped stories unchanged since their last successful run " + storyPaths);
+        }
+
+        @Override
+        public void storiesSharded(int shardIndex, int shardCount, List<String> storyPaths) {
+            getLog().info("Running shard " + shardIndex + " of " + shardCount + " with stories " + storyPaths);
+        }
+
         @Override
         public String toString() {
             return this.getClass().getSimpleName();
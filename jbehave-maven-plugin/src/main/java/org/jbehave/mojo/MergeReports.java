@@ -0,0 +1,36 @@
+package org.jbehave.mojo;
+
+import java.io.File;
+import java.util.Arrays;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.jbehave.core.embedder.Embedder;
+
+/**
+ * Mojo to merge the reports of stories run separately, e.g. by several JVMs or in several shards, into the output
+ * directory of the configured story reporter builder and to generate the stories view of all the stories.
+ */
+@Mojo(name = "merge-reports", requiresDependencyResolution = ResolutionScope.TEST)
+public class MergeReports extends AbstractEmbedderMojo {
+
+    /**
+     * The output directories of the reports to merge
+     */
+    @Parameter(required = true)
+    File[] outputDirectories;
+
+    @Override
+    public void execute() throws MojoFailureException {
+        Embedder embedder = newEmbedder();
+        getLog().info("Merging reports of " + Arrays.toString(outputDirectories) + " using embedder " + embedder);
+        try {
+            embedder.mergeReports(Arrays.asList(outputDirectories));
+        } catch (RuntimeException e) {
+            throw new MojoFailureException("Failed to merge reports", e);
+        }
+    }
+
+}
@@ -87,6 +87,11 @@ public class EmbedderMojoBehaviour {
         mojo.storyTimeouts = "**/longs/BddTest2Long.feature:7";
         mojo.failOnStoryTimeout = true;
         mojo.threads = 2;
+        mojo.rerunFailedStories = true;
+        mojo.shardIndex = 1;
+        mojo.shardCount = 3;
+        mojo.shardDurations = "src/test/resources/shardDurations.props";
+        mojo.forks = 2;
         Embedder embedder = mojo.newEmbedder();
         // Then
         EmbedderControls embedderControls = embedder.embedderControls();
@@ -97,6 +102,11 @@ public class EmbedderMojoBehaviour {
         assertThat(embedderControls.skip(), is(true));
         assertThat(embedderControls.storyTimeouts(), is("**/longs/BddTest2Long.feature:7"));
         assertThat(embedderControls.threads(), is(2));
+        assertThat(embedderControls.rerunFailedStories(), is(true));
+        assertThat(embedderControls.shardIndex(), is(1));
+        assertThat(embedderControls.shardCount(), is(3));
+        assertThat(embedderControls.shardDurations(), is("src/test/resources/shardDurations.props"));
+        assertThat(embedderControls.forks(), is(2));
     }
 
     @Test
@@ -290,6 +300,7 @@ public class EmbedderMojoBehaviour {
         Embedder embedder = mojo.newEmbedder();
         // Then
         assertThat(embedder.getClass().getName(), equalTo(MyEmbedder.class.getName()));
+        assertThat(embedder.forkedEmbedderClass(), equalTo(MyEmbedder.class.getName()));
     }
 
     public static class MyEmbedder extends Embedder {
@@ -309,6 +320,7 @@ public class EmbedderMojoBehaviour {
         Embedder embedder = mojo.newEmbedder();
         // Then
         assertThat(embedder.getClass().getName(), equalTo(MyEmbedder.class.getName()));
+        assertThat(embedder.forkedEmbedderClass(), equalTo(MyInjectableEmbedder.class.getName()));
     }
 
     public static class MyInjectableEmbedder extends InjectableEmbedder {
@@ -494,6 +506,27 @@ public class EmbedderMojoBehaviour {
         verify(embedder).generateReportsView();
     }
 
+    @Test
+    void shouldMergeReports() throws MojoFailureException {
+        // Given
+        Embedder embedder = mock(Embedder.class);
+
+        MergeReports mojo = new MergeReports() {
+            @Override
+            protected Embedder newEmbedder() {
+                return embedder;
+            }
+
+        };
+        File[] outputDirectories = { new File("target/shard-0"), new File("target/shard-1") };
+        mojo.outputDirectories = outputDirectories;
+        // When
+        mojo.execute();
+
+        // Then
+        verify(embedder).mergeReports(asList(outputDirectories));
+    }
+
     @Test
     void shouldReportStepdocs() throws MojoFailureException {
         // Given